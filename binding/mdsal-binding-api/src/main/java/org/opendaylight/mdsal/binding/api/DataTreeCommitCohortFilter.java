@@ -0,0 +1,163 @@
+/*
+ * Copyright (c) 2017 Pantheon Technologies, s.r.o. and others.  All rights reserved.
+ *
+ * This program and the accompanying materials are made available under the
+ * terms of the Eclipse Public License v1.0 which accompanies this distribution,
+ * and is available at http://www.eclipse.org/legal/epl-v10.html
+ */
+package org.opendaylight.mdsal.binding.api;
+
+import com.google.common.annotations.Beta;
+import com.google.common.base.MoreObjects;
+import com.google.common.base.Preconditions;
+import com.google.common.collect.ImmutableSet;
+import java.util.EnumSet;
+import java.util.Set;
+import javax.annotation.Nonnull;
+import org.opendaylight.mdsal.binding.api.DataObjectModification.ModificationType;
+import org.opendaylight.yangtools.concepts.Immutable;
+import org.opendaylight.yangtools.yang.binding.DataObject;
+import org.opendaylight.yangtools.yang.binding.Identifiable;
+import org.opendaylight.yangtools.yang.binding.Identifier;
+import org.opendaylight.yangtools.yang.binding.InstanceIdentifier.IdentifiableItem;
+import org.opendaylight.yangtools.yang.binding.InstanceIdentifier.Item;
+import org.opendaylight.yangtools.yang.binding.InstanceIdentifier.PathArgument;
+
+/**
+ * Registration-time filter of modifications a {@link DataTreeCommitCohort} is interested in. A cohort registered
+ * with a filter is invoked only for modifications which match it, and is considered to have approved all others.
+ * Since a filter is declarative, implementations can evaluate it before translating the modification into its
+ * binding representation, so that non-matching commits incur no binding overhead.
+ *
+ * <p>
+ * A modification matches a filter if all of the following hold:
+ * <ul>
+ *   <li>its type is one of the modification types of interest, or no types of interest have been specified</li>
+ *   <li>at least one of the children of interest has been modified, or no children of interest have been
+ *       specified</li>
+ * </ul>
+ * Children of interest are direct children of the subtree root. They can be specified either by type, in which
+ * case any modification of the child, including any entry of a list child, matches, or as a specific entry
+ * of a keyed list.
+ */
+@Beta
+public final class DataTreeCommitCohortFilter implements Immutable {
+    private final Set<ModificationType> modificationTypes;
+    private final Set<PathArgument> children;
+
+    private DataTreeCommitCohortFilter(final Builder builder) {
+        this.modificationTypes = ImmutableSet.copyOf(builder.modificationTypes);
+        this.children = builder.children.build();
+    }
+
+    public static Builder builder() {
+        return new Builder();
+    }
+
+    /**
+     * Return modification types of interest.
+     *
+     * @return Modification types of interest, empty if all types are of interest
+     */
+    @Nonnull
+    public Set<ModificationType> getModificationTypes() {
+        return modificationTypes;
+    }
+
+    /**
+     * Return children of interest. Each child is represented either by an {@link Item}, matching any modification
+     * of that type, or by an {@link IdentifiableItem}, matching only a particular list entry.
+     *
+     * @return Children of interest, empty if all modifications are of interest
+     */
+    @Nonnull
+    public Set<PathArgument> getChildren() {
+        return children;
+    }
+
+    /**
+     * Check whether a binding modification matches this filter.
+     *
+     * @param modification Modification of the subtree root
+     * @return True if the modification matches this filter, false otherwise
+     */
+    public boolean matches(@Nonnull final DataObjectModification<?> modification) {
+        if (!modificationTypes.isEmpty() && !modificationTypes.contains(modification.getModificationType())) {
+            return false;
+        }
+        if (children.isEmpty()) {
+            return true;
+        }
+
+        for (DataObjectModification<?> child : modification.getModifiedChildren()) {
+            if (isChildOfInterest(child.getIdentifier())) {
+                return true;
+            }
+        }
+        return false;
+    }
+
+    private boolean isChildOfInterest(final PathArgument arg) {
+        for (PathArgument child : children) {
+            if (child instanceof IdentifiableItem ? child.equals(arg) : child.getType().equals(arg.getType())) {
+                return true;
+            }
+        }
+        return false;
+    }
+
+    @Override
+    public String toString() {
+        return MoreObjects.toStringHelper(this).add("modificationTypes", modificationTypes)
+                .add("children", children).toString();
+    }
+
+    public static final class Builder {
+        private final Set<ModificationType> modificationTypes = EnumSet.noneOf(ModificationType.class);
+        private final ImmutableSet.Builder<PathArgument> children = ImmutableSet.builder();
+
+        Builder() {
+            // Hidden on purpose
+        }
+
+        /**
+         * Add a modification type of interest.
+         *
+         * @param type Modification type
+         * @return This builder
+         */
+        public Builder addModificationType(@Nonnull final ModificationType type) {
+            modificationTypes.add(Preconditions.checkNotNull(type));
+            return this;
+        }
+
+        /**
+         * Add a child of interest. Any modification of the child matches, including a modification of any entry
+         * if the child is a list.
+         *
+         * @param type Child type
+         * @return This builder
+         */
+        public <C extends DataObject> Builder addChild(@Nonnull final Class<C> type) {
+            children.add(new Item<>(Preconditions.checkNotNull(type)));
+            return this;
+        }
+
+        /**
+         * Add a keyed list entry of interest.
+         *
+         * @param type List type
+         * @param key Entry key
+         * @return This builder
+         */
+        public <N extends Identifiable<K> & DataObject, K extends Identifier<N>> Builder addChildEntry(
+                @Nonnull final Class<N> type, @Nonnull final K key) {
+            children.add(new IdentifiableItem<>(Preconditions.checkNotNull(type), Preconditions.checkNotNull(key)));
+            return this;
+        }
+
+        public DataTreeCommitCohortFilter build() {
+            return new DataTreeCommitCohortFilter(this);
+        }
+    }
+}
@@ -8,6 +8,8 @@
 
 package org.opendaylight.mdsal.binding.api;
 
+import com.google.common.annotations.Beta;
+import org.opendaylight.mdsal.common.api.PostCanCommitStep;
 import org.opendaylight.yangtools.concepts.ObjectRegistration;
 import org.opendaylight.yangtools.yang.binding.DataObject;
 
@@ -33,4 +35,39 @@ public interface DataTreeCommitCohortRegistry {
     <D extends DataObject, T extends DataTreeCommitCohort<D>> ObjectRegistration<T> registerCommitCohort(
             DataTreeIdentifier<D> subtree, T cohort);
 
+    /**
+     * Register commit cohort which will participate in three-phase commit protocols of write
+     * transaction in data broker associated with this instance of extension, but only for modifications
+     * matching specified filter. Modifications which do not match the filter are considered to be approved
+     * by the cohort, without it being invoked.
+     *
+     * <p>
+     * The default implementation evaluates the filter on the binding representation of each modification.
+     * Implementations are encouraged to evaluate it before the modification is translated.
+     *
+     * @param subtree Subtree path on which commit cohort operates.
+     * @param filter Filter of modifications of interest
+     * @param cohort Commit cohort
+     * @return Registaration object for DOM Data Three Commit cohort.
+     */
+    @Beta
+    default <D extends DataObject, T extends DataTreeCommitCohort<D>> ObjectRegistration<T> registerCommitCohort(
+            final DataTreeIdentifier<D> subtree, final DataTreeCommitCohortFilter filter, final T cohort) {
+        final ObjectRegistration<DataTreeCommitCohort<D>> reg = registerCommitCohort(subtree,
+            (DataTreeCommitCohort<D>) (txId, modification) -> filter.matches(modification.getRootNode())
+                ? cohort.canCommit(txId, modification) : PostCanCommitStep.NOOP_SUCCESS_FUTURE);
+
+        return new ObjectRegistration<T>() {
+            @Override
+            public T getInstance() {
+                return cohort;
+            }
+
+            @Override
+            public void close() throws Exception {
+                reg.close();
+            }
+        };
+    }
+
 }
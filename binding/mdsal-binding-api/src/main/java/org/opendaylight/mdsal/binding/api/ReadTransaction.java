@@ -9,6 +9,8 @@ package org.opendaylight.mdsal.binding.api;
 
 import com.google.common.base.Optional;
 import com.google.common.util.concurrent.CheckedFuture;
+import java.util.Collection;
+import java.util.Map;
 import org.opendaylight.mdsal.common.api.AsyncReadTransaction;
 import org.opendaylight.mdsal.common.api.LogicalDatastoreType;
 import org.opendaylight.mdsal.common.api.ReadFailedException;
@@ -50,4 +52,27 @@ public interface ReadTransaction extends AsyncReadTransaction<InstanceIdentifier
      */
     <T extends DataObject> CheckedFuture<Optional<T>,ReadFailedException> read(
             LogicalDatastoreType store, InstanceIdentifier<T> path);
+
+    /**
+     * Reads data from the provided logical data store located at each of the provided paths. This is semantically
+     * equivalent to invoking {@link #read(LogicalDatastoreType, InstanceIdentifier)} for each path, but allows
+     * implementations to translate and resolve all paths in one operation, with a single future completing once all
+     * of them have been read.
+     *
+     * <p>
+     * The default implementation issues individual reads and aggregates their results.
+     *
+     * @param store
+     *            Logical data store from which read should occur.
+     * @param paths
+     *            Paths which uniquely identify subtrees which client want to
+     *            read
+     * @return a CheckFuture containing a map of each requested path to the result of its read, in iteration order
+     *         of paths. If the read of any path fails, the Future will fail with a {@link ReadFailedException}
+     *         or an exception derived from ReadFailedException.
+     */
+    default <T extends DataObject> CheckedFuture<Map<InstanceIdentifier<T>, Optional<T>>, ReadFailedException>
+            readAll(final LogicalDatastoreType store, final Collection<InstanceIdentifier<T>> paths) {
+        return ReadAllSupport.readAll(paths, path -> read(store, path));
+    }
 }
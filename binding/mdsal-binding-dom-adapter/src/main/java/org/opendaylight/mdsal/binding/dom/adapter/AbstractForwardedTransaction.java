@@ -7,10 +7,16 @@
  */
 package org.opendaylight.mdsal.binding.dom.adapter;
 
+import com.google.common.base.Function;
 import com.google.common.base.Optional;
 import com.google.common.base.Preconditions;
+import com.google.common.collect.ImmutableMap;
 import com.google.common.util.concurrent.CheckedFuture;
 import com.google.common.util.concurrent.Futures;
+import java.util.Collection;
+import java.util.LinkedHashMap;
+import java.util.Map;
+import java.util.Map.Entry;
 import org.opendaylight.mdsal.common.api.AsyncTransaction;
 import org.opendaylight.mdsal.common.api.LogicalDatastoreType;
 import org.opendaylight.mdsal.common.api.ReadFailedException;
@@ -66,4 +72,27 @@ abstract class AbstractForwardedTransaction<T extends AsyncTransaction<YangInsta
                                       codec.deserializeFunction(path)),
                     ReadFailedException.MAPPER);
     }
+
+    protected final <D extends DataObject> CheckedFuture<Map<InstanceIdentifier<D>, Optional<D>>, ReadFailedException>
+            doReadAll(final DOMDataTreeReadTransaction readTx, final LogicalDatastoreType store,
+                final Collection<InstanceIdentifier<D>> paths) {
+        // Translate all paths up front, so the delegate can resolve them in a single operation
+        final Map<YangInstanceIdentifier, InstanceIdentifier<D>> domPaths = new LinkedHashMap<>();
+        for (InstanceIdentifier<D> path : paths) {
+            Preconditions.checkArgument(!path.isWildcarded(), "Invalid read of wildcarded path %s", path);
+            domPaths.put(codec.toYangInstanceIdentifierBlocking(path), path);
+        }
+
+        final Function<Map<YangInstanceIdentifier, Optional<NormalizedNode<?, ?>>>,
+                Map<InstanceIdentifier<D>, Optional<D>>> fromDom = results -> {
+            final ImmutableMap.Builder<InstanceIdentifier<D>, Optional<D>> builder = ImmutableMap.builder();
+            for (Entry<YangInstanceIdentifier, InstanceIdentifier<D>> e : domPaths.entrySet()) {
+                builder.put(e.getValue(), codec.deserializeFunction(e.getValue()).apply(results.get(e.getKey())));
+            }
+            return builder.build();
+        };
+
+        return MappingCheckedFuture.create(Futures.transform(readTx.readAll(store, domPaths.keySet()), fromDom),
+            ReadFailedException.MAPPER);
+    }
 }
@@ -10,7 +10,11 @@ package org.opendaylight.mdsal.binding.dom.adapter;
 import com.google.common.base.Optional;
 import com.google.common.base.Preconditions;
 import com.google.common.util.concurrent.CheckedFuture;
+import java.util.EnumMap;
+import java.util.HashSet;
+import java.util.Map;
 import java.util.Map.Entry;
+import java.util.Set;
 import org.opendaylight.mdsal.common.api.LogicalDatastoreType;
 import org.opendaylight.mdsal.common.api.TransactionCommitFailedException;
 import org.opendaylight.mdsal.dom.api.DOMDataTreeWriteTransaction;
@@ -26,6 +30,18 @@ import org.opendaylight.yangtools.yang.data.api.schema.NormalizedNode;
  */
 public abstract class AbstractWriteTransaction<T extends DOMDataTreeWriteTransaction> extends
         AbstractForwardedTransaction<T> {
+    /**
+     * Maximum number of ensured parent paths tracked per datastore. Tracking is reset once this is exceeded, which
+     * bounds both memory and the cost of invalidating entries on put and delete.
+     */
+    private static final int MAX_ENSURED_PARENTS = 1024;
+
+    /**
+     * Paths for which this transaction has already issued a structural merge, by datastore. Subsequent writes under
+     * these paths do not need to create them again. Entries are invalidated when a put or delete could have removed
+     * them. Allocated lazily, as most transactions never create parents.
+     */
+    private Map<LogicalDatastoreType, EnsuredParents> ensuredParents;
 
     protected AbstractWriteTransaction(final T delegate, final BindingToNormalizedNodeCodec codec) {
         super(delegate, codec);
@@ -42,6 +58,7 @@ public abstract class AbstractWriteTransaction<T extends DOMDataTreeWriteTransac
             ensureListParentIfNeeded(store,path,normalized);
         }
 
+        invalidateEnsuredParents(store, normalized.getKey());
         getDelegate().put(store, normalized.getKey(), normalized.getValue());
     }
 
@@ -96,8 +113,28 @@ public abstract class AbstractWriteTransaction<T extends DOMDataTreeWriteTransac
             final YangInstanceIdentifier parentMapPath = normalized.getKey().getParent();
             Preconditions.checkArgument(parentMapPath != null, "Map path %s does not have a parent", path);
 
-            final NormalizedNode<?, ?> emptyParent = getCodec().getDefaultNodeFor(parentMapPath);
-            getDelegate().merge(store, parentMapPath, emptyParent);
+            final EnsuredParents ensured = ensuredParents(store);
+            if (!ensured.contains(parentMapPath)) {
+                final NormalizedNode<?, ?> emptyParent = getCodec().getDefaultNodeFor(parentMapPath);
+                getDelegate().merge(store, parentMapPath, emptyParent);
+                ensured.add(parentMapPath);
+            }
+        }
+    }
+
+    private EnsuredParents ensuredParents(final LogicalDatastoreType store) {
+        if (ensuredParents == null) {
+            ensuredParents = new EnumMap<>(LogicalDatastoreType.class);
+        }
+        return ensuredParents.computeIfAbsent(store, k -> new EnsuredParents());
+    }
+
+    private void invalidateEnsuredParents(final LogicalDatastoreType store, final YangInstanceIdentifier path) {
+        if (ensuredParents != null) {
+            final EnsuredParents ensured = ensuredParents.get(store);
+            if (ensured != null) {
+                ensured.invalidate(path);
+            }
         }
     }
 
@@ -121,8 +158,12 @@ public abstract class AbstractWriteTransaction<T extends DOMDataTreeWriteTransac
             final InstanceIdentifier<?> path) {
         final YangInstanceIdentifier parentPath = domPath.getParent();
         if (parentPath != null) {
-            final NormalizedNode<?, ?> parentNode = getCodec().instanceIdentifierToNode(parentPath);
-            getDelegate().merge(store, YangInstanceIdentifier.create(parentNode.getIdentifier()), parentNode);
+            final EnsuredParents ensured = ensuredParents(store);
+            if (!ensured.contains(parentPath)) {
+                final NormalizedNode<?, ?> parentNode = getCodec().instanceIdentifierToNode(parentPath);
+                getDelegate().merge(store, YangInstanceIdentifier.create(parentNode.getIdentifier()), parentNode);
+                ensured.add(parentPath);
+            }
         }
     }
 
@@ -131,6 +172,7 @@ public abstract class AbstractWriteTransaction<T extends DOMDataTreeWriteTransac
         Preconditions.checkArgument(!path.isWildcarded(), "Cannot delete wildcarded path %s", path);
 
         final YangInstanceIdentifier normalized = getCodec().toYangInstanceIdentifierBlocking(path);
+        invalidateEnsuredParents(store, normalized);
         getDelegate().delete(store, normalized);
     }
 
@@ -142,4 +184,34 @@ public abstract class AbstractWriteTransaction<T extends DOMDataTreeWriteTransac
         return getDelegate().cancel();
     }
 
+    /**
+     * Ensured parent paths of a single datastore. Binding transactions are not thread-safe, hence no synchronization
+     * is needed. Tracks the depth of the deepest path, so that puts and deletes below it, which cannot affect any
+     * tracked path, do not need to scan the set.
+     */
+    private static final class EnsuredParents {
+        private final Set<YangInstanceIdentifier> paths = new HashSet<>();
+        private int maxDepth;
+
+        boolean contains(final YangInstanceIdentifier path) {
+            return paths.contains(path);
+        }
+
+        void add(final YangInstanceIdentifier path) {
+            if (paths.size() >= MAX_ENSURED_PARENTS) {
+                paths.clear();
+                maxDepth = 0;
+            }
+            paths.add(path);
+            maxDepth = Math.max(maxDepth, path.getPathArguments().size());
+        }
+
+        void invalidate(final YangInstanceIdentifier path) {
+            // A put or delete replaces the subtree at path, hence any ensured path at or below it may be gone. Only
+            // a path no deeper than a tracked path can be its ancestor.
+            if (!paths.isEmpty() && path.getPathArguments().size() <= maxDepth) {
+                paths.removeIf(path::contains);
+            }
+        }
+    }
 }
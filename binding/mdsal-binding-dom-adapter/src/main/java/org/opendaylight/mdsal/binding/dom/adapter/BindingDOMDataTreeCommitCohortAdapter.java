@@ -9,30 +9,168 @@
 package org.opendaylight.mdsal.binding.dom.adapter;
 
 import com.google.common.base.Preconditions;
+import com.google.common.collect.ImmutableList;
 import com.google.common.util.concurrent.CheckedFuture;
+import java.util.List;
+import javax.annotation.Nullable;
+import org.opendaylight.mdsal.binding.api.DataObjectModification;
 import org.opendaylight.mdsal.binding.api.DataTreeCommitCohort;
+import org.opendaylight.mdsal.binding.api.DataTreeCommitCohortFilter;
 import org.opendaylight.mdsal.binding.api.DataTreeModification;
 import org.opendaylight.mdsal.common.api.DataValidationFailedException;
 import org.opendaylight.mdsal.common.api.PostCanCommitStep;
 import org.opendaylight.mdsal.dom.api.DOMDataTreeCandidate;
 import org.opendaylight.mdsal.dom.api.DOMDataTreeCommitCohort;
 import org.opendaylight.yangtools.yang.binding.DataObject;
+import org.opendaylight.yangtools.yang.data.api.YangInstanceIdentifier;
+import org.opendaylight.yangtools.yang.data.api.YangInstanceIdentifier.PathArgument;
+import org.opendaylight.yangtools.yang.data.api.schema.tree.DataTreeCandidateNode;
+import org.opendaylight.yangtools.yang.data.api.schema.tree.ModificationType;
 import org.opendaylight.yangtools.yang.model.api.SchemaContext;
+import org.slf4j.Logger;
+import org.slf4j.LoggerFactory;
 
 class BindingDOMDataTreeCommitCohortAdapter<T extends DataObject> implements DOMDataTreeCommitCohort {
+    private static final Logger LOG = LoggerFactory.getLogger(BindingDOMDataTreeCommitCohortAdapter.class);
 
     private final BindingToNormalizedNodeCodec codec;
     private final DataTreeCommitCohort<T> cohort;
+    private final DataTreeCommitCohortFilter filter;
+
+    /**
+     * DOM path at which the cohort is registered.
+     */
+    private final List<PathArgument> registeredPath;
+
+    /**
+     * DOM paths of the filter's children of interest, relative to {@link #registeredPath}. Resolved at registration
+     * time.
+     */
+    private final List<List<PathArgument>> children;
 
     BindingDOMDataTreeCommitCohortAdapter(BindingToNormalizedNodeCodec codec, DataTreeCommitCohort<T> cohort) {
         this.codec = Preconditions.checkNotNull(codec);
         this.cohort = Preconditions.checkNotNull(cohort);
+        this.filter = null;
+        this.registeredPath = ImmutableList.of();
+        this.children = ImmutableList.of();
+    }
+
+    BindingDOMDataTreeCommitCohortAdapter(final BindingToNormalizedNodeCodec codec,
+            final DataTreeCommitCohort<T> cohort, final DataTreeCommitCohortFilter filter,
+            final YangInstanceIdentifier registeredPath, final List<List<PathArgument>> children) {
+        this.codec = Preconditions.checkNotNull(codec);
+        this.cohort = Preconditions.checkNotNull(cohort);
+        this.filter = Preconditions.checkNotNull(filter);
+        this.registeredPath = ImmutableList.copyOf(registeredPath.getPathArguments());
+        this.children = ImmutableList.copyOf(children);
     }
 
     @Override
     public CheckedFuture<PostCanCommitStep, DataValidationFailedException> canCommit(Object txId,
             DOMDataTreeCandidate candidate, SchemaContext ctx) {
+        if (filter != null && !matches(candidate)) {
+            LOG.trace("Candidate {} does not match filter {}, not invoking cohort {}", candidate, filter, cohort);
+            return PostCanCommitStep.NOOP_SUCCESS_FUTURE;
+        }
+
         DataTreeModification<T> modification = LazyDataTreeModification.create(codec, candidate);
         return cohort.canCommit(txId, modification);
     }
+
+    /**
+     * Evaluate the filter against a candidate. The candidate is normally rooted at the registered path, but it may
+     * also be rooted above it or inside the registered subtree, hence children are mapped relative to its actual root.
+     */
+    private boolean matches(final DOMDataTreeCandidate candidate) {
+        final List<PathArgument> candidatePath = candidate.getRootPath().getRootIdentifier().getPathArguments();
+        final int depth = registeredPath.size();
+        if (candidatePath.size() > depth) {
+            return matchesBelow(candidate.getRootNode(), candidatePath.subList(depth, candidatePath.size()));
+        }
+
+        final DataTreeCandidateNode node = findNode(candidate.getRootNode(),
+            registeredPath.subList(candidatePath.size(), depth));
+        if (node == null || !matchesModificationType(node.getModificationType())) {
+            return false;
+        }
+        if (children.isEmpty()) {
+            return true;
+        }
+        for (List<PathArgument> child : children) {
+            if (isModified(findNode(node, child))) {
+                return true;
+            }
+        }
+        return false;
+    }
+
+    /**
+     * Evaluate the filter against a candidate rooted inside the registered subtree.
+     *
+     * @param root Root node of the candidate
+     * @param offset Path of the candidate root relative to the registered path
+     */
+    private boolean matchesBelow(final DataTreeCandidateNode root, final List<PathArgument> offset) {
+        // Modification of a node inside the registered subtree is a modification of the subtree itself
+        if (root.getModificationType() == ModificationType.UNMODIFIED
+                || !matchesModificationType(ModificationType.SUBTREE_MODIFIED)) {
+            return false;
+        }
+        if (children.isEmpty()) {
+            return true;
+        }
+        for (List<PathArgument> child : children) {
+            if (child.size() <= offset.size()) {
+                // The candidate lies within the child
+                if (child.equals(offset.subList(0, child.size()))) {
+                    return true;
+                }
+            } else if (offset.equals(child.subList(0, offset.size()))
+                    && isModified(findNode(root, child.subList(offset.size(), child.size())))) {
+                return true;
+            }
+        }
+        return false;
+    }
+
+    private boolean matchesModificationType(final ModificationType type) {
+        if (filter.getModificationTypes().isEmpty()) {
+            return true;
+        }
+        final DataObjectModification.ModificationType bindingType = bindingModificationType(type);
+        return bindingType != null && filter.getModificationTypes().contains(bindingType);
+    }
+
+    @Nullable
+    private static DataTreeCandidateNode findNode(final DataTreeCandidateNode root, final List<PathArgument> path) {
+        DataTreeCandidateNode current = root;
+        for (PathArgument arg : path) {
+            current = current.getModifiedChild(arg);
+            if (current == null) {
+                return null;
+            }
+        }
+        return current;
+    }
+
+    private static boolean isModified(@Nullable final DataTreeCandidateNode node) {
+        return node != null && node.getModificationType() != ModificationType.UNMODIFIED;
+    }
+
+    @Nullable
+    private static DataObjectModification.ModificationType bindingModificationType(final ModificationType type) {
+        switch (type) {
+            case APPEARED:
+            case WRITE:
+                return DataObjectModification.ModificationType.WRITE;
+            case SUBTREE_MODIFIED:
+                return DataObjectModification.ModificationType.SUBTREE_MODIFIED;
+            case DISAPPEARED:
+            case DELETE:
+                return DataObjectModification.ModificationType.DELETE;
+            default:
+                return null;
+        }
+    }
 }
@@ -9,14 +9,22 @@
 package org.opendaylight.mdsal.binding.dom.adapter;
 
 import com.google.common.base.Preconditions;
+import com.google.common.collect.ImmutableList;
+import java.util.ArrayList;
+import java.util.List;
 import org.opendaylight.mdsal.binding.api.DataTreeCommitCohort;
+import org.opendaylight.mdsal.binding.api.DataTreeCommitCohortFilter;
 import org.opendaylight.mdsal.binding.api.DataTreeCommitCohortRegistry;
 import org.opendaylight.mdsal.binding.api.DataTreeIdentifier;
+import org.opendaylight.mdsal.binding.dom.codec.api.BindingCodecTree;
+import org.opendaylight.mdsal.binding.dom.codec.api.BindingCodecTreeNode;
 import org.opendaylight.mdsal.dom.api.DOMDataTreeCommitCohortRegistration;
 import org.opendaylight.mdsal.dom.api.DOMDataTreeCommitCohortRegistry;
 import org.opendaylight.mdsal.dom.api.DOMDataTreeIdentifier;
 import org.opendaylight.yangtools.concepts.ObjectRegistration;
 import org.opendaylight.yangtools.yang.binding.DataObject;
+import org.opendaylight.yangtools.yang.binding.InstanceIdentifier;
+import org.opendaylight.yangtools.yang.data.api.YangInstanceIdentifier.PathArgument;
 
 public class BindingDOMDataTreeCommitCohortRegistryAdapter implements DataTreeCommitCohortRegistry {
 
@@ -36,9 +44,65 @@ public class BindingDOMDataTreeCommitCohortRegistryAdapter implements DataTreeCo
     @Override
     public <D extends DataObject, T extends DataTreeCommitCohort<D>> ObjectRegistration<T> registerCommitCohort(
             DataTreeIdentifier<D> subtree, final T cohort) {
-        final BindingDOMDataTreeCommitCohortAdapter<D> adapter =
-                new BindingDOMDataTreeCommitCohortAdapter<>(codec, cohort);
+        return register(codec.toDOMDataTreeIdentifier(subtree), cohort,
+            new BindingDOMDataTreeCommitCohortAdapter<>(codec, cohort));
+    }
+
+    @Override
+    public <D extends DataObject, T extends DataTreeCommitCohort<D>> ObjectRegistration<T> registerCommitCohort(
+            final DataTreeIdentifier<D> subtree, final DataTreeCommitCohortFilter filter, final T cohort) {
+        Preconditions.checkNotNull(filter);
         final DOMDataTreeIdentifier domPath = codec.toDOMDataTreeIdentifier(subtree);
+
+        // Evaluate the filter on DOM candidates, before they are translated to binding
+        return register(domPath, cohort, new BindingDOMDataTreeCommitCohortAdapter<>(codec, cohort, filter,
+            domPath.getRootIdentifier(), resolveChildren(domPath, filter)));
+    }
+
+    /**
+     * Resolve the filter's children of interest to DOM paths relative to the registered subtree.
+     *
+     * @throws IllegalArgumentException if any of the children is not a valid child of the subtree
+     */
+    private List<List<PathArgument>> resolveChildren(final DOMDataTreeIdentifier domPath,
+            final DataTreeCommitCohortFilter filter) {
+        if (filter.getChildren().isEmpty()) {
+            return ImmutableList.of();
+        }
+
+        final BindingCodecTree codecTree = codec.getCodecRegistry().getCodecContext();
+        Preconditions.checkState(codecTree != null, "No schema context available to resolve filter %s", filter);
+        final BindingCodecTreeNode<?> subtreeCodec = codecTree.getSubtreeCodec(domPath.getRootIdentifier());
+
+        final ImmutableList.Builder<List<PathArgument>> builder = ImmutableList.builder();
+        for (InstanceIdentifier.PathArgument child : filter.getChildren()) {
+            final List<PathArgument> steps = new ArrayList<>(2);
+            try {
+                subtreeCodec.bindingPathArgumentChild(child, steps);
+            } catch (IllegalArgumentException e) {
+                throw new IllegalArgumentException(String.format("Filter child %s is not valid in subtree %s", child,
+                    domPath), e);
+            }
+            builder.add(trimWildcard(steps));
+        }
+        return builder.build();
+    }
+
+    /**
+     * A list without a key is represented by two identical DOM path arguments, one for the list and one for its
+     * entries. Matching any entry means matching modification of the list itself, hence we trim the second one.
+     */
+    private static List<PathArgument> trimWildcard(final List<PathArgument> steps) {
+        final int size = steps.size();
+        if (size > 1 && steps.get(size - 1).equals(steps.get(size - 2))) {
+            return ImmutableList.copyOf(steps.subList(0, size - 1));
+        }
+        return ImmutableList.copyOf(steps);
+    }
+
+    private <D extends DataObject, T extends DataTreeCommitCohort<D>> ObjectRegistration<T> register(
+            final DOMDataTreeIdentifier domPath, final T cohort,
+            final BindingDOMDataTreeCommitCohortAdapter<D> adapter) {
         final DOMDataTreeCommitCohortRegistration<?> domReg = registry.registerCommitCohort(domPath, adapter);
         return new ObjectRegistration<T>() {
 
@@ -7,17 +7,22 @@
  */
 package org.opendaylight.mdsal.binding.dom.adapter;
 
+import com.google.common.base.Preconditions;
+import com.google.common.base.Throwables;
 import com.google.common.collect.ImmutableMap;
 import com.google.common.reflect.TypeToken;
+import java.lang.invoke.MethodHandle;
 import java.lang.reflect.Method;
 import java.util.HashMap;
 import java.util.HashSet;
 import java.util.Map;
+import java.util.Map.Entry;
 import java.util.Set;
 import javax.annotation.Nonnull;
 import org.opendaylight.mdsal.binding.dom.codec.api.BindingNormalizedNodeSerializer;
 import org.opendaylight.mdsal.dom.api.DOMNotification;
 import org.opendaylight.mdsal.dom.api.DOMNotificationListener;
+import org.opendaylight.yangtools.yang.binding.DataContainer;
 import org.opendaylight.yangtools.yang.binding.Notification;
 import org.opendaylight.yangtools.yang.binding.NotificationListener;
 import org.opendaylight.yangtools.yang.binding.util.BindingReflections;
@@ -29,35 +34,57 @@ class BindingDOMNotificationListenerAdapter implements DOMNotificationListener {
 
     private final BindingNormalizedNodeSerializer codec;
     private final NotificationListener delegate;
-    private final Map<SchemaPath,NotificationListenerInvoker> invokers;
+    private final Map<SchemaPath, MethodHandle> handlers;
 
     BindingDOMNotificationListenerAdapter(final BindingNormalizedNodeSerializer codec,
             final NotificationListener delegate) {
         this.codec = codec;
         this.delegate = delegate;
-        this.invokers = createInvokerMapFor(delegate.getClass());
+        this.handlers = createHandlerMapFor(delegate);
     }
 
     @Override
     public void onNotification(@Nonnull final DOMNotification notification) {
         final Notification baNotification = deserialize(notification);
-        final QName notificationQName = notification.getType().getLastComponent();
-        getInvoker(notification.getType()).invokeNotification(delegate, notificationQName, baNotification);
+        final MethodHandle handler = handlers.get(notification.getType());
+        Preconditions.checkArgument(handler != null, "Supplied notification %s is not valid for implementation %s",
+            notification.getType(), delegate);
+        try {
+            handler.invokeExact((DataContainer) baNotification);
+        } catch (final Throwable e) {
+            throw Throwables.propagate(e);
+        }
     }
 
     private Notification deserialize(final DOMNotification notification) {
         if (notification instanceof LazySerializedDOMNotification) {
-            return ((LazySerializedDOMNotification) notification).getBindingData();
+            // Published in-process through the same codec: deliver the original object, no codec work needed
+            final Notification original = ((LazySerializedDOMNotification) notification).getBindingData(codec);
+            if (original != null) {
+                return original;
+            }
         }
         return codec.fromNormalizedNodeNotification(notification.getType(), notification.getBody());
     }
 
-    private NotificationListenerInvoker getInvoker(final SchemaPath type) {
-        return invokers.get(type);
+    protected Set<SchemaPath> getSupportedNotifications() {
+        return handlers.keySet();
     }
 
-    protected Set<SchemaPath> getSupportedNotifications() {
-        return invokers.keySet();
+    /**
+     * Resolve callback handles for all notifications supported by a listener and bind them to it, so that delivery
+     * does not need to look up the invoker and its method on each notification.
+     */
+    private static Map<SchemaPath, MethodHandle> createHandlerMapFor(final NotificationListener listener) {
+        final ImmutableMap.Builder<SchemaPath, MethodHandle> builder = ImmutableMap.builder();
+        for (final Entry<SchemaPath, NotificationListenerInvoker> entry
+                : createInvokerMapFor(listener.getClass()).entrySet()) {
+            final MethodHandle handle = entry.getValue().getNotificationHandle(entry.getKey().getLastComponent());
+            if (handle != null) {
+                builder.put(entry.getKey(), handle.bindTo(listener));
+            }
+        }
+        return builder.build();
     }
 
     public static Map<SchemaPath, NotificationListenerInvoker> createInvokerMapFor(
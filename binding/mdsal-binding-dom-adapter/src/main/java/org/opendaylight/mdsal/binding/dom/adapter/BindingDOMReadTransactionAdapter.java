@@ -9,6 +9,8 @@ package org.opendaylight.mdsal.binding.dom.adapter;
 
 import com.google.common.base.Optional;
 import com.google.common.util.concurrent.CheckedFuture;
+import java.util.Collection;
+import java.util.Map;
 import org.opendaylight.mdsal.binding.api.ReadTransaction;
 import org.opendaylight.mdsal.common.api.LogicalDatastoreType;
 import org.opendaylight.mdsal.common.api.ReadFailedException;
@@ -30,6 +32,12 @@ class BindingDOMReadTransactionAdapter extends AbstractForwardedTransaction<DOMD
         return doRead(getDelegate(),store, path);
     }
 
+    @Override
+    public <T extends DataObject> CheckedFuture<Map<InstanceIdentifier<T>, Optional<T>>, ReadFailedException>
+            readAll(final LogicalDatastoreType store, final Collection<InstanceIdentifier<T>> paths) {
+        return doReadAll(getDelegate(), store, paths);
+    }
+
     @Override
     public void close() {
         getDelegate().close();
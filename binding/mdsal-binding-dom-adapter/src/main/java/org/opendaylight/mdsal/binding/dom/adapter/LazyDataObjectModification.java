@@ -11,6 +11,7 @@ import com.google.common.base.Optional;
 import com.google.common.base.Preconditions;
 import java.util.ArrayList;
 import java.util.Collection;
+import java.util.Collections;
 import java.util.Iterator;
 import java.util.List;
 import org.opendaylight.mdsal.binding.api.DataObjectModification;
@@ -162,10 +163,55 @@ final class LazyDataObjectModification<T extends DataObject> implements DataObje
         return childNodesCache;
     }
 
-    @SuppressWarnings("unchecked")
+    @SuppressWarnings({ "unchecked", "rawtypes" })
     @Override
     public <C extends ChildOf<? super T>> Collection<DataObjectModification<C>>
-            getModifiedChildren(Class<C> childType) {
+            getModifiedChildren(final Class<C> childType) {
+        if (childNodesCache == null) {
+            /*
+             * Children have not been translated yet, so we resolve only the requested child type, without touching
+             * its siblings.
+             */
+            final List<YangInstanceIdentifier.PathArgument> domArgumentList = new ArrayList<>();
+            final BindingCodecTreeNode<?> childCodec;
+            try {
+                childCodec = codec.bindingPathArgumentChild(new InstanceIdentifier.Item<>(childType),
+                    domArgumentList);
+            } catch (final IllegalArgumentException e) {
+                LOG.debug("Type {} is not a direct child of {}, looking through all children", childType,
+                    getDataType(), e);
+                return filterModifiedChildren(childType);
+            }
+
+            // Wildcarded list item argument is the same as the list argument, we need to stop at the list
+            final int size = domArgumentList.size();
+            if (size > 1 && domArgumentList.get(size - 1).equals(domArgumentList.get(size - 2))) {
+                domArgumentList.remove(size - 1);
+            }
+
+            DataTreeCandidateNode current = domData;
+            for (final YangInstanceIdentifier.PathArgument domArgument : domArgumentList) {
+                current = current.getModifiedChild(domArgument);
+                if (current == null) {
+                    return Collections.emptyList();
+                }
+            }
+
+            final List<DataObjectModification<? extends DataObject>> result = new ArrayList<>();
+            if (BindingStructuralType.from(current) == BindingStructuralType.INVISIBLE_LIST) {
+                populateListWithSingleCodec(result, childCodec, current.getChildNodes());
+            } else {
+                result.add(create(childCodec, current));
+            }
+            return (Collection) result;
+        }
+
+        return filterModifiedChildren(childType);
+    }
+
+    @SuppressWarnings("unchecked")
+    private <C extends ChildOf<? super T>> Collection<DataObjectModification<C>> filterModifiedChildren(
+            final Class<C> childType) {
         List<DataObjectModification<C>> children = new ArrayList<>();
         for (DataObjectModification<? extends DataObject> potential : getModifiedChildren()) {
             if (childType.isAssignableFrom(potential.getDataType())) {
@@ -19,7 +19,14 @@ import org.opendaylight.yangtools.yang.model.api.SchemaPath;
  *
  * <p>
  * This implementation performs serialization of data, only if receiver
- * of notification actually accessed data from notification.
+ * of notification actually accessed data from notification. Serialization
+ * is performed at most once, even if multiple receivers access the data
+ * concurrently.
+ *
+ * <p>
+ * Binding receivers which use the same codec as the publisher should use
+ * {@link #getBindingData(BindingNormalizedNodeSerializer)} to access
+ * the original notification, without any codec work.
  *
  */
 public final class LazySerializedDOMNotification implements DOMNotification {
@@ -28,7 +35,7 @@ public final class LazySerializedDOMNotification implements DOMNotification {
     private final Notification data;
     private final SchemaPath type;
 
-    private ContainerNode domBody;
+    private volatile ContainerNode domBody;
 
     private LazySerializedDOMNotification(final BindingNormalizedNodeSerializer codec,
             final Notification data, final SchemaPath type) {
@@ -50,13 +57,36 @@ public final class LazySerializedDOMNotification implements DOMNotification {
 
     @Override
     public ContainerNode getBody() {
-        if (domBody == null) {
-            domBody = codec.toNormalizedNodeNotification(data);
+        ContainerNode local = domBody;
+        if (local == null) {
+            synchronized (this) {
+                local = domBody;
+                if (local == null) {
+                    local = codec.toNormalizedNodeNotification(data);
+                    domBody = local;
+                }
+            }
         }
-        return domBody;
+        return local;
     }
 
     public Notification getBindingData() {
         return data;
     }
+
+    /**
+     * Return the original binding notification if it is usable by a receiver using specified codec.
+     *
+     * @param receiverCodec Codec used by the receiver
+     * @return Original notification, or null if the receiver uses a different codec and needs to deserialize
+     *         the notification from its body.
+     */
+    Notification getBindingData(final BindingNormalizedNodeSerializer receiverCodec) {
+        return codec == receiverCodec || unwrap(codec) == unwrap(receiverCodec) ? data : null;
+    }
+
+    private static BindingNormalizedNodeSerializer unwrap(final BindingNormalizedNodeSerializer serializer) {
+        return serializer instanceof BindingToNormalizedNodeCodec
+                ? ((BindingToNormalizedNodeCodec) serializer).getCodecRegistry() : serializer;
+    }
 }
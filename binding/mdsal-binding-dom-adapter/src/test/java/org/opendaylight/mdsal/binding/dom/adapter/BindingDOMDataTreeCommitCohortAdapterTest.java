@@ -8,23 +8,31 @@
 package org.opendaylight.mdsal.binding.dom.adapter;
 
 import static org.junit.Assert.assertNotNull;
+import static org.junit.Assert.assertSame;
 import static org.mockito.Matchers.any;
 import static org.mockito.Mockito.doReturn;
 import static org.mockito.Mockito.mock;
+import static org.mockito.Mockito.never;
 import static org.mockito.Mockito.verify;
 
+import com.google.common.collect.ImmutableList;
 import org.junit.Test;
+import org.opendaylight.mdsal.binding.api.DataObjectModification.ModificationType;
 import org.opendaylight.mdsal.binding.api.DataTreeCommitCohort;
+import org.opendaylight.mdsal.binding.api.DataTreeCommitCohortFilter;
 import org.opendaylight.mdsal.binding.dom.codec.api.BindingCodecTree;
 import org.opendaylight.mdsal.binding.dom.codec.api.BindingCodecTreeNode;
 import org.opendaylight.mdsal.binding.generator.impl.GeneratedClassLoadingStrategy;
 import org.opendaylight.mdsal.common.api.LogicalDatastoreType;
+import org.opendaylight.mdsal.common.api.PostCanCommitStep;
 import org.opendaylight.mdsal.dom.api.DOMDataTreeCandidate;
 import org.opendaylight.mdsal.dom.api.DOMDataTreeIdentifier;
 import org.opendaylight.yangtools.binding.data.codec.impl.BindingNormalizedNodeCodecRegistry;
 import org.opendaylight.yangtools.yang.binding.DataObject;
 import org.opendaylight.yangtools.yang.binding.InstanceIdentifier;
+import org.opendaylight.yangtools.yang.common.QName;
 import org.opendaylight.yangtools.yang.data.api.YangInstanceIdentifier;
+import org.opendaylight.yangtools.yang.data.api.YangInstanceIdentifier.NodeIdentifier;
 import org.opendaylight.yangtools.yang.data.api.schema.tree.DataTreeCandidateNode;
 
 public class BindingDOMDataTreeCommitCohortAdapterTest {
@@ -56,4 +64,53 @@ public class BindingDOMDataTreeCommitCohortAdapterTest {
         adapter.canCommit(new Object(), domDataTreeCandidate, null);
         verify(cohort).canCommit(any(), any());
     }
-}
\ No newline at end of file
+
+    @SuppressWarnings({ "unchecked", "rawtypes" })
+    @Test
+    public void canCommitFilterTest() throws Exception {
+        final DataTreeCommitCohort<?> cohort = mock(DataTreeCommitCohort.class);
+        final BindingNormalizedNodeCodecRegistry registry = mock(BindingNormalizedNodeCodecRegistry.class);
+        final BindingToNormalizedNodeCodec codec =
+                new BindingToNormalizedNodeCodec(GeneratedClassLoadingStrategy.getTCCLClassLoadingStrategy(), registry);
+
+        // The filter's child has been resolved to a single DOM child
+        final NodeIdentifier childId = new NodeIdentifier(QName.create("urn:test", "2017-01-01", "child"));
+        final BindingCodecTree bindingCodecTree = mock(BindingCodecTree.class);
+        final BindingCodecTreeNode bindingCodecTreeNode = mock(BindingCodecTreeNode.class);
+        doReturn(bindingCodecTree).when(registry).getCodecContext();
+
+        final DOMDataTreeCandidate domDataTreeCandidate = mock(DOMDataTreeCandidate.class);
+        doReturn(new DOMDataTreeIdentifier(LogicalDatastoreType.OPERATIONAL, YangInstanceIdentifier.EMPTY))
+            .when(domDataTreeCandidate).getRootPath();
+        final DataTreeCandidateNode rootNode = mock(DataTreeCandidateNode.class);
+        doReturn(org.opendaylight.yangtools.yang.data.api.schema.tree.ModificationType.SUBTREE_MODIFIED)
+            .when(rootNode).getModificationType();
+        doReturn(rootNode).when(domDataTreeCandidate).getRootNode();
+
+        // Mismatched modification type, cohort should not be invoked
+        final BindingDOMDataTreeCommitCohortAdapter deleteAdapter = new BindingDOMDataTreeCommitCohortAdapter<>(codec,
+            cohort, DataTreeCommitCohortFilter.builder().addModificationType(ModificationType.DELETE).build(),
+            YangInstanceIdentifier.EMPTY, ImmutableList.of());
+        assertSame(PostCanCommitStep.NOOP_SUCCESS_FUTURE,
+            deleteAdapter.canCommit(new Object(), domDataTreeCandidate, null));
+
+        // Child of interest not modified, cohort should not be invoked
+        final BindingDOMDataTreeCommitCohortAdapter childAdapter = new BindingDOMDataTreeCommitCohortAdapter<>(codec,
+            cohort, DataTreeCommitCohortFilter.builder().addChild(DataObject.class).build(),
+            YangInstanceIdentifier.EMPTY, ImmutableList.of(ImmutableList.of(childId)));
+        assertSame(PostCanCommitStep.NOOP_SUCCESS_FUTURE,
+            childAdapter.canCommit(new Object(), domDataTreeCandidate, null));
+        verify(cohort, never()).canCommit(any(), any());
+
+        // Child of interest modified, cohort should be invoked
+        final DataTreeCandidateNode childNode = mock(DataTreeCandidateNode.class);
+        doReturn(org.opendaylight.yangtools.yang.data.api.schema.tree.ModificationType.WRITE)
+            .when(childNode).getModificationType();
+        doReturn(childNode).when(rootNode).getModifiedChild(childId);
+        doReturn(InstanceIdentifier.create(DataObject.class)).when(registry).fromYangInstanceIdentifier(any());
+        doReturn(bindingCodecTreeNode).when(bindingCodecTree).getSubtreeCodec(any(InstanceIdentifier.class));
+        doReturn(null).when(cohort).canCommit(any(), any());
+        childAdapter.canCommit(new Object(), domDataTreeCandidate, null);
+        verify(cohort).canCommit(any(), any());
+    }
+}
@@ -0,0 +1,238 @@
+/*
+ * Copyright (c) 2017 Pantheon Technologies, s.r.o. and others.  All rights reserved.
+ *
+ * This program and the accompanying materials are made available under the
+ * terms of the Eclipse Public License v1.0 which accompanies this distribution,
+ * and is available at http://www.eclipse.org/legal/epl-v10.html
+ */
+package org.opendaylight.mdsal.binding.dom.adapter;
+
+import static org.junit.Assert.assertSame;
+import static org.mockito.Matchers.any;
+import static org.mockito.Mockito.doReturn;
+import static org.mockito.Mockito.mock;
+import static org.mockito.Mockito.never;
+import static org.mockito.Mockito.verify;
+
+import java.util.Collections;
+import org.junit.Test;
+import org.mockito.ArgumentCaptor;
+import org.opendaylight.mdsal.binding.api.DataTreeCommitCohort;
+import org.opendaylight.mdsal.binding.api.DataTreeCommitCohortFilter;
+import org.opendaylight.mdsal.binding.api.DataTreeCommitCohortRegistry;
+import org.opendaylight.mdsal.binding.api.DataTreeIdentifier;
+import org.opendaylight.mdsal.binding.api.WriteTransaction;
+import org.opendaylight.mdsal.binding.dom.adapter.test.AbstractDataBrokerTest;
+import org.opendaylight.mdsal.binding.dom.adapter.test.DataBrokerTestCustomizer;
+import org.opendaylight.mdsal.common.api.LogicalDatastoreType;
+import org.opendaylight.mdsal.common.api.PostCanCommitStep;
+import org.opendaylight.mdsal.dom.api.DOMDataTreeCandidate;
+import org.opendaylight.mdsal.dom.api.DOMDataTreeCommitCohort;
+import org.opendaylight.mdsal.dom.api.DOMDataTreeCommitCohortRegistry;
+import org.opendaylight.mdsal.dom.api.DOMDataTreeIdentifier;
+import org.opendaylight.yang.gen.v1.urn.opendaylight.params.xml.ns.yang.controller.md.sal.test.store.rev140422.Lists;
+import org.opendaylight.yang.gen.v1.urn.opendaylight.params.xml.ns.yang.controller.md.sal.test.store.rev140422.lists.UnkeyedContainer;
+import org.opendaylight.yang.gen.v1.urn.opendaylight.params.xml.ns.yang.controller.md.sal.test.store.rev140422.lists.UnkeyedContainerBuilder;
+import org.opendaylight.yang.gen.v1.urn.opendaylight.params.xml.ns.yang.controller.md.sal.test.store.rev140422.lists.UnorderedContainer;
+import org.opendaylight.yang.gen.v1.urn.opendaylight.params.xml.ns.yang.controller.md.sal.test.store.rev140422.lists.unkeyed.container.UnkeyedList;
+import org.opendaylight.yang.gen.v1.urn.opendaylight.params.xml.ns.yang.controller.md.sal.test.store.rev140422.lists.unkeyed.container.UnkeyedListBuilder;
+import org.opendaylight.yang.gen.v1.urn.opendaylight.params.xml.ns.yang.controller.md.sal.test.store.rev140422.lists.unordered.container.UnorderedList;
+import org.opendaylight.yang.gen.v1.urn.opendaylight.params.xml.ns.yang.controller.md.sal.test.store.rev140422.lists.unordered.container.UnorderedListBuilder;
+import org.opendaylight.yang.gen.v1.urn.opendaylight.params.xml.ns.yang.controller.md.sal.test.store.rev140422.lists.unordered.container.UnorderedListKey;
+import org.opendaylight.yangtools.concepts.ObjectRegistration;
+import org.opendaylight.yangtools.yang.binding.DataObject;
+import org.opendaylight.yangtools.yang.binding.InstanceIdentifier;
+import org.opendaylight.yangtools.yang.data.api.YangInstanceIdentifier;
+import org.opendaylight.yangtools.yang.data.api.schema.tree.DataTreeCandidateNode;
+import org.opendaylight.yangtools.yang.data.api.schema.tree.ModificationType;
+
+/**
+ * Tests of commit cohort filters evaluated against a real codec and data broker.
+ */
+public class BindingDOMDataTreeCommitCohortFilterTest extends AbstractDataBrokerTest {
+    private static final InstanceIdentifier<UnkeyedContainer> UNKEYED_CONTAINER_PATH =
+            InstanceIdentifier.create(Lists.class).child(UnkeyedContainer.class);
+    private static final InstanceIdentifier<UnorderedContainer> UNORDERED_CONTAINER_PATH =
+            InstanceIdentifier.create(Lists.class).child(UnorderedContainer.class);
+    private static final UnorderedListKey FOO_KEY = new UnorderedListKey("foo");
+    private static final UnorderedListKey BAR_KEY = new UnorderedListKey("bar");
+
+    private DataBrokerTestCustomizer customizer;
+
+    @Override
+    protected DataBrokerTestCustomizer createDataBrokerTestCustomizer() {
+        customizer = super.createDataBrokerTestCustomizer();
+        return customizer;
+    }
+
+    private BindingDOMDataTreeCommitCohortRegistryAdapter createRegistry() {
+        return new BindingDOMDataTreeCommitCohortRegistryAdapter(customizer.getBindingToNormalized(),
+            (DOMDataTreeCommitCohortRegistry) getDomBroker().getSupportedExtensions()
+                .get(DOMDataTreeCommitCohortRegistry.class));
+    }
+
+    @SuppressWarnings("unchecked")
+    private static <T extends DataObject> DataTreeCommitCohort<T> mockCohort() {
+        final DataTreeCommitCohort<T> cohort = mock(DataTreeCommitCohort.class);
+        doReturn(PostCanCommitStep.NOOP_SUCCESS_FUTURE).when(cohort).canCommit(any(), any());
+        return cohort;
+    }
+
+    @Test
+    public void testUnkeyedListChild() throws Exception {
+        final DataTreeCommitCohort<UnkeyedContainer> cohort = mockCohort();
+        final ObjectRegistration<?> reg = createRegistry().registerCommitCohort(
+            DataTreeIdentifier.create(LogicalDatastoreType.OPERATIONAL, UNKEYED_CONTAINER_PATH),
+            DataTreeCommitCohortFilter.builder().addChild(UnkeyedList.class).build(), cohort);
+
+        // The list has not been touched
+        WriteTransaction tx = getDataBroker().newWriteOnlyTransaction();
+        tx.put(LogicalDatastoreType.OPERATIONAL, UNKEYED_CONTAINER_PATH, new UnkeyedContainerBuilder().build(), true);
+        tx.submit().checkedGet();
+        verify(cohort, never()).canCommit(any(), any());
+
+        // Any entry of the list matches
+        tx = getDataBroker().newWriteOnlyTransaction();
+        tx.put(LogicalDatastoreType.OPERATIONAL, UNKEYED_CONTAINER_PATH, new UnkeyedContainerBuilder()
+            .setUnkeyedList(Collections.singletonList(new UnkeyedListBuilder().setName("foo").build())).build());
+        tx.submit().checkedGet();
+        verify(cohort).canCommit(any(), any());
+
+        reg.close();
+    }
+
+    @Test
+    public void testKeyedListEntryChild() throws Exception {
+        assertKeyedListEntryChild(createRegistry());
+    }
+
+    @Test
+    public void testDefaultKeyedListEntryChild() throws Exception {
+        // Exposes only registration without a filter, so that the filter is evaluated by the default implementation
+        final BindingDOMDataTreeCommitCohortRegistryAdapter adapter = createRegistry();
+        assertKeyedListEntryChild(new DataTreeCommitCohortRegistry() {
+            @Override
+            public <D extends DataObject, T extends DataTreeCommitCohort<D>> ObjectRegistration<T>
+                    registerCommitCohort(final DataTreeIdentifier<D> subtree, final T cohort) {
+                return adapter.registerCommitCohort(subtree, cohort);
+            }
+        });
+    }
+
+    private void assertKeyedListEntryChild(final DataTreeCommitCohortRegistry registry) throws Exception {
+        final DataTreeCommitCohort<UnorderedContainer> cohort = mockCohort();
+        final ObjectRegistration<?> reg = registry.registerCommitCohort(
+            DataTreeIdentifier.create(LogicalDatastoreType.OPERATIONAL, UNORDERED_CONTAINER_PATH),
+            DataTreeCommitCohortFilter.builder().addChildEntry(UnorderedList.class, FOO_KEY).build(), cohort);
+
+        // Another entry has been written
+        WriteTransaction tx = getDataBroker().newWriteOnlyTransaction();
+        tx.put(LogicalDatastoreType.OPERATIONAL, UNORDERED_CONTAINER_PATH.child(UnorderedList.class, BAR_KEY),
+            new UnorderedListBuilder().setKey(BAR_KEY).setValue("bar").build(), true);
+        tx.submit().checkedGet();
+        verify(cohort, never()).canCommit(any(), any());
+
+        // The entry of interest has been written
+        tx = getDataBroker().newWriteOnlyTransaction();
+        tx.put(LogicalDatastoreType.OPERATIONAL, UNORDERED_CONTAINER_PATH.child(UnorderedList.class, FOO_KEY),
+            new UnorderedListBuilder().setKey(FOO_KEY).setValue("foo").build(), true);
+        tx.submit().checkedGet();
+        verify(cohort).canCommit(any(), any());
+
+        reg.close();
+    }
+
+    @Test(expected = IllegalArgumentException.class)
+    public void testInvalidChildRejected() {
+        // Unkeyed list is not a child of the unordered container
+        createRegistry().registerCommitCohort(
+            DataTreeIdentifier.create(LogicalDatastoreType.OPERATIONAL, UNORDERED_CONTAINER_PATH),
+            DataTreeCommitCohortFilter.builder().addChild(UnkeyedList.class).build(), mockCohort());
+    }
+
+    @Test
+    public void testCandidateRootedAboveRegisteredPath() {
+        final DataTreeCommitCohort<UnorderedContainer> cohort = mockCohort();
+        final DOMDataTreeCommitCohort domCohort = registerDomCohort(cohort);
+        final BindingToNormalizedNodeCodec codec = customizer.getBindingToNormalized();
+
+        // Candidate rooted at the parent of the registered container, touching another entry
+        final YangInstanceIdentifier listsPath = codec.toYangInstanceIdentifierBlocking(
+            InstanceIdentifier.create(Lists.class));
+        final DataTreeCandidateNode root = modifiedNode(listsPath, ModificationType.SUBTREE_MODIFIED);
+        final DataTreeCandidateNode container = modifiedChild(root, domPath(UNORDERED_CONTAINER_PATH),
+            ModificationType.SUBTREE_MODIFIED);
+        final YangInstanceIdentifier barPath = domPath(UNORDERED_CONTAINER_PATH.child(UnorderedList.class, BAR_KEY));
+        final DataTreeCandidateNode list = modifiedChild(container, barPath.getParent(),
+            ModificationType.SUBTREE_MODIFIED);
+        modifiedChild(list, barPath, ModificationType.WRITE);
+
+        final DOMDataTreeCandidate candidate = candidate(listsPath, root);
+        assertSame(PostCanCommitStep.NOOP_SUCCESS_FUTURE, domCohort.canCommit("tx", candidate, null));
+        verify(cohort, never()).canCommit(any(), any());
+
+        // The entry of interest is touched, too
+        modifiedChild(list, domPath(UNORDERED_CONTAINER_PATH.child(UnorderedList.class, FOO_KEY)),
+            ModificationType.WRITE);
+        domCohort.canCommit("tx", candidate, null);
+        verify(cohort).canCommit(any(), any());
+    }
+
+    @Test
+    public void testCandidateRootedBelowRegisteredPath() {
+        final DataTreeCommitCohort<UnorderedContainer> cohort = mockCohort();
+        final DOMDataTreeCommitCohort domCohort = registerDomCohort(cohort);
+
+        // Candidate rooted at another entry
+        final YangInstanceIdentifier barPath = domPath(UNORDERED_CONTAINER_PATH.child(UnorderedList.class, BAR_KEY));
+        assertSame(PostCanCommitStep.NOOP_SUCCESS_FUTURE, domCohort.canCommit("tx",
+            candidate(barPath, modifiedNode(barPath, ModificationType.WRITE)), null));
+        verify(cohort, never()).canCommit(any(), any());
+
+        // Candidate rooted at the entry of interest
+        final YangInstanceIdentifier fooPath = domPath(UNORDERED_CONTAINER_PATH.child(UnorderedList.class, FOO_KEY));
+        domCohort.canCommit("tx", candidate(fooPath, modifiedNode(fooPath, ModificationType.WRITE)), null);
+        verify(cohort).canCommit(any(), any());
+    }
+
+    /**
+     * Register a cohort interested in the foo entry of the unordered list and return the DOM cohort it is registered
+     * as, so that it can be invoked with arbitrary candidates.
+     */
+    private DOMDataTreeCommitCohort registerDomCohort(final DataTreeCommitCohort<UnorderedContainer> cohort) {
+        final DOMDataTreeCommitCohortRegistry domRegistry = mock(DOMDataTreeCommitCohortRegistry.class);
+        new BindingDOMDataTreeCommitCohortRegistryAdapter(customizer.getBindingToNormalized(), domRegistry)
+            .registerCommitCohort(DataTreeIdentifier.create(LogicalDatastoreType.OPERATIONAL,
+                UNORDERED_CONTAINER_PATH), DataTreeCommitCohortFilter.builder().addChildEntry(UnorderedList.class,
+                    FOO_KEY).build(), cohort);
+
+        final ArgumentCaptor<DOMDataTreeCommitCohort> captor = ArgumentCaptor.forClass(DOMDataTreeCommitCohort.class);
+        verify(domRegistry).registerCommitCohort(any(), captor.capture());
+        return captor.getValue();
+    }
+
+    private YangInstanceIdentifier domPath(final InstanceIdentifier<?> path) {
+        return customizer.getBindingToNormalized().toYangInstanceIdentifierBlocking(path);
+    }
+
+    private static DOMDataTreeCandidate candidate(final YangInstanceIdentifier path, final DataTreeCandidateNode root) {
+        final DOMDataTreeCandidate candidate = mock(DOMDataTreeCandidate.class);
+        doReturn(new DOMDataTreeIdentifier(LogicalDatastoreType.OPERATIONAL, path)).when(candidate).getRootPath();
+        doReturn(root).when(candidate).getRootNode();
+        return candidate;
+    }
+
+    private static DataTreeCandidateNode modifiedNode(final YangInstanceIdentifier path, final ModificationType type) {
+        final DataTreeCandidateNode node = mock(DataTreeCandidateNode.class);
+        doReturn(path.getLastPathArgument()).when(node).getIdentifier();
+        doReturn(type).when(node).getModificationType();
+        return node;
+    }
+
+    private static DataTreeCandidateNode modifiedChild(final DataTreeCandidateNode parent,
+            final YangInstanceIdentifier path, final ModificationType type) {
+        final DataTreeCandidateNode child = modifiedNode(path, type);
+        doReturn(child).when(parent).getModifiedChild(path.getLastPathArgument());
+        return child;
+    }
+}
@@ -0,0 +1,75 @@
+/*
+ * Copyright (c) 2017 Pantheon Technologies, s.r.o. and others.  All rights reserved.
+ *
+ * This program and the accompanying materials are made available under the
+ * terms of the Eclipse Public License v1.0 which accompanies this distribution,
+ * and is available at http://www.eclipse.org/legal/epl-v10.html
+ */
+package org.opendaylight.mdsal.binding.dom.adapter;
+
+import static org.mockito.Matchers.any;
+import static org.mockito.Matchers.eq;
+import static org.mockito.Mockito.mock;
+import static org.mockito.Mockito.times;
+import static org.mockito.Mockito.verify;
+
+import org.junit.Test;
+import org.opendaylight.mdsal.binding.dom.adapter.test.AbstractDataBrokerTest;
+import org.opendaylight.mdsal.binding.dom.adapter.test.DataBrokerTestCustomizer;
+import org.opendaylight.mdsal.common.api.LogicalDatastoreType;
+import org.opendaylight.mdsal.dom.api.DOMDataTreeWriteTransaction;
+import org.opendaylight.yang.gen.v1.urn.opendaylight.params.xml.ns.yang.mdsal.test.binding.rev140701.Top;
+import org.opendaylight.yang.gen.v1.urn.opendaylight.params.xml.ns.yang.mdsal.test.binding.rev140701.TopBuilder;
+import org.opendaylight.yang.gen.v1.urn.opendaylight.params.xml.ns.yang.mdsal.test.binding.rev140701.two.level.list.TopLevelList;
+import org.opendaylight.yang.gen.v1.urn.opendaylight.params.xml.ns.yang.mdsal.test.binding.rev140701.two.level.list.TopLevelListBuilder;
+import org.opendaylight.yang.gen.v1.urn.opendaylight.params.xml.ns.yang.mdsal.test.binding.rev140701.two.level.list.TopLevelListKey;
+import org.opendaylight.yangtools.yang.binding.InstanceIdentifier;
+import org.opendaylight.yangtools.yang.data.api.YangInstanceIdentifier;
+
+public class BindingDOMWriteTransactionAdapterTest extends AbstractDataBrokerTest {
+    private static final InstanceIdentifier<Top> TOP_PATH = InstanceIdentifier.create(Top.class);
+    private static final TopLevelListKey FOO_KEY = new TopLevelListKey("foo");
+    private static final TopLevelListKey BAR_KEY = new TopLevelListKey("bar");
+
+    private DataBrokerTestCustomizer customizer;
+
+    @Override
+    protected DataBrokerTestCustomizer createDataBrokerTestCustomizer() {
+        customizer = super.createDataBrokerTestCustomizer();
+        return customizer;
+    }
+
+    @Test
+    public void testListParentMergedOnce() {
+        final DOMDataTreeWriteTransaction delegate = mock(DOMDataTreeWriteTransaction.class);
+        final BindingToNormalizedNodeCodec codec = customizer.getBindingToNormalized();
+        final BindingDOMWriteTransactionAdapter<?> adapter = new BindingDOMWriteTransactionAdapter<>(delegate, codec);
+
+        adapter.put(LogicalDatastoreType.OPERATIONAL, TOP_PATH.child(TopLevelList.class, FOO_KEY),
+            new TopLevelListBuilder().setKey(FOO_KEY).build());
+        adapter.put(LogicalDatastoreType.OPERATIONAL, TOP_PATH.child(TopLevelList.class, BAR_KEY),
+            new TopLevelListBuilder().setKey(BAR_KEY).build());
+
+        final YangInstanceIdentifier listPath = codec.toYangInstanceIdentifierBlocking(
+            TOP_PATH.child(TopLevelList.class, FOO_KEY)).getParent();
+        verify(delegate, times(1)).merge(eq(LogicalDatastoreType.OPERATIONAL), eq(listPath), any());
+        verify(delegate, times(2)).put(eq(LogicalDatastoreType.OPERATIONAL), any(), any());
+    }
+
+    @Test
+    public void testListParentMergedAgainAfterParentPut() {
+        final DOMDataTreeWriteTransaction delegate = mock(DOMDataTreeWriteTransaction.class);
+        final BindingToNormalizedNodeCodec codec = customizer.getBindingToNormalized();
+        final BindingDOMWriteTransactionAdapter<?> adapter = new BindingDOMWriteTransactionAdapter<>(delegate, codec);
+
+        adapter.put(LogicalDatastoreType.OPERATIONAL, TOP_PATH.child(TopLevelList.class, FOO_KEY),
+            new TopLevelListBuilder().setKey(FOO_KEY).build());
+        adapter.put(LogicalDatastoreType.OPERATIONAL, TOP_PATH, new TopBuilder().build());
+        adapter.put(LogicalDatastoreType.OPERATIONAL, TOP_PATH.child(TopLevelList.class, BAR_KEY),
+            new TopLevelListBuilder().setKey(BAR_KEY).build());
+
+        final YangInstanceIdentifier listPath = codec.toYangInstanceIdentifierBlocking(
+            TOP_PATH.child(TopLevelList.class, FOO_KEY)).getParent();
+        verify(delegate, times(2)).merge(eq(LogicalDatastoreType.OPERATIONAL), eq(listPath), any());
+    }
+}
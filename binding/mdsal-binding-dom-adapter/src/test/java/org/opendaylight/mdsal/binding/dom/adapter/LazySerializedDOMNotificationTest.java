@@ -8,13 +8,18 @@
 package org.opendaylight.mdsal.binding.dom.adapter;
 
 import static org.junit.Assert.assertEquals;
+import static org.junit.Assert.assertNull;
+import static org.junit.Assert.assertSame;
 import static org.mockito.Matchers.any;
 import static org.mockito.Mockito.doReturn;
 import static org.mockito.Mockito.mock;
+import static org.mockito.Mockito.times;
+import static org.mockito.Mockito.verify;
 
 import org.junit.Test;
 import org.opendaylight.mdsal.binding.dom.codec.api.BindingNormalizedNodeSerializer;
 import org.opendaylight.mdsal.dom.api.DOMNotification;
+import org.opendaylight.yang.gen.v1.urn.opendaylight.params.xml.ns.yang.mdsal.test.binding.rev140701.TwoLevelListChanged;
 import org.opendaylight.yang.gen.v1.urn.opendaylight.params.xml.ns.yang.mdsal.test.binding.rev140701.TwoLevelListChangedBuilder;
 import org.opendaylight.yangtools.yang.data.api.schema.ContainerNode;
 
@@ -28,5 +33,18 @@ public class LazySerializedDOMNotificationTest {
         ContainerNode containerNode = mock(ContainerNode.class);
         doReturn(containerNode).when(codec).toNormalizedNodeNotification(any());
         assertEquals(containerNode, lazySerializedDOMNotification.getBody());
+        assertEquals(containerNode, lazySerializedDOMNotification.getBody());
+        verify(codec, times(1)).toNormalizedNodeNotification(any());
+    }
+
+    @Test
+    public void bindingDataTest() throws Exception {
+        final BindingNormalizedNodeSerializer codec = mock(BindingNormalizedNodeSerializer.class);
+        final TwoLevelListChanged data = new TwoLevelListChangedBuilder().build();
+        final LazySerializedDOMNotification notification =
+                (LazySerializedDOMNotification) LazySerializedDOMNotification.create(codec, data);
+
+        assertSame(data, notification.getBindingData(codec));
+        assertNull(notification.getBindingData(mock(BindingNormalizedNodeSerializer.class)));
     }
 }
\ No newline at end of file
@@ -119,6 +119,22 @@ public class DataTreeChangeListenerTest extends AbstractDataBrokerTest {
         dataBrokerImpl.registerDataTreeChangeListener(TOP_IDENTIFIER, listener).close();
     }
 
+    @Test
+    public void testModifiedChildrenByType() throws Exception {
+        final EventCapturingListener<Top> listener = new EventCapturingListener<>();
+        dataBrokerImpl.registerDataTreeChangeListener(TOP_IDENTIFIER, listener);
+
+        putTx(TOP_PATH, TOP_INITIAL_DATA).submit().checkedGet();
+        final DataObjectModification<Top> topWrite = Iterables.getOnlyElement(listener.nextEvent()).getRootNode();
+        verifyModification(Iterables.getOnlyElement(topWrite.getModifiedChildren(TopLevelList.class)),
+            FOO_ARGUMENT, ModificationType.WRITE);
+
+        putTx(BAR_PATH, BAR_DATA).submit().checkedGet();
+        final DataObjectModification<Top> barWrite = Iterables.getOnlyElement(listener.nextEvent()).getRootNode();
+        verifyModification(Iterables.getOnlyElement(barWrite.getModifiedChildren(TopLevelList.class)),
+            BAR_ARGUMENT, ModificationType.WRITE);
+    }
+
     @Test
     public void testWildcardedListListener() throws Exception {
         final EventCapturingListener<TopLevelList> listener = new EventCapturingListener<>();
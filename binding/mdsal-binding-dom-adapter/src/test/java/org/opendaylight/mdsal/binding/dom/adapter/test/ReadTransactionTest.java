@@ -0,0 +1,50 @@
+/*
+ * Copyright (c) 2017 Pantheon Technologies, s.r.o. and others.  All rights reserved.
+ *
+ * This program and the accompanying materials are made available under the
+ * terms of the Eclipse Public License v1.0 which accompanies this distribution,
+ * and is available at http://www.eclipse.org/legal/epl-v10.html
+ */
+package org.opendaylight.mdsal.binding.dom.adapter.test;
+
+import static org.junit.Assert.assertEquals;
+import static org.junit.Assert.assertFalse;
+
+import com.google.common.base.Optional;
+import com.google.common.collect.ImmutableList;
+import java.util.Map;
+import java.util.concurrent.ExecutionException;
+import org.junit.Test;
+import org.opendaylight.mdsal.binding.api.ReadTransaction;
+import org.opendaylight.mdsal.binding.api.WriteTransaction;
+import org.opendaylight.mdsal.common.api.LogicalDatastoreType;
+import org.opendaylight.yang.gen.v1.urn.opendaylight.params.xml.ns.yang.mdsal.test.binding.rev140701.Top;
+import org.opendaylight.yang.gen.v1.urn.opendaylight.params.xml.ns.yang.mdsal.test.binding.rev140701.two.level.list.TopLevelList;
+import org.opendaylight.yang.gen.v1.urn.opendaylight.params.xml.ns.yang.mdsal.test.binding.rev140701.two.level.list.TopLevelListBuilder;
+import org.opendaylight.yang.gen.v1.urn.opendaylight.params.xml.ns.yang.mdsal.test.binding.rev140701.two.level.list.TopLevelListKey;
+import org.opendaylight.yangtools.yang.binding.InstanceIdentifier;
+
+public class ReadTransactionTest extends AbstractDataBrokerTest {
+
+    private static final InstanceIdentifier<Top> TOP_PATH = InstanceIdentifier.create(Top.class);
+    private static final TopLevelListKey TOP_LIST_KEY = new TopLevelListKey("foo");
+    private static final InstanceIdentifier<TopLevelList> NODE_PATH = TOP_PATH.child(TopLevelList.class, TOP_LIST_KEY);
+    private static final TopLevelList NODE = new TopLevelListBuilder().setKey(TOP_LIST_KEY).build();
+    private static final InstanceIdentifier<TopLevelList> OTHER_NODE_PATH = TOP_PATH.child(TopLevelList.class,
+        new TopLevelListKey("bar"));
+
+    @Test
+    public void testReadAll() throws InterruptedException, ExecutionException {
+        final WriteTransaction writeTx = getDataBroker().newWriteOnlyTransaction();
+        writeTx.put(LogicalDatastoreType.OPERATIONAL, NODE_PATH, NODE, true);
+        writeTx.submit().get();
+
+        final ReadTransaction readTx = getDataBroker().newReadOnlyTransaction();
+        final Map<InstanceIdentifier<TopLevelList>, Optional<TopLevelList>> results = readTx.readAll(
+            LogicalDatastoreType.OPERATIONAL, ImmutableList.of(OTHER_NODE_PATH, NODE_PATH, OTHER_NODE_PATH)).get();
+        assertEquals("Results must be in order of requested paths, without duplicates",
+            ImmutableList.of(OTHER_NODE_PATH, NODE_PATH), ImmutableList.copyOf(results.keySet()));
+        assertEquals(NODE, results.get(NODE_PATH).get());
+        assertFalse("Missing list node must be reported as absent", results.get(OTHER_NODE_PATH).isPresent());
+    }
+}
@@ -7,6 +7,7 @@
  */
 package org.opendaylight.mdsal.binding.dom.adapter.test;
 
+import static org.junit.Assert.assertFalse;
 import static org.junit.Assert.assertTrue;
 
 import com.google.common.base.Optional;
@@ -29,6 +30,10 @@ public class WriteTransactionTest extends AbstractDataBrokerTest {
     private static final TopLevelListKey TOP_LIST_KEY = new TopLevelListKey("foo");
     private static final InstanceIdentifier<TopLevelList> NODE_PATH = TOP_PATH.child(TopLevelList.class, TOP_LIST_KEY);
     private static final TopLevelList NODE = new TopLevelListBuilder().setKey(TOP_LIST_KEY).build();
+    private static final TopLevelListKey OTHER_LIST_KEY = new TopLevelListKey("bar");
+    private static final InstanceIdentifier<TopLevelList> OTHER_NODE_PATH = TOP_PATH.child(TopLevelList.class,
+        OTHER_LIST_KEY);
+    private static final TopLevelList OTHER_NODE = new TopLevelListBuilder().setKey(OTHER_LIST_KEY).build();
 
     @Test
     public void test() throws InterruptedException, ExecutionException {
@@ -68,4 +73,38 @@ public class WriteTransactionTest extends AbstractDataBrokerTest {
         assertTrue("List node must exists after commit",listNode.isPresent());
     }
 
+    @Test
+    public void testPutCreateParentsAfterDelete() throws TransactionCommitFailedException,
+            InterruptedException, ExecutionException {
+
+        final WriteTransaction writeTx = getDataBroker().newWriteOnlyTransaction();
+        writeTx.put(LogicalDatastoreType.OPERATIONAL, NODE_PATH, NODE, true);
+        writeTx.delete(LogicalDatastoreType.OPERATIONAL, TOP_PATH);
+        // Parents have been removed and need to be created again
+        writeTx.put(LogicalDatastoreType.OPERATIONAL, OTHER_NODE_PATH, OTHER_NODE, true);
+        writeTx.submit().checkedGet();
+
+        final ReadTransaction readTx = getDataBroker().newReadOnlyTransaction();
+        assertFalse("Deleted list node must not exist after commit",
+            readTx.read(LogicalDatastoreType.OPERATIONAL, NODE_PATH).get().isPresent());
+        assertTrue("List node must exist after commit",
+            readTx.read(LogicalDatastoreType.OPERATIONAL, OTHER_NODE_PATH).get().isPresent());
+    }
+
+    @Test
+    public void testPutListParentAfterParentPut() throws InterruptedException, ExecutionException {
+        final WriteTransaction writeTx = getDataBroker().newWriteOnlyTransaction();
+        writeTx.put(LogicalDatastoreType.OPERATIONAL, TOP_PATH, new TopBuilder().build());
+        writeTx.put(LogicalDatastoreType.OPERATIONAL, NODE_PATH, NODE);
+        // Replaces the list created by the previous put, hence it needs to be created again
+        writeTx.put(LogicalDatastoreType.OPERATIONAL, TOP_PATH, new TopBuilder().build());
+        writeTx.put(LogicalDatastoreType.OPERATIONAL, OTHER_NODE_PATH, OTHER_NODE);
+        writeTx.submit().get();
+
+        final ReadTransaction readTx = getDataBroker().newReadOnlyTransaction();
+        assertFalse("Replaced list node must not exist after commit",
+            readTx.read(LogicalDatastoreType.OPERATIONAL, NODE_PATH).get().isPresent());
+        assertTrue("List node must exist after commit",
+            readTx.read(LogicalDatastoreType.OPERATIONAL, OTHER_NODE_PATH).get().isPresent());
+    }
 }
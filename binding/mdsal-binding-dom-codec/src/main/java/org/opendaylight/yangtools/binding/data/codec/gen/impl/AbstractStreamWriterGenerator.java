@@ -98,6 +98,13 @@ abstract class AbstractStreamWriterGenerator extends AbstractGenerator implement
         return implementations.getUnchecked(cls).getClass().getName();
     }
 
+    /**
+     * Loader of serializer implementations. An implementation class named {@code <binding class>$StreamWriter},
+     * visible from the binding class' class loader and exposing a static {@code getInstance()} method, is used if
+     * present. This covers both serializers provided with the binding classes, which avoid any runtime code
+     * generation, and serializers generated by this generator into the same class loader previously. Javassist
+     * generation is used only as a fallback.
+     */
     private final class SerializerImplementationLoader extends CacheLoader<Class<?>, DataObjectSerializerImplementation> {
 
         private static final String GETINSTANCE_METHOD_NAME = "getInstance";
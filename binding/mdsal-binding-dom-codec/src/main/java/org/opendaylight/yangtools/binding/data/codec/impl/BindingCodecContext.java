@@ -9,6 +9,7 @@ package org.opendaylight.yangtools.binding.data.codec.impl;
 
 import com.google.common.base.Preconditions;
 import com.google.common.collect.ImmutableMap;
+import com.google.common.collect.ImmutableSet;
 import java.lang.reflect.Method;
 import java.lang.reflect.ParameterizedType;
 import java.lang.reflect.Type;
@@ -19,11 +20,13 @@ import java.util.LinkedList;
 import java.util.List;
 import java.util.Map;
 import java.util.Map.Entry;
+import java.util.Set;
 import java.util.concurrent.Callable;
 import javax.annotation.Nonnull;
 import javax.annotation.Nullable;
 import org.opendaylight.mdsal.binding.dom.codec.api.BindingCodecTree;
 import org.opendaylight.mdsal.binding.dom.codec.api.BindingCodecTreeNode;
+import org.opendaylight.mdsal.binding.generator.api.ClassLoadingStrategy;
 import org.opendaylight.mdsal.binding.generator.util.BindingRuntimeContext;
 import org.opendaylight.mdsal.binding.model.api.GeneratedType;
 import org.opendaylight.yangtools.binding.data.codec.impl.NodeCodecContext.CodecContextFactory;
@@ -42,6 +45,7 @@ import org.opendaylight.yangtools.yang.binding.InstanceIdentifier.IdentifiableIt
 import org.opendaylight.yangtools.yang.binding.Notification;
 import org.opendaylight.yangtools.yang.binding.util.BindingReflections;
 import org.opendaylight.yangtools.yang.common.QName;
+import org.opendaylight.yangtools.yang.common.QNameModule;
 import org.opendaylight.yangtools.yang.data.api.YangInstanceIdentifier;
 import org.opendaylight.yangtools.yang.data.api.YangInstanceIdentifier.NodeIdentifierWithPredicates;
 import org.opendaylight.yangtools.yang.data.api.schema.stream.NormalizedNodeStreamWriter;
@@ -50,6 +54,8 @@ import org.opendaylight.yangtools.yang.model.api.DataSchemaNode;
 import org.opendaylight.yangtools.yang.model.api.LeafListSchemaNode;
 import org.opendaylight.yangtools.yang.model.api.LeafSchemaNode;
 import org.opendaylight.yangtools.yang.model.api.ListSchemaNode;
+import org.opendaylight.yangtools.yang.model.api.Module;
+import org.opendaylight.yangtools.yang.model.api.SchemaContext;
 import org.opendaylight.yangtools.yang.model.api.SchemaPath;
 import org.opendaylight.yangtools.yang.model.api.TypeDefinition;
 import org.opendaylight.yangtools.yang.model.api.TypedSchemaNode;
@@ -65,6 +71,7 @@ import org.slf4j.LoggerFactory;
 final class BindingCodecContext implements CodecContextFactory, BindingCodecTree, Immutable {
     private static final Logger LOG = LoggerFactory.getLogger(BindingCodecContext.class);
 
+    private final Set<QNameModule> modules;
     private final Codec<YangInstanceIdentifier, InstanceIdentifier<?>> instanceIdentifierCodec;
     private final Codec<QName, Class<?>> identityCodec;
     private final BindingNormalizedNodeCodecRegistry registry;
@@ -77,6 +84,35 @@ final class BindingCodecContext implements CodecContextFactory, BindingCodecTree
         this.identityCodec = new IdentityCodec(context);
         this.instanceIdentifierCodec = new InstanceIdentifierCodec(this);
         this.registry = Preconditions.checkNotNull(registry);
+        this.modules = moduleSetOf(context.getSchemaContext());
+    }
+
+    private static Set<QNameModule> moduleSetOf(final SchemaContext schemaContext) {
+        final ImmutableSet.Builder<QNameModule> builder = ImmutableSet.builder();
+        for (final Module module : schemaContext.getModules()) {
+            builder.add(module.getQNameModule());
+        }
+        return builder.build();
+    }
+
+    /**
+     * Check whether this codec context can be used in place of a context created for specified runtime context.
+     * This is the case when both contexts load classes through the same {@link ClassLoadingStrategy} and their
+     * schema contexts are composed of the same set of module revisions, as YANG guarantees a particular revision
+     * of a module does not change.
+     *
+     * @param newContext Updated runtime context
+     * @return True if this codec context's nodes are valid for the updated runtime context.
+     */
+    boolean isReusableFor(final BindingRuntimeContext newContext) {
+        if (context == newContext) {
+            return true;
+        }
+        if (context.getStrategy() != newContext.getStrategy()) {
+            return false;
+        }
+        final SchemaContext newSchema = newContext.getSchemaContext();
+        return context.getSchemaContext() == newSchema || modules.equals(moduleSetOf(newSchema));
     }
 
     @Override
@@ -84,6 +120,10 @@ final class BindingCodecContext implements CodecContextFactory, BindingCodecTree
         return context;
     }
 
+    DataContainerCodecContext<?,?> getRoot() {
+        return root;
+    }
+
     Codec<YangInstanceIdentifier, InstanceIdentifier<?>> getInstanceIdentifierCodec() {
         return instanceIdentifierCodec;
     }
@@ -18,6 +18,9 @@ import java.util.AbstractMap.SimpleEntry;
 import java.util.ArrayList;
 import java.util.List;
 import java.util.Map.Entry;
+import java.util.Set;
+import java.util.function.Consumer;
+import javax.annotation.Nullable;
 import org.opendaylight.mdsal.binding.dom.codec.api.BindingCodecTree;
 import org.opendaylight.mdsal.binding.dom.codec.api.BindingCodecTreeFactory;
 import org.opendaylight.mdsal.binding.dom.codec.api.BindingNormalizedNodeSerializer;
@@ -36,6 +39,7 @@ import org.opendaylight.yangtools.yang.binding.InstanceIdentifier;
 import org.opendaylight.yangtools.yang.binding.InstanceIdentifier.PathArgument;
 import org.opendaylight.yangtools.yang.binding.Notification;
 import org.opendaylight.yangtools.yang.binding.util.BindingReflections;
+import org.opendaylight.yangtools.yang.common.QNameModule;
 import org.opendaylight.yangtools.yang.data.api.YangInstanceIdentifier;
 import org.opendaylight.yangtools.yang.data.api.schema.ChoiceNode;
 import org.opendaylight.yangtools.yang.data.api.schema.ContainerNode;
@@ -48,7 +52,13 @@ import org.opendaylight.yangtools.yang.data.api.schema.UnkeyedListNode;
 import org.opendaylight.yangtools.yang.data.api.schema.stream.NormalizedNodeStreamWriter;
 import org.opendaylight.yangtools.yang.data.impl.schema.ImmutableNormalizedNodeStreamWriter;
 import org.opendaylight.yangtools.yang.data.impl.schema.NormalizedNodeResult;
+import org.opendaylight.yangtools.yang.model.api.ContainerSchemaNode;
+import org.opendaylight.yangtools.yang.model.api.DataSchemaNode;
+import org.opendaylight.yangtools.yang.model.api.ListSchemaNode;
+import org.opendaylight.yangtools.yang.model.api.Module;
+import org.opendaylight.yangtools.yang.model.api.NotificationDefinition;
 import org.opendaylight.yangtools.yang.model.api.SchemaContext;
+import org.opendaylight.yangtools.yang.model.api.SchemaNode;
 import org.opendaylight.yangtools.yang.model.api.SchemaPath;
 import org.slf4j.Logger;
 import org.slf4j.LoggerFactory;
@@ -72,11 +82,61 @@ public class BindingNormalizedNodeCodecRegistry implements DataObjectSerializerR
         return serializers.getUnchecked(type);
     }
 
+    /**
+     * Instantiate serializers for all top-level containers, lists and notifications defined in specified modules,
+     * and for everything reachable from them. Serializers are otherwise instantiated lazily on first use, which puts
+     * their discovery or generation on the path of the first request touching a particular type. Applications which
+     * are sensitive to that latency can invoke this method once the runtime context has been set.
+     *
+     * @param modules Modules whose serializers should be instantiated
+     * @throws IllegalStateException if this registry has not been initialized with a runtime context
+     */
+    public void prepareSerializers(final Set<QNameModule> modules) {
+        final BindingCodecContext context = codecContext;
+        Preconditions.checkState(context != null, "Runtime context has not been set");
+        final BindingRuntimeContext runtime = context.getRuntimeContext();
+
+        for (final Module module : runtime.getSchemaContext().getModules()) {
+            if (modules.contains(module.getQNameModule())) {
+                for (final DataSchemaNode child : module.getChildNodes()) {
+                    if (child instanceof ContainerSchemaNode || child instanceof ListSchemaNode) {
+                        prepareSerializer(runtime, child);
+                    }
+                }
+                for (final NotificationDefinition notification : module.getNotifications()) {
+                    prepareSerializer(runtime, notification);
+                }
+            }
+        }
+    }
+
+    private void prepareSerializer(final BindingRuntimeContext runtime, final SchemaNode schema) {
+        final Class<?> cls;
+        try {
+            cls = runtime.getClassForSchema(schema);
+        } catch (final IllegalStateException e) {
+            LOG.warn("Failed to load binding class for {}, not preparing its serializer", schema.getPath(), e);
+            return;
+        }
+        getSerializer(cls.asSubclass(DataObject.class));
+    }
+
     public BindingCodecTree getCodecContext() {
         return codecContext;
     }
 
     public void onBindingRuntimeContextUpdated(final BindingRuntimeContext context) {
+        final BindingCodecContext previous = codecContext;
+        if (previous != null && previous.isReusableFor(context)) {
+            /*
+             * Module set has not changed, hence all codec nodes instantiated so far are still valid. Retain them
+             * instead of paying for their lazy reconstruction. The generator keeps the previous runtime context too,
+             * so that the codec tree, serializers and prepareSerializers() all operate on the same one.
+             */
+            LOG.debug("Retaining codec context {}, as it is equivalent to runtime context {}", previous, context);
+            return;
+        }
+
         codecContext = create(context);
         generator.onBindingRuntimeContextUpdated(context);
     }
@@ -226,6 +286,31 @@ public class BindingNormalizedNodeCodecRegistry implements DataObjectSerializerR
         return codecContext.newRpcWriter(rpcInputOrOutput,streamWriter);
     }
 
+    /**
+     * Create a {@link NormalizedNodeStreamWriter} which deserializes items identified by specified path as they are
+     * streamed into it, handing each completed item to specified consumer. Unlike {@link #fromNormalizedNode}, this
+     * does not require the normalized node of all items to exist at the same time. Each item retains only its own
+     * normalized node, see {@link NormalizedToBindingStreamWriter} for details.
+     *
+     * @param path Wildcarded path to a list or a path to a container
+     * @param consumer Consumer receiving deserialized items
+     * @param projection Optional set of YANG local names of child nodes which should be retained in deserialized
+     *                   items, null if all children should be retained. Applies to direct children of each
+     *                   item only, a retained child is retained with all of its descendants.
+     * @return Stream writer accepting events for items identified by path
+     * @throws IllegalArgumentException if path does not identify a container or a list
+     * @throws IllegalStateException if no runtime context has been set
+     */
+    public <T extends DataObject> NormalizedNodeStreamWriter newDataObjectReader(final InstanceIdentifier<T> path,
+            final Consumer<? super T> consumer, @Nullable final Set<String> projection) {
+        final BindingCodecContext context = codecContext;
+        Preconditions.checkState(context != null, "Runtime context has not been set");
+        @SuppressWarnings("unchecked")
+        final DataContainerCodecContext<T, ?> ctx =
+                (DataContainerCodecContext<T, ?>) context.getCodecContextNode(path, null);
+        return new NormalizedToBindingStreamWriter<>(ctx, consumer, projection);
+    }
+
     public <T extends DataObject> Function<Optional<NormalizedNode<?, ?>>, Optional<T>>  deserializeFunction(final InstanceIdentifier<T> path) {
         final DataObjectCodecContext<?,?> ctx = (DataObjectCodecContext<?,?>) codecContext.getCodecContextNode(path, null);
         return new DeserializeFunction<>(ctx);
@@ -8,26 +8,176 @@
 package org.opendaylight.yangtools.binding.data.codec.impl;
 
 import com.google.common.base.Preconditions;
+import com.google.common.collect.Interner;
+import com.google.common.collect.Interners;
 import com.google.common.collect.Iterables;
 import java.util.ArrayList;
+import java.util.Arrays;
 import java.util.List;
+import java.util.concurrent.ConcurrentHashMap;
+import java.util.concurrent.ConcurrentMap;
 import org.opendaylight.yangtools.concepts.Codec;
 import org.opendaylight.yangtools.yang.binding.InstanceIdentifier;
+import org.opendaylight.yangtools.yang.binding.InstanceIdentifier.IdentifiableItem;
 import org.opendaylight.yangtools.yang.data.api.YangInstanceIdentifier;
 import org.opendaylight.yangtools.yang.data.api.YangInstanceIdentifier.PathArgument;
 
 final class InstanceIdentifierCodec implements Codec<YangInstanceIdentifier, InstanceIdentifier<?>> {
+    /**
+     * Shape of a binding path: the sequence of binding classes along with an indication whether each step is keyed.
+     * All paths of the same shape translate to the same sequence of codec nodes, differing only in key values.
+     */
+    private static final class PathShape {
+        private final Class<?>[] types;
+        private final boolean[] keyed;
+        private final int hashCode;
+
+        PathShape(final InstanceIdentifier<?> path) {
+            final int size = Iterables.size(path.getPathArguments());
+            types = new Class<?>[size];
+            keyed = new boolean[size];
+
+            int offset = 0;
+            for (final InstanceIdentifier.PathArgument arg : path.getPathArguments()) {
+                types[offset] = arg.getType();
+                keyed[offset] = arg instanceof IdentifiableItem;
+                offset++;
+            }
+            hashCode = 31 * Arrays.hashCode(types) + Arrays.hashCode(keyed);
+        }
+
+        @Override
+        public int hashCode() {
+            return hashCode;
+        }
+
+        @Override
+        public boolean equals(final Object obj) {
+            if (this == obj) {
+                return true;
+            }
+            if (!(obj instanceof PathShape)) {
+                return false;
+            }
+            final PathShape other = (PathShape) obj;
+            return hashCode == other.hashCode && Arrays.equals(types, other.types)
+                    && Arrays.equals(keyed, other.keyed);
+        }
+    }
+
+    /**
+     * Precomputed translation of a {@link PathShape}. Each binding step emits a fixed set of DOM arguments, followed
+     * by a key argument for keyed list steps.
+     */
+    private static final class PathPlan {
+        private final PathArgument[][] fixed;
+        private final KeyedListNodeCodecContext<?>[] keyCodecs;
+        private final int size;
+
+        PathPlan(final PathArgument[][] fixed, final KeyedListNodeCodecContext<?>[] keyCodecs) {
+            this.fixed = fixed;
+            this.keyCodecs = keyCodecs;
+
+            int count = 0;
+            for (int i = 0; i < fixed.length; ++i) {
+                count += fixed[i].length;
+                if (keyCodecs[i] != null) {
+                    count++;
+                }
+            }
+            this.size = count;
+        }
+
+        PathArgument[] serialize(final InstanceIdentifier<?> input) {
+            final PathArgument[] args = new PathArgument[size];
+            int offset = 0;
+            int step = 0;
+            for (final InstanceIdentifier.PathArgument arg : input.getPathArguments()) {
+                final PathArgument[] stepArgs = fixed[step];
+                System.arraycopy(stepArgs, 0, args, offset, stepArgs.length);
+                offset += stepArgs.length;
+
+                final KeyedListNodeCodecContext<?> keyCodec = keyCodecs[step];
+                if (keyCodec != null) {
+                    args[offset++] = keyCodec.serializePathArgument(arg);
+                }
+                step++;
+            }
+            return args;
+        }
+    }
+
+    /**
+     * System property enabling interning of identifiers produced by this codec. When enabled, equal binding
+     * identifiers are canonicalized to a single instance and each ancestor of a DOM identifier is canonicalized, so
+     * that DOM identifiers share their common ancestor chain. This reduces heap usage and makes equality checks of
+     * identifiers retained by applications short-circuit on identity, at the cost of an interner lookup for each
+     * translated identifier.
+     */
+    static final String INTERN_IDENTIFIERS_PROP = "org.opendaylight.mdsal.binding.dom.codec.internIdentifiers";
+
+    private static final Interner<YangInstanceIdentifier> DOM_INTERNER = Interners.newWeakInterner();
+    private static final Interner<InstanceIdentifier<?>> BINDING_INTERNER = Interners.newWeakInterner();
+
+    private final ConcurrentMap<PathShape, PathPlan> plans = new ConcurrentHashMap<>();
     private final BindingCodecContext context;
+    private final boolean intern;
 
     InstanceIdentifierCodec(final BindingCodecContext context) {
         this.context = Preconditions.checkNotNull(context);
+        this.intern = Boolean.getBoolean(INTERN_IDENTIFIERS_PROP);
     }
 
     @Override
     public YangInstanceIdentifier serialize(final InstanceIdentifier<?> input) {
-        final List<PathArgument> domArgs = new ArrayList<>();
-        context.getCodecContextNode(input, domArgs);
-        return YangInstanceIdentifier.create(domArgs);
+        final PathShape shape = new PathShape(input);
+        PathPlan plan = plans.get(shape);
+        if (plan == null) {
+            plan = createPlan(input);
+            final PathPlan existing = plans.putIfAbsent(shape, plan);
+            if (existing != null) {
+                plan = existing;
+            }
+        }
+
+        final PathArgument[] args = plan.serialize(input);
+        if (!intern) {
+            return YangInstanceIdentifier.create(args);
+        }
+        if (args.length < 2) {
+            return DOM_INTERNER.intern(YangInstanceIdentifier.create(args));
+        }
+
+        // Intern each ancestor, stacking it on its canonical parent, and stack the last argument on top
+        YangInstanceIdentifier parent = DOM_INTERNER.intern(YangInstanceIdentifier.create(args[0]));
+        for (int i = 1; i < args.length - 1; ++i) {
+            parent = DOM_INTERNER.intern(parent.node(args[i]));
+        }
+        return parent.node(args[args.length - 1]);
+    }
+
+    private PathPlan createPlan(final InstanceIdentifier<?> input) {
+        final int depth = Iterables.size(input.getPathArguments());
+        final PathArgument[][] fixed = new PathArgument[depth][];
+        final KeyedListNodeCodecContext<?>[] keyCodecs = new KeyedListNodeCodecContext<?>[depth];
+
+        final List<PathArgument> stepArgs = new ArrayList<>(3);
+        DataContainerCodecContext<?,?> currentNode = context.getRoot();
+        int step = 0;
+        for (final InstanceIdentifier.PathArgument bindingArg : input.getPathArguments()) {
+            stepArgs.clear();
+            currentNode = currentNode.bindingPathArgumentChild(bindingArg, stepArgs);
+            Preconditions.checkArgument(currentNode != null, "Supplied Instance Identifier %s is not valid.", input);
+
+            if (bindingArg instanceof IdentifiableItem && currentNode instanceof KeyedListNodeCodecContext) {
+                // Last argument is the key, which we need to compute for each path
+                keyCodecs[step] = (KeyedListNodeCodecContext<?>) currentNode;
+                stepArgs.remove(stepArgs.size() - 1);
+            }
+            fixed[step] = stepArgs.toArray(new PathArgument[stepArgs.size()]);
+            step++;
+        }
+        return new PathPlan(fixed, keyCodecs);
     }
 
     @Override
@@ -42,6 +192,7 @@ final class InstanceIdentifierCodec implements Codec<YangInstanceIdentifier, Ins
             // which is not binding representable.
             return null;
         }
-        return InstanceIdentifier.create(builder);
+        final InstanceIdentifier<?> ret = InstanceIdentifier.create(builder);
+        return intern ? BINDING_INTERNER.intern(ret) : ret;
     }
-}
\ No newline at end of file
+}
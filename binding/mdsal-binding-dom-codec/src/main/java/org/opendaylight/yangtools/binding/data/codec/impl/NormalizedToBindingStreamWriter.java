@@ -0,0 +1,278 @@
+/*
+ * Copyright (c) 2016 Cisco Systems, Inc. and others.  All rights reserved.
+ *
+ * This program and the accompanying materials are made available under the
+ * terms of the Eclipse Public License v1.0 which accompanies this distribution,
+ * and is available at http://www.eclipse.org/legal/epl-v10.html
+ */
+package org.opendaylight.yangtools.binding.data.codec.impl;
+
+import com.google.common.base.Preconditions;
+import com.google.common.collect.ImmutableSet;
+import java.io.IOException;
+import java.util.Set;
+import java.util.function.Consumer;
+import javax.annotation.Nullable;
+import org.opendaylight.yangtools.yang.binding.DataObject;
+import org.opendaylight.yangtools.yang.common.QName;
+import org.opendaylight.yangtools.yang.data.api.YangInstanceIdentifier.AugmentationIdentifier;
+import org.opendaylight.yangtools.yang.data.api.YangInstanceIdentifier.NodeIdentifier;
+import org.opendaylight.yangtools.yang.data.api.YangInstanceIdentifier.NodeIdentifierWithPredicates;
+import org.opendaylight.yangtools.yang.data.api.YangInstanceIdentifier.PathArgument;
+import org.opendaylight.yangtools.yang.data.api.schema.stream.NormalizedNodeStreamWriter;
+import org.opendaylight.yangtools.yang.data.impl.schema.ImmutableNormalizedNodeStreamWriter;
+import org.opendaylight.yangtools.yang.data.impl.schema.NormalizedNodeResult;
+
+/**
+ * {@link NormalizedNodeStreamWriter} counterpart of {@link BindingToNormalizedStreamWriter}. It consumes a stream
+ * of events describing a sequence of items of a single binding type, for example entries of a list, and hands each
+ * item off as a Binding {@link DataObject} as soon as its end event is seen.
+ *
+ * <p>
+ * Only the normalized node of the item being currently read is built, hence peak memory is proportional to the
+ * largest item, not to the whole stream. Items may optionally be projected to a subset of their children, identified
+ * by their YANG local names, in which case events for other children are dropped before any node is built for them.
+ * Projection applies to direct children of each item only: a retained child is retained with all of its descendants.
+ * Key leaves of list entries are always retained.
+ *
+ * <p>
+ * Handed-off items are the codec's usual lazy objects, backed by the normalized node of that item. An item therefore
+ * retains its own normalized node for as long as it is reachable, but nothing of the items before or after it. This
+ * avoids copying each item into a builder, at the cost of keeping the normalized node alongside any values already
+ * read through the item. Consumers which hold on to items for long and care about their footprint should project
+ * them down to the children they need.
+ *
+ * <p>
+ * The stream may either start directly with item events or enclose them in a single list event, as emitted when
+ * a whole list is written.
+ *
+ * @param <T> Binding type of streamed items
+ */
+final class NormalizedToBindingStreamWriter<T extends DataObject> implements NormalizedNodeStreamWriter {
+    private final DataContainerCodecContext<T, ?> codec;
+    private final Consumer<? super T> consumer;
+    private final Set<String> projection;
+    private final QName nodeType;
+
+    private NormalizedNodeResult result;
+    private NormalizedNodeStreamWriter writer;
+    private Set<QName> keys = ImmutableSet.of();
+    private boolean inList;
+    private int depth;
+    private int skipDepth;
+
+    NormalizedToBindingStreamWriter(final DataContainerCodecContext<T, ?> codec, final Consumer<? super T> consumer,
+            @Nullable final Set<String> projection) {
+        Preconditions.checkArgument(codec instanceof ContainerNodeCodecContext || codec instanceof ListNodeCodecContext,
+            "Streaming is not supported for %s", codec.getBindingClass());
+        this.codec = codec;
+        this.consumer = Preconditions.checkNotNull(consumer);
+        this.projection = projection == null ? null : ImmutableSet.copyOf(projection);
+        this.nodeType = codec.getDomPathArgument().getNodeType();
+    }
+
+    private boolean isProjected(final PathArgument name) {
+        if (projection == null || depth != 1) {
+            return true;
+        }
+        if (name instanceof AugmentationIdentifier) {
+            for (final QName child : ((AugmentationIdentifier) name).getPossibleChildNames()) {
+                if (projection.contains(child.getLocalName())) {
+                    return true;
+                }
+            }
+            return false;
+        }
+        return keys.contains(name.getNodeType()) || projection.contains(name.getNodeType().getLocalName());
+    }
+
+    /**
+     * Check whether a leaf event should be forwarded.
+     */
+    private boolean acceptLeaf(final PathArgument name) {
+        checkInItem(name);
+        return skipDepth == 0 && isProjected(name);
+    }
+
+    /**
+     * Check whether a start event should be forwarded. If it should not, the subtree is skipped.
+     */
+    private boolean acceptStart(final PathArgument name) {
+        checkInItem(name);
+        if (skipDepth != 0 || !isProjected(name)) {
+            skipDepth++;
+            return false;
+        }
+        depth++;
+        return true;
+    }
+
+    private void checkInItem(final PathArgument name) {
+        Preconditions.checkState(depth != 0, "Node %s is not a valid item of %s", name, nodeType);
+    }
+
+    private boolean startList(final NodeIdentifier name) {
+        if (depth == 0) {
+            Preconditions.checkArgument(!inList && nodeType.equals(name.getNodeType()),
+                "Node %s is not a valid list of %s", name, nodeType);
+            inList = true;
+            return false;
+        }
+        return acceptStart(name);
+    }
+
+    private NormalizedNodeStreamWriter startItem(final PathArgument name) {
+        Preconditions.checkArgument(nodeType.equals(name.getNodeType()), "Node %s is not a valid item of %s",
+            name, nodeType);
+        result = new NormalizedNodeResult();
+        writer = ImmutableNormalizedNodeStreamWriter.from(result);
+        depth = 1;
+        return writer;
+    }
+
+    @Override
+    public void leafNode(final NodeIdentifier name, final Object value) throws IOException {
+        if (acceptLeaf(name)) {
+            writer.leafNode(name, value);
+        }
+    }
+
+    @Override
+    public void startLeafSet(final NodeIdentifier name, final int childSizeHint) throws IOException {
+        if (acceptStart(name)) {
+            writer.startLeafSet(name, childSizeHint);
+        }
+    }
+
+    @Override
+    public void startOrderedLeafSet(final NodeIdentifier name, final int childSizeHint) throws IOException {
+        if (acceptStart(name)) {
+            writer.startOrderedLeafSet(name, childSizeHint);
+        }
+    }
+
+    @Override
+    public void leafSetEntryNode(final QName name, final Object value) throws IOException {
+        Preconditions.checkState(depth > 1 || skipDepth != 0, "Leaf set entry %s outside of a leaf set", name);
+        if (skipDepth == 0) {
+            writer.leafSetEntryNode(name, value);
+        }
+    }
+
+    @Override
+    public void startContainerNode(final NodeIdentifier name, final int childSizeHint) throws IOException {
+        if (depth == 0) {
+            startItem(name).startContainerNode(name, childSizeHint);
+        } else if (acceptStart(name)) {
+            writer.startContainerNode(name, childSizeHint);
+        }
+    }
+
+    @Override
+    public void startUnkeyedList(final NodeIdentifier name, final int childSizeHint) throws IOException {
+        if (startList(name)) {
+            writer.startUnkeyedList(name, childSizeHint);
+        }
+    }
+
+    @Override
+    public void startUnkeyedListItem(final NodeIdentifier name, final int childHint) throws IOException {
+        if (depth == 0) {
+            startItem(name).startUnkeyedListItem(name, childHint);
+        } else if (acceptStart(name)) {
+            writer.startUnkeyedListItem(name, childHint);
+        }
+    }
+
+    @Override
+    public void startMapNode(final NodeIdentifier name, final int childSizeHint) throws IOException {
+        if (startList(name)) {
+            writer.startMapNode(name, childSizeHint);
+        }
+    }
+
+    @Override
+    public void startMapEntryNode(final NodeIdentifierWithPredicates identifier, final int childSizeHint)
+            throws IOException {
+        if (depth == 0) {
+            keys = identifier.getKeyValues().keySet();
+            startItem(identifier).startMapEntryNode(identifier, childSizeHint);
+        } else if (acceptStart(identifier)) {
+            writer.startMapEntryNode(identifier, childSizeHint);
+        }
+    }
+
+    @Override
+    public void startOrderedMapNode(final NodeIdentifier name, final int childSizeHint) throws IOException {
+        if (startList(name)) {
+            writer.startOrderedMapNode(name, childSizeHint);
+        }
+    }
+
+    @Override
+    public void startChoiceNode(final NodeIdentifier name, final int childSizeHint) throws IOException {
+        if (acceptStart(name)) {
+            writer.startChoiceNode(name, childSizeHint);
+        }
+    }
+
+    @Override
+    public void startAugmentationNode(final AugmentationIdentifier identifier) throws IOException {
+        if (acceptStart(identifier)) {
+            writer.startAugmentationNode(identifier);
+        }
+    }
+
+    @Override
+    public void anyxmlNode(final NodeIdentifier name, final Object value) throws IOException {
+        if (acceptLeaf(name)) {
+            writer.anyxmlNode(name, value);
+        }
+    }
+
+    @Override
+    public void startYangModeledAnyXmlNode(final NodeIdentifier name, final int childSizeHint) throws IOException {
+        if (acceptStart(name)) {
+            writer.startYangModeledAnyXmlNode(name, childSizeHint);
+        }
+    }
+
+    @Override
+    public void endNode() throws IOException {
+        if (skipDepth != 0) {
+            skipDepth--;
+            return;
+        }
+        if (depth == 0) {
+            Preconditions.checkState(inList, "Unexpected end of node outside of an item");
+            inList = false;
+            return;
+        }
+
+        writer.endNode();
+        if (--depth == 0) {
+            emitItem();
+        }
+    }
+
+    private void emitItem() throws IOException {
+        writer.close();
+        final T item = codec.deserialize(result.getResult());
+
+        // Make sure we do not hold on to the item's data while the consumer runs
+        writer = null;
+        result = null;
+        keys = ImmutableSet.of();
+        consumer.accept(item);
+    }
+
+    @Override
+    public void close() throws IOException {
+        Preconditions.checkState(depth == 0 && skipDepth == 0, "Stream closed while an item is being read");
+    }
+
+    @Override
+    public void flush() throws IOException {
+        // No-op
+    }
+}
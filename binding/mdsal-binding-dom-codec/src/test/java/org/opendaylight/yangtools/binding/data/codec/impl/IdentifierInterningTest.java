@@ -0,0 +1,80 @@
+/*
+ * Copyright (c) 2016 Cisco Systems, Inc. and others.  All rights reserved.
+ *
+ * This program and the accompanying materials are made available under the
+ * terms of the Eclipse Public License v1.0 which accompanies this distribution,
+ * and is available at http://www.eclipse.org/legal/epl-v10.html
+ */
+package org.opendaylight.yangtools.binding.data.codec.impl;
+
+import static org.junit.Assert.assertEquals;
+import static org.junit.Assert.assertSame;
+
+import javassist.ClassPool;
+import org.junit.After;
+import org.junit.Test;
+import org.opendaylight.mdsal.binding.generator.util.JavassistUtils;
+import org.opendaylight.yang.gen.v1.urn.opendaylight.params.xml.ns.yang.mdsal.test.binding.rev140701.Top;
+import org.opendaylight.yang.gen.v1.urn.opendaylight.params.xml.ns.yang.mdsal.test.binding.rev140701.two.level.list.TopLevelList;
+import org.opendaylight.yang.gen.v1.urn.opendaylight.params.xml.ns.yang.mdsal.test.binding.rev140701.two.level.list.TopLevelListKey;
+import org.opendaylight.yang.gen.v1.urn.opendaylight.params.xml.ns.yang.mdsal.test.binding.rev140701.two.level.list.top.level.list.NestedList;
+import org.opendaylight.yang.gen.v1.urn.opendaylight.params.xml.ns.yang.mdsal.test.binding.rev140701.two.level.list.top.level.list.NestedListKey;
+import org.opendaylight.yangtools.binding.data.codec.gen.impl.StreamWriterGenerator;
+import org.opendaylight.yangtools.binding.data.codec.test.AbstractBindingRuntimeTest;
+import org.opendaylight.yangtools.yang.binding.InstanceIdentifier;
+import org.opendaylight.yangtools.yang.data.api.YangInstanceIdentifier;
+
+public class IdentifierInterningTest extends AbstractBindingRuntimeTest {
+    private static final InstanceIdentifier<Top> TOP_PATH = InstanceIdentifier.create(Top.class);
+
+    private BindingNormalizedNodeCodecRegistry registry;
+
+    @Override
+    public void setup() {
+        super.setup();
+        System.setProperty(InstanceIdentifierCodec.INTERN_IDENTIFIERS_PROP, "true");
+        registry = new BindingNormalizedNodeCodecRegistry(StreamWriterGenerator.create(
+            JavassistUtils.forClassPool(ClassPool.getDefault())));
+        registry.onBindingRuntimeContextUpdated(getRuntimeContext());
+    }
+
+    @After
+    public void after() {
+        System.clearProperty(InstanceIdentifierCodec.INTERN_IDENTIFIERS_PROP);
+    }
+
+    @Test
+    public void testSiblingsShareParent() {
+        final YangInstanceIdentifier foo = registry.toYangInstanceIdentifier(
+            TOP_PATH.child(TopLevelList.class, new TopLevelListKey("foo")));
+        final YangInstanceIdentifier bar = registry.toYangInstanceIdentifier(
+            TOP_PATH.child(TopLevelList.class, new TopLevelListKey("bar")));
+        assertSame(foo.getParent(), bar.getParent());
+    }
+
+    @Test
+    public void testAncestorsShared() {
+        final InstanceIdentifier<TopLevelList> foo = TOP_PATH.child(TopLevelList.class, new TopLevelListKey("foo"));
+        final YangInstanceIdentifier first = registry.toYangInstanceIdentifier(
+            foo.child(NestedList.class, new NestedListKey("first")));
+        final YangInstanceIdentifier second = registry.toYangInstanceIdentifier(
+            TOP_PATH.child(TopLevelList.class, new TopLevelListKey("bar"))
+                .child(NestedList.class, new NestedListKey("second")));
+
+        // Each ancestor is canonical, hence identifiers sharing an ancestor share its instance
+        final YangInstanceIdentifier fooList = first.getParent().getParent().getParent();
+        assertSame(fooList, registry.toYangInstanceIdentifier(foo).getParent());
+        assertSame(fooList, second.getParent().getParent().getParent());
+    }
+
+    @Test
+    public void testBindingIdentifiersCanonicalized() {
+        final InstanceIdentifier<TopLevelList> path = TOP_PATH.child(TopLevelList.class, new TopLevelListKey("foo"));
+        final YangInstanceIdentifier dom = registry.toYangInstanceIdentifier(path);
+
+        final InstanceIdentifier<?> first = registry.fromYangInstanceIdentifier(dom);
+        final InstanceIdentifier<?> second = registry.fromYangInstanceIdentifier(dom);
+        assertEquals(path, first);
+        assertSame(first, second);
+    }
+}
@@ -0,0 +1,65 @@
+/*
+ * Copyright (c) 2016 Cisco Systems, Inc. and others.  All rights reserved.
+ *
+ * This program and the accompanying materials are made available under the
+ * terms of the Eclipse Public License v1.0 which accompanies this distribution,
+ * and is available at http://www.eclipse.org/legal/epl-v10.html
+ */
+package org.opendaylight.yangtools.binding.data.codec.test;
+
+import static org.junit.Assert.assertEquals;
+import static org.junit.Assert.assertNotSame;
+import static org.junit.Assert.assertSame;
+
+import java.util.Map.Entry;
+import javassist.ClassPool;
+import org.junit.Test;
+import org.opendaylight.mdsal.binding.dom.codec.api.BindingCodecTree;
+import org.opendaylight.mdsal.binding.generator.impl.ModuleInfoBackedContext;
+import org.opendaylight.mdsal.binding.generator.util.BindingRuntimeContext;
+import org.opendaylight.mdsal.binding.generator.util.JavassistUtils;
+import org.opendaylight.yang.gen.v1.urn.opendaylight.params.xml.ns.yang.mdsal.test.binding.rev140701.Top;
+import org.opendaylight.yang.gen.v1.urn.opendaylight.params.xml.ns.yang.mdsal.test.binding.rev140701.TopBuilder;
+import org.opendaylight.yangtools.binding.data.codec.gen.impl.StreamWriterGenerator;
+import org.opendaylight.yangtools.binding.data.codec.impl.BindingNormalizedNodeCodecRegistry;
+import org.opendaylight.yangtools.yang.binding.InstanceIdentifier;
+import org.opendaylight.yangtools.yang.binding.util.BindingReflections;
+import org.opendaylight.yangtools.yang.data.api.YangInstanceIdentifier;
+import org.opendaylight.yangtools.yang.data.api.schema.NormalizedNode;
+
+public class CodecContextReuseTest extends AbstractBindingRuntimeTest {
+
+    private BindingNormalizedNodeCodecRegistry registry;
+
+    @Override
+    public void setup() {
+        super.setup();
+        registry = new BindingNormalizedNodeCodecRegistry(StreamWriterGenerator.create(
+            JavassistUtils.forClassPool(ClassPool.getDefault())));
+        registry.onBindingRuntimeContextUpdated(getRuntimeContext());
+    }
+
+    @Test
+    public void testEquivalentContextRetainsCodecTree() {
+        final BindingCodecTree first = registry.getCodecContext();
+        registry.onBindingRuntimeContextUpdated(BindingRuntimeContext.create(getRuntimeContext().getStrategy(),
+            getSchemaContext()));
+        assertSame(first, registry.getCodecContext());
+
+        // Serializers keep working with the retained tree
+        final Top top = new TopBuilder().build();
+        final Entry<YangInstanceIdentifier, NormalizedNode<?, ?>> dom =
+                registry.toNormalizedNode(InstanceIdentifier.create(Top.class), top);
+        assertEquals(top, registry.fromNormalizedNode(dom.getKey(), dom.getValue()).getValue());
+    }
+
+    @Test
+    public void testDifferentStrategyRebuildsCodecTree() {
+        final BindingCodecTree first = registry.getCodecContext();
+        final ModuleInfoBackedContext ctx = ModuleInfoBackedContext.create();
+        ctx.addModuleInfos(BindingReflections.loadModuleInfos());
+        registry.onBindingRuntimeContextUpdated(BindingRuntimeContext.create(ctx,
+            ctx.tryToCreateSchemaContext().get()));
+        assertNotSame(first, registry.getCodecContext());
+    }
+}
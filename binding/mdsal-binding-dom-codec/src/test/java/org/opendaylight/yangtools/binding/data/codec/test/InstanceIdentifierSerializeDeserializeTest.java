@@ -113,6 +113,21 @@ public class InstanceIdentifierSerializeDeserializeTest extends AbstractBindingR
         assertEquals(TopLevelList.QNAME, lastPathArgument.getNodeType());
     }
 
+    @Test
+    public void testBindingAwareIIToYangIIListSameShape() {
+        final YangInstanceIdentifier foo = registry.toYangInstanceIdentifier(BA_TOP_LEVEL_LIST);
+        assertEquals(BI_TOP_LEVEL_LIST_1_PATH, foo);
+
+        final YangInstanceIdentifier bar = registry.toYangInstanceIdentifier(
+                InstanceIdentifier.create(Top.class).child(TopLevelList.class, new TopLevelListKey("bar")));
+        assertEquals(BI_TOP_LEVEL_LIST_PATH.node(new YangInstanceIdentifier.NodeIdentifierWithPredicates(
+                TOP_LEVEL_LIST_QNAME, TOP_LEVEL_LIST_KEY, "bar")), bar);
+
+        // Wildcarded path of the same classes has a different shape
+        assertEquals(BI_TOP_LEVEL_LIST_PATH.node(TOP_LEVEL_LIST_QNAME), registry.toYangInstanceIdentifier(
+                InstanceIdentifier.create(Top.class).child(TopLevelList.class)));
+    }
+
     @Test
     public void testBindingAwareIIToYangIIAugmentation() {
         final YangInstanceIdentifier.PathArgument lastArg = registry.toYangInstanceIdentifier(BA_TREE_COMPLEX_USES).getLastPathArgument();
@@ -0,0 +1,103 @@
+/*
+ * Copyright (c) 2016 Cisco Systems, Inc. and others.  All rights reserved.
+ *
+ * This program and the accompanying materials are made available under the
+ * terms of the Eclipse Public License v1.0 which accompanies this distribution,
+ * and is available at http://www.eclipse.org/legal/epl-v10.html
+ */
+package org.opendaylight.yangtools.binding.data.codec.test;
+
+import static org.junit.Assert.assertEquals;
+import static org.junit.Assert.assertSame;
+
+import com.google.common.collect.HashMultiset;
+import com.google.common.collect.ImmutableSet;
+import com.google.common.collect.Multiset;
+import java.util.HashMap;
+import java.util.Map;
+import javassist.ClassPool;
+import org.junit.Test;
+import org.opendaylight.mdsal.binding.generator.util.BindingRuntimeContext;
+import org.opendaylight.mdsal.binding.generator.util.JavassistUtils;
+import org.opendaylight.yang.gen.v1.urn.opendaylight.params.xml.ns.yang.mdsal.test.binding.rev140701.Top;
+import org.opendaylight.yang.gen.v1.urn.opendaylight.params.xml.ns.yang.mdsal.test.binding.rev140701.two.level.list.TopLevelList;
+import org.opendaylight.yangtools.binding.data.codec.gen.impl.DataObjectSerializerGenerator;
+import org.opendaylight.yangtools.binding.data.codec.gen.impl.StreamWriterGenerator;
+import org.opendaylight.yangtools.binding.data.codec.impl.BindingNormalizedNodeCodecRegistry;
+import org.opendaylight.yangtools.concepts.Delegator;
+import org.opendaylight.yangtools.yang.binding.DataObjectSerializer;
+import org.opendaylight.yangtools.yang.binding.DataObjectSerializerImplementation;
+import org.opendaylight.yangtools.yang.binding.util.BindingReflections;
+
+public class SerializerPreparationTest extends AbstractBindingRuntimeTest {
+
+    private RecordingGenerator generator;
+    private BindingNormalizedNodeCodecRegistry registry;
+
+    @Override
+    public void setup() {
+        super.setup();
+        generator = new RecordingGenerator(StreamWriterGenerator.create(
+            JavassistUtils.forClassPool(ClassPool.getDefault())));
+        registry = new BindingNormalizedNodeCodecRegistry(generator);
+        registry.onBindingRuntimeContextUpdated(getRuntimeContext());
+    }
+
+    @Test(expected = IllegalStateException.class)
+    public void testPrepareWithoutContext() {
+        new BindingNormalizedNodeCodecRegistry(StreamWriterGenerator.create(
+            JavassistUtils.forClassPool(ClassPool.getDefault()))).prepareSerializers(ImmutableSet.of());
+    }
+
+    @Test
+    public void testPrepareSerializers() {
+        registry.prepareSerializers(ImmutableSet.of(BindingReflections.getQNameModule(Top.class)));
+        assertEquals(1, generator.requests.count(Top.class));
+        final DataObjectSerializerImplementation prepared = generator.serializers.get(Top.class);
+
+        // First use must reuse the prepared serializer, without going to the generator again
+        final DataObjectSerializer serializer = registry.getSerializer(Top.class);
+        assertEquals(1, generator.requests.count(Top.class));
+        assertSame(prepared, getDelegate(serializer));
+    }
+
+    @Test
+    public void testPrepareSerializersOtherModule() {
+        registry.prepareSerializers(ImmutableSet.of());
+        assertEquals(0, generator.requests.size());
+
+        registry.getSerializer(TopLevelList.class);
+        assertEquals(1, generator.requests.count(TopLevelList.class));
+    }
+
+    @SuppressWarnings("unchecked")
+    private static DataObjectSerializerImplementation getDelegate(final DataObjectSerializer serializer) {
+        return ((Delegator<DataObjectSerializerImplementation>) serializer).getDelegate();
+    }
+
+    /**
+     * Generator recording each request made to it by the registry.
+     */
+    private static final class RecordingGenerator implements DataObjectSerializerGenerator {
+        final Multiset<Class<?>> requests = HashMultiset.create();
+        final Map<Class<?>, DataObjectSerializerImplementation> serializers = new HashMap<>();
+        private final DataObjectSerializerGenerator delegate;
+
+        RecordingGenerator(final DataObjectSerializerGenerator delegate) {
+            this.delegate = delegate;
+        }
+
+        @Override
+        public synchronized DataObjectSerializerImplementation getSerializer(final Class<?> type) {
+            final DataObjectSerializerImplementation ret = delegate.getSerializer(type);
+            requests.add(type);
+            serializers.put(type, ret);
+            return ret;
+        }
+
+        @Override
+        public void onBindingRuntimeContextUpdated(final BindingRuntimeContext runtime) {
+            delegate.onBindingRuntimeContextUpdated(runtime);
+        }
+    }
+}
@@ -0,0 +1,126 @@
+/*
+ * Copyright (c) 2016 Cisco Systems, Inc. and others.  All rights reserved.
+ *
+ * This program and the accompanying materials are made available under the
+ * terms of the Eclipse Public License v1.0 which accompanies this distribution,
+ * and is available at http://www.eclipse.org/legal/epl-v10.html
+ */
+package org.opendaylight.yangtools.binding.data.codec.test;
+
+import static org.junit.Assert.assertEquals;
+import static org.junit.Assert.assertFalse;
+import static org.junit.Assert.assertNull;
+import static org.junit.Assert.assertTrue;
+
+import com.google.common.collect.ImmutableList;
+import com.google.common.collect.ImmutableSet;
+import java.lang.reflect.Field;
+import java.lang.reflect.Proxy;
+import java.util.ArrayList;
+import java.util.List;
+import javassist.ClassPool;
+import org.junit.Test;
+import org.opendaylight.mdsal.binding.generator.util.JavassistUtils;
+import org.opendaylight.yang.gen.v1.urn.opendaylight.params.xml.ns.yang.mdsal.test.binding.rev140701.Top;
+import org.opendaylight.yang.gen.v1.urn.opendaylight.params.xml.ns.yang.mdsal.test.binding.rev140701.TopBuilder;
+import org.opendaylight.yang.gen.v1.urn.opendaylight.params.xml.ns.yang.mdsal.test.binding.rev140701.two.level.list.TopLevelList;
+import org.opendaylight.yang.gen.v1.urn.opendaylight.params.xml.ns.yang.mdsal.test.binding.rev140701.two.level.list.TopLevelListBuilder;
+import org.opendaylight.yang.gen.v1.urn.opendaylight.params.xml.ns.yang.mdsal.test.binding.rev140701.two.level.list.TopLevelListKey;
+import org.opendaylight.yang.gen.v1.urn.opendaylight.params.xml.ns.yang.mdsal.test.binding.rev140701.two.level.list.top.level.list.NestedListBuilder;
+import org.opendaylight.yang.gen.v1.urn.opendaylight.params.xml.ns.yang.mdsal.test.binding.rev140701.two.level.list.top.level.list.NestedListKey;
+import org.opendaylight.yangtools.binding.data.codec.gen.impl.StreamWriterGenerator;
+import org.opendaylight.yangtools.binding.data.codec.impl.BindingNormalizedNodeCodecRegistry;
+import org.opendaylight.yangtools.yang.binding.DataObject;
+import org.opendaylight.yangtools.yang.binding.InstanceIdentifier;
+import org.opendaylight.yangtools.yang.common.QName;
+import org.opendaylight.yangtools.yang.data.api.YangInstanceIdentifier.NodeIdentifier;
+import org.opendaylight.yangtools.yang.data.api.schema.DataContainerNode;
+import org.opendaylight.yangtools.yang.data.api.schema.NormalizedNode;
+import org.opendaylight.yangtools.yang.data.api.schema.stream.NormalizedNodeWriter;
+
+public class StreamingDeserializationTest extends AbstractBindingRuntimeTest {
+
+    private static final InstanceIdentifier<Top> TOP_PATH = InstanceIdentifier.create(Top.class);
+    private static final InstanceIdentifier<TopLevelList> LIST_PATH = TOP_PATH.child(TopLevelList.class);
+    private static final List<TopLevelList> LIST = ImmutableList.of(
+        new TopLevelListBuilder().setKey(new TopLevelListKey("foo"))
+            .setNestedList(ImmutableList.of(new NestedListBuilder().setKey(new NestedListKey("one")).build()))
+            .build(),
+        new TopLevelListBuilder().setKey(new TopLevelListKey("bar")).build());
+
+    private BindingNormalizedNodeCodecRegistry registry;
+
+    @Override
+    public void setup() {
+        super.setup();
+        registry = new BindingNormalizedNodeCodecRegistry(StreamWriterGenerator.create(
+            JavassistUtils.forClassPool(ClassPool.getDefault())));
+        registry.onBindingRuntimeContextUpdated(getRuntimeContext());
+    }
+
+    private List<TopLevelList> streamList(final ImmutableSet<String> projection) throws Exception {
+        final NormalizedNode<?, ?> top = registry.toNormalizedNode(TOP_PATH, new TopBuilder().setTopLevelList(LIST)
+            .build()).getValue();
+        final NormalizedNode<?, ?> list = ((DataContainerNode<?>) top).getChild(
+            new NodeIdentifier(TopLevelList.QNAME)).get();
+
+        final List<TopLevelList> items = new ArrayList<>();
+        try (NormalizedNodeWriter writer = NormalizedNodeWriter.forStreamWriter(
+                registry.newDataObjectReader(LIST_PATH, items::add, projection))) {
+            writer.write(list);
+        }
+        return items;
+    }
+
+    @Test
+    public void testStreamedItems() throws Exception {
+        final List<TopLevelList> items = streamList(null);
+        assertEquals(LIST.size(), items.size());
+        assertEquals(ImmutableSet.copyOf(LIST), ImmutableSet.copyOf(items));
+    }
+
+    @Test
+    public void testProjectedItems() throws Exception {
+        final List<TopLevelList> items = streamList(ImmutableSet.of("name"));
+        assertEquals(LIST.size(), items.size());
+        for (final TopLevelList item : items) {
+            assertNull(item.getNestedList());
+        }
+        assertEquals(ImmutableSet.of(new TopLevelListKey("foo"), new TopLevelListKey("bar")),
+            ImmutableSet.of(items.get(0).getKey(), items.get(1).getKey()));
+    }
+
+    @Test
+    public void testItemsRetainOwnNode() throws Exception {
+        final List<TopLevelList> items = streamList(null);
+        for (final TopLevelList item : items) {
+            final NormalizedNode<?, ?> expected = registry.toNormalizedNode(
+                TOP_PATH.child(TopLevelList.class, item.getKey()), item).getValue();
+            assertEquals(expected, retainedNode(item));
+        }
+    }
+
+    @Test
+    public void testProjectedItemsRetainProjectedNode() throws Exception {
+        final List<TopLevelList> items = streamList(ImmutableSet.of("name"));
+        for (final TopLevelList item : items) {
+            final DataContainerNode<?> retained = (DataContainerNode<?>) retainedNode(item);
+            assertFalse(retained.getChild(new NodeIdentifier(
+                QName.create(TopLevelList.QNAME, "nested-list"))).isPresent());
+        }
+    }
+
+    @Test(expected = IllegalStateException.class)
+    public void testReaderWithoutRuntimeContext() {
+        new BindingNormalizedNodeCodecRegistry(StreamWriterGenerator.create(
+            JavassistUtils.forClassPool(ClassPool.getDefault()))).newDataObjectReader(LIST_PATH, item -> { }, null);
+    }
+
+    private static NormalizedNode<?, ?> retainedNode(final DataObject item) throws ReflectiveOperationException {
+        assertTrue(Proxy.isProxyClass(item.getClass()));
+        final Object handler = Proxy.getInvocationHandler(item);
+        final Field data = handler.getClass().getDeclaredField("data");
+        data.setAccessible(true);
+        return (NormalizedNode<?, ?>) data.get(handler);
+    }
+}
@@ -43,6 +43,7 @@ import java.util.Iterator;
 import java.util.List;
 import java.util.Map;
 import java.util.Set;
+import java.util.function.BiFunction;
 import java.util.regex.Pattern;
 import org.opendaylight.mdsal.binding.generator.api.BindingGenerator;
 import org.opendaylight.mdsal.binding.generator.spi.TypeProvider;
@@ -75,6 +76,7 @@ import org.opendaylight.yangtools.yang.binding.DataContainer;
 import org.opendaylight.yangtools.yang.binding.RpcService;
 import org.opendaylight.yangtools.yang.binding.annotations.RoutingContext;
 import org.opendaylight.yangtools.yang.common.QName;
+import org.opendaylight.yangtools.yang.common.QNameModule;
 import org.opendaylight.yangtools.yang.common.RpcResult;
 import org.opendaylight.yangtools.yang.model.api.AugmentationSchema;
 import org.opendaylight.yangtools.yang.model.api.ChoiceCaseNode;
@@ -153,6 +155,12 @@ public class BindingGeneratorImpl implements BindingGenerator {
 
     private final Map<Module, ModuleContext> genCtx = new HashMap<>();
 
+    /**
+     * Module contexts indexed by their module's namespace and revision. Used to locate the context which is likely
+     * to hold a type generated for a particular schema path without scanning all module contexts.
+     */
+    private final Map<QNameModule, ModuleContext> namespaceToCtx = new HashMap<>();
+
     /**
      * When set to true, generated classes will include javadoc comments which
      * are useful for users.
@@ -276,7 +284,9 @@ public class BindingGeneratorImpl implements BindingGenerator {
     }
 
     private void moduleToGenTypes(final Module m, final SchemaContext context) {
-        genCtx.put(m, new ModuleContext());
+        final ModuleContext moduleCtx = new ModuleContext();
+        genCtx.put(m, moduleCtx);
+        namespaceToCtx.put(m.getQNameModule(), moduleCtx);
         allTypeDefinitionsToGenTypes(m);
         groupingsToGenTypes(m, m.getGroupings());
         rpcMethodsToGenType(m);
@@ -2210,34 +2220,43 @@ public class BindingGeneratorImpl implements BindingGenerator {
         return replaceAllIllegalChars(sb);
     }
 
-    private GeneratedTypeBuilder findChildNodeByPath(final SchemaPath path) {
-        for (final ModuleContext ctx : genCtx.values()) {
-            final GeneratedTypeBuilder result = ctx.getChildNode(path);
+    /**
+     * Looks up a type builder for a schema path. The module owning the namespace of the last path element is checked
+     * first, as it is the one which generated the type in vast majority of cases. Remaining modules are searched only
+     * if that fails, for example for nodes instantiated from groupings defined in other modules.
+     */
+    private GeneratedTypeBuilder findByPath(final SchemaPath path,
+            final BiFunction<ModuleContext, SchemaPath, GeneratedTypeBuilder> lookup) {
+        final QName last = path.getLastComponent();
+        final ModuleContext likely = last == null ? null : namespaceToCtx.get(last.getModule());
+        if (likely != null) {
+            final GeneratedTypeBuilder result = lookup.apply(likely, path);
             if (result != null) {
                 return result;
             }
         }
-        return null;
-    }
 
-    private GeneratedTypeBuilder findGroupingByPath(final SchemaPath path) {
         for (final ModuleContext ctx : genCtx.values()) {
-            final GeneratedTypeBuilder result = ctx.getGrouping(path);
-            if (result != null) {
-                return result;
+            if (ctx != likely) {
+                final GeneratedTypeBuilder result = lookup.apply(ctx, path);
+                if (result != null) {
+                    return result;
+                }
             }
         }
         return null;
     }
 
+    private GeneratedTypeBuilder findChildNodeByPath(final SchemaPath path) {
+        return findByPath(path, ModuleContext::getChildNode);
+    }
+
+    private GeneratedTypeBuilder findGroupingByPath(final SchemaPath path) {
+        return findByPath(path, ModuleContext::getGrouping);
+    }
+
     private GeneratedTypeBuilder findCaseByPath(final SchemaPath path) {
-        for (final ModuleContext ctx : genCtx.values()) {
-            final GeneratedTypeBuilder result = ctx.getCase(path);
-            if (result != null) {
-                return result;
-            }
-        }
-        return null;
+        return findByPath(path, ModuleContext::getCase);
     }
 
     public Map<Module, ModuleContext> getModuleContexts() {
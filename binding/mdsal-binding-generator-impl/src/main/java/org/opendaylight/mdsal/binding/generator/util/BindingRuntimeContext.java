@@ -7,8 +7,10 @@
  */
 package org.opendaylight.mdsal.binding.generator.util;
 
+import com.google.common.annotations.VisibleForTesting;
 import com.google.common.base.Optional;
 import com.google.common.base.Preconditions;
+import com.google.common.base.Throwables;
 import com.google.common.cache.CacheBuilder;
 import com.google.common.cache.CacheLoader;
 import com.google.common.cache.LoadingCache;
@@ -16,8 +18,12 @@ import com.google.common.collect.BiMap;
 import com.google.common.collect.FluentIterable;
 import com.google.common.collect.HashBiMap;
 import com.google.common.collect.HashMultimap;
+import com.google.common.collect.ImmutableBiMap;
 import com.google.common.collect.ImmutableMap;
+import com.google.common.collect.ImmutableSetMultimap;
 import com.google.common.collect.Multimap;
+import com.google.common.util.concurrent.ExecutionError;
+import com.google.common.util.concurrent.UncheckedExecutionException;
 import java.util.AbstractMap.SimpleEntry;
 import java.util.Collection;
 import java.util.HashMap;
@@ -79,10 +85,58 @@ public class BindingRuntimeContext implements Immutable {
     private final ClassLoadingStrategy strategy;
     private final SchemaContext schemaContext;
 
-    private final Map<Type, AugmentationSchema> augmentationToSchema = new HashMap<>();
-    private final BiMap<Type, Object> typeToDefiningSchema = HashBiMap.create();
-    private final Multimap<Type, Type> choiceToCases = HashMultimap.create();
-    private final Map<QName, Type> identities = new HashMap<>();
+    /**
+     * Binding type metadata derived from a particular {@link SchemaContext}. It depends only on the schema, hence
+     * it is shared by all runtime contexts created for the same schema context, regardless of their class loading
+     * strategy.
+     */
+    private static final class TypeMetadata {
+        final Map<Type, AugmentationSchema> augmentationToSchema;
+        final BiMap<Type, Object> typeToDefiningSchema;
+        final Multimap<Type, Type> choiceToCases;
+        final Map<QName, Type> identities;
+
+        TypeMetadata(final SchemaContext schema) {
+            final BindingGeneratorImpl generator = new BindingGeneratorImpl(false);
+            generator.generateTypes(schema);
+            final Map<Module, ModuleContext> modules = generator.getModuleContexts();
+
+            final Map<Type, AugmentationSchema> augmentations = new HashMap<>();
+            final BiMap<Type, Object> definingSchemas = HashBiMap.create();
+            final Multimap<Type, Type> cases = HashMultimap.create();
+            final Map<QName, Type> identityTypes = new HashMap<>();
+            for (final ModuleContext ctx : modules.values()) {
+                augmentations.putAll(ctx.getTypeToAugmentation());
+                definingSchemas.putAll(ctx.getTypeToSchema());
+                cases.putAll(ctx.getChoiceToCases());
+                identityTypes.putAll(ctx.getIdentities());
+            }
+
+            // Shared by all contexts for this schema, hence it must not be modifiable through any of them
+            augmentationToSchema = ImmutableMap.copyOf(augmentations);
+            typeToDefiningSchema = ImmutableBiMap.copyOf(definingSchemas);
+            choiceToCases = ImmutableSetMultimap.copyOf(cases);
+            identities = ImmutableMap.copyOf(identityTypes);
+        }
+    }
+
+    /**
+     * Metadata cache keyed by schema context identity. Binding runtime contexts are routinely created multiple times
+     * for a single schema context update, for example by the codec registry and the binding adapters, and running
+     * the binding generator over all modules is by far the most expensive part of their construction.
+     */
+    private static final LoadingCache<SchemaContext, TypeMetadata> METADATA = CacheBuilder.newBuilder().weakKeys()
+            .build(new CacheLoader<SchemaContext, TypeMetadata>() {
+                @Override
+                public TypeMetadata load(final SchemaContext key) {
+                    return new TypeMetadata(key);
+                }
+            });
+
+    private final Map<Type, AugmentationSchema> augmentationToSchema;
+    private final BiMap<Type, Object> typeToDefiningSchema;
+    private final Multimap<Type, Type> choiceToCases;
+    private final Map<QName, Type> identities;
 
     private final LoadingCache<QName, Class<?>> identityClasses = CacheBuilder.newBuilder().weakValues().build(
         new CacheLoader<QName, Class<?>>() {
@@ -102,18 +156,22 @@ public class BindingRuntimeContext implements Immutable {
         this.strategy = strategy;
         this.schemaContext = schema;
 
-        final BindingGeneratorImpl generator = new BindingGeneratorImpl(false);
-        generator.generateTypes(schema);
-        final Map<Module, ModuleContext> modules = generator.getModuleContexts();
-
-        for (final ModuleContext ctx : modules.values()) {
-            augmentationToSchema.putAll(ctx.getTypeToAugmentation());
-            typeToDefiningSchema.putAll(ctx.getTypeToSchema());
-
-            ctx.getTypedefs();
-            choiceToCases.putAll(ctx.getChoiceToCases());
-            identities.putAll(ctx.getIdentities());
+        final TypeMetadata metadata;
+        try {
+            metadata = METADATA.getUnchecked(schema);
+        } catch (final UncheckedExecutionException | ExecutionError e) {
+            // Report generator failures as they would be reported without the cache
+            throw Throwables.propagate(e.getCause());
         }
+        augmentationToSchema = metadata.augmentationToSchema;
+        typeToDefiningSchema = metadata.typeToDefiningSchema;
+        choiceToCases = metadata.choiceToCases;
+        identities = metadata.identities;
+    }
+
+    @VisibleForTesting
+    BiMap<Type, Object> getTypeToDefiningSchema() {
+        return typeToDefiningSchema;
     }
 
     /**
@@ -0,0 +1,75 @@
+/*
+ * Copyright (c) 2017 Pantheon Technologies, s.r.o. and others.  All rights reserved.
+ *
+ * This program and the accompanying materials are made available under the
+ * terms of the Eclipse Public License v1.0 which accompanies this distribution,
+ * and is available at http://www.eclipse.org/legal/epl-v10.html
+ */
+package org.opendaylight.mdsal.binding.generator.impl;
+
+import static org.junit.Assert.assertEquals;
+import static org.junit.Assert.assertNotNull;
+import static org.junit.Assert.assertTrue;
+
+import java.io.File;
+import java.util.List;
+import org.junit.Test;
+import org.opendaylight.mdsal.binding.model.api.GeneratedType;
+import org.opendaylight.mdsal.binding.model.api.ParameterizedType;
+import org.opendaylight.mdsal.binding.model.api.Type;
+import org.opendaylight.yangtools.yang.model.api.SchemaContext;
+import org.opendaylight.yangtools.yang.test.util.YangParserTestUtils;
+
+/**
+ * Tests resolution of types defined in one module and referenced from another module, which is looked up through
+ * the module the type's namespace belongs to.
+ */
+public class CrossModuleResolutionTest {
+    private static final String FOO_PACKAGE = "org.opendaylight.yang.gen.v1.urn.test.foo.rev170101";
+    private static final String BAR_PACKAGE = "org.opendaylight.yang.gen.v1.urn.test.bar.rev170101";
+
+    @Test
+    public void testCrossModuleResolution() throws Exception {
+        final SchemaContext context = YangParserTestUtils.parseYangSources(
+            new File(getClass().getResource("/cross-module/foo.yang").toURI()),
+            new File(getClass().getResource("/cross-module/bar.yang").toURI()));
+        assertNotNull(context);
+
+        final List<Type> genTypes = new BindingGeneratorImpl(false).generateTypes(context);
+
+        // Augmentation of a container defined in another module
+        final GeneratedType fooCont1 = findType(genTypes, BAR_PACKAGE, "FooCont1");
+        final Type augmentation = findImplements(fooCont1, "Augmentation");
+        assertTrue(augmentation instanceof ParameterizedType);
+        final Type target = ((ParameterizedType) augmentation).getActualTypeArguments()[0];
+        assertEquals(FOO_PACKAGE + ".FooCont", target.getFullyQualifiedName());
+
+        // Case augmented into a choice defined in another module
+        final GeneratedType barCase = findType(genTypes, BAR_PACKAGE, "BarCase");
+        final Type choice = findImplements(barCase, "FooChoice");
+        assertTrue(choice.getPackageName().startsWith(FOO_PACKAGE));
+
+        // Grouping defined in another module
+        final GeneratedType barCont = findType(genTypes, BAR_PACKAGE, "BarCont");
+        final Type grouping = findImplements(barCont, "FooGrp");
+        assertEquals(FOO_PACKAGE + ".FooGrp", grouping.getFullyQualifiedName());
+    }
+
+    private static GeneratedType findType(final List<Type> types, final String packagePrefix, final String name) {
+        for (final Type type : types) {
+            if (type.getName().equals(name) && type.getPackageName().startsWith(packagePrefix)) {
+                return (GeneratedType) type;
+            }
+        }
+        throw new AssertionError("Type " + name + " not found in " + packagePrefix);
+    }
+
+    private static Type findImplements(final GeneratedType type, final String name) {
+        for (final Type impl : type.getImplements()) {
+            if (impl.getName().equals(name)) {
+                return impl;
+            }
+        }
+        throw new AssertionError(type + " does not implement " + name);
+    }
+}
@@ -0,0 +1,66 @@
+/*
+ * Copyright (c) 2017 Pantheon Technologies, s.r.o. and others.  All rights reserved.
+ *
+ * This program and the accompanying materials are made available under the
+ * terms of the Eclipse Public License v1.0 which accompanies this distribution,
+ * and is available at http://www.eclipse.org/legal/epl-v10.html
+ */
+package org.opendaylight.mdsal.binding.generator.util;
+
+import static org.junit.Assert.assertFalse;
+import static org.junit.Assert.assertNotSame;
+import static org.junit.Assert.assertSame;
+import static org.junit.Assert.fail;
+import static org.mockito.Mockito.doThrow;
+import static org.mockito.Mockito.mock;
+import static org.opendaylight.mdsal.binding.yang.types.TypeProviderModel.createTestContext;
+
+import org.junit.Test;
+import org.opendaylight.mdsal.binding.generator.impl.GeneratedClassLoadingStrategy;
+import org.opendaylight.yangtools.yang.model.api.SchemaContext;
+
+public class BindingRuntimeContextTest {
+
+    @Test
+    public void testMetadataSharedPerSchemaContext() throws Exception {
+        final SchemaContext schema = createTestContext();
+        final BindingRuntimeContext first = BindingRuntimeContext.create(
+            GeneratedClassLoadingStrategy.getTCCLClassLoadingStrategy(), schema);
+        final BindingRuntimeContext second = BindingRuntimeContext.create(
+            GeneratedClassLoadingStrategy.getAlwaysFailClassLoadingStrategy(), schema);
+
+        assertNotSame(first, second);
+        assertFalse(first.getTypeToDefiningSchema().isEmpty());
+        assertSame(first.getTypeToDefiningSchema(), second.getTypeToDefiningSchema());
+    }
+
+    @Test(expected = UnsupportedOperationException.class)
+    public void testMetadataImmutable() throws Exception {
+        BindingRuntimeContext.create(GeneratedClassLoadingStrategy.getTCCLClassLoadingStrategy(), createTestContext())
+            .getTypeToDefiningSchema().clear();
+    }
+
+    @Test
+    public void testGeneratorExceptionPropagated() {
+        final IllegalStateException cause = new IllegalStateException("test");
+        assertSame(cause, createFailing(cause));
+    }
+
+    @Test
+    public void testGeneratorErrorPropagated() {
+        final AssertionError cause = new AssertionError("test");
+        assertSame(cause, createFailing(cause));
+    }
+
+    private static Throwable createFailing(final Throwable cause) {
+        final SchemaContext schema = mock(SchemaContext.class);
+        doThrow(cause).when(schema).getModules();
+        try {
+            BindingRuntimeContext.create(GeneratedClassLoadingStrategy.getTCCLClassLoadingStrategy(), schema);
+        } catch (RuntimeException | Error e) {
+            return e;
+        }
+        fail("Context creation should have failed");
+        return null;
+    }
+}
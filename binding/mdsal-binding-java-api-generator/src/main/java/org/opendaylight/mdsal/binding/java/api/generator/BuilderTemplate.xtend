@@ -7,6 +7,7 @@
  */
 package org.opendaylight.mdsal.binding.java.api.generator
 
+import com.google.common.collect.ImmutableMap
 import com.google.common.collect.ImmutableSortedSet
 import java.util.ArrayList
 import java.util.Arrays
@@ -484,7 +485,7 @@ class BuilderTemplate extends BaseTemplate {
                 }
 
                 if (!(this.«augmentField.name» instanceof «HashMap.importedName»)) {
-                    this.«augmentField.name» = new «HashMap.importedName»<>();
+                    this.«augmentField.name» = new «HashMap.importedName»<>(this.«augmentField.name»);
                 }
 
                 this.«augmentField.name».put(augmentationType, augmentationValue);
@@ -494,6 +495,9 @@ class BuilderTemplate extends BaseTemplate {
             public «type.name»«BUILDER» remove«augmentField.name.toFirstUpper»(«Class.importedName»<? extends «augmentField.returnType.importedName»> augmentationType) {
                 if (this.«augmentField.name» instanceof «HashMap.importedName») {
                     this.«augmentField.name».remove(augmentationType);
+                } else if (this.«augmentField.name».containsKey(augmentationType)) {
+                    this.«augmentField.name» = new «HashMap.importedName»<>(this.«augmentField.name»);
+                    this.«augmentField.name».remove(augmentationType);
                 }
                 return this;
             }
@@ -546,14 +550,12 @@ class BuilderTemplate extends BaseTemplate {
                         this.«augmentField.name» = «Collections.importedName».<«Class.importedName»<? extends «augmentField.returnType.importedName»>, «augmentField.returnType.importedName»>singletonMap(e.getKey(), e.getValue());
                         break;
                     default :
-                        this.«augmentField.name» = new «HashMap.importedName»<>(base.«augmentField.name»);
+                        this.«augmentField.name» = «ImmutableMap.importedName».copyOf(base.«augmentField.name»);
                     }
                 «ELSE»
                     if (base instanceof «type.name»«IMPL») {
                         «type.name»«IMPL» impl = («type.name»«IMPL») base;
-                        if (!impl.«augmentField.name».isEmpty()) {
-                            this.«augmentField.name» = new «HashMap.importedName»<>(impl.«augmentField.name»);
-                        }
+                        this.«augmentField.name» = impl.«augmentField.name»;
                     } else if (base instanceof «AugmentationHolder.importedName») {
                         @SuppressWarnings("unchecked")
                         «AugmentationHolder.importedName»<«type.importedName»> casted =(«AugmentationHolder.importedName»<«type.importedName»>) base;
@@ -629,12 +631,12 @@ class BuilderTemplate extends BaseTemplate {
     def protected generateHashCode() '''
         «IF !properties.empty || augmentField !== null»
             private int hash = 0;
-            private volatile boolean hashValid = false;
 
             @Override
             public int hashCode() {
-                if (hashValid) {
-                    return hash;
+                final int cached = hash;
+                if (cached != 0) {
+                    return cached;
                 }
 
                 final int prime = 31;
@@ -651,7 +653,6 @@ class BuilderTemplate extends BaseTemplate {
                 «ENDIF»
 
                 hash = result;
-                hashValid = true;
                 return result;
             }
         «ENDIF»
@@ -8,16 +8,20 @@
 package org.opendaylight.mdsal.binding.java.api.generator;
 
 import com.google.common.base.Preconditions;
-import java.io.BufferedWriter;
 import java.io.File;
 import java.io.IOException;
 import java.io.OutputStream;
-import java.io.OutputStreamWriter;
-import java.io.Writer;
 import java.nio.charset.StandardCharsets;
+import java.nio.file.Files;
 import java.util.ArrayList;
+import java.util.Arrays;
 import java.util.Collection;
+import java.util.HashMap;
+import java.util.HashSet;
 import java.util.List;
+import java.util.Locale;
+import java.util.Map;
+import java.util.Set;
 import org.opendaylight.mdsal.binding.model.api.CodeGenerator;
 import org.opendaylight.mdsal.binding.model.api.GeneratedTransferObject;
 import org.opendaylight.mdsal.binding.model.api.Type;
@@ -99,100 +103,155 @@ public final class GeneratorJavaFile {
 
     public List<File> generateToFile(final File generatedSourcesDirectory, final File persistenSourcesDirectory)
             throws IOException {
-        final List<File> result = new ArrayList<>();
+        final List<GeneratorTask> tasks = new ArrayList<>();
         for (Type type : types) {
             if (type != null) {
                 for (CodeGenerator generator : generators) {
-                    File generatedJavaFile = null;
                     if (type instanceof GeneratedTransferObject
                             && ((GeneratedTransferObject) type).isUnionTypeBuilder()) {
                         File packageDir = packageToDirectory(persistenSourcesDirectory, type.getPackageName());
                         File file = new File(packageDir, generator.getUnitName(type) + ".java");
                         if (!file.exists()) {
-                            generatedJavaFile = generateTypeToJavaFile(persistenSourcesDirectory, type, generator);
+                            tasks.add(new GeneratorTask(persistenSourcesDirectory, type, generator));
                         }
                     } else {
-                        generatedJavaFile = generateTypeToJavaFile(generatedSourcesDirectory, type, generator);
-                    }
-                    if (generatedJavaFile != null) {
-                        result.add(generatedJavaFile);
+                        tasks.add(new GeneratorTask(generatedSourcesDirectory, type, generator));
                     }
                 }
             }
         }
+
+        // Template rendering is CPU-bound and independent for each type, hence it can run in parallel. Files are
+        // written sequentially in the original order, so the output and conflict resolution remain deterministic.
+        tasks.parallelStream().forEach(GeneratorTask::render);
+
+        final WrittenFiles written = new WrittenFiles();
+        final List<File> result = new ArrayList<>();
+        for (GeneratorTask task : tasks) {
+            final File generatedJavaFile = task.writeTo(written);
+            if (generatedJavaFile != null) {
+                result.add(generatedJavaFile);
+            }
+        }
         return result;
     }
 
     /**
-     * Generates <code>File</code> for <code>type</code>. All files are stored
-     * to subfolders of base directory <code>parentDir</code>. Subdirectories
-     * are generated according to packages to which the type belongs (e. g. if
-     * type belongs to the package <i>org.pcg</i> then in <code>parentDir</code>
+     * Generation of a single compilation unit, rendered from a <code>Type</code> by a <code>CodeGenerator</code>
+     * into a subfolder of base directory <code>parentDir</code>. Subdirectories are generated according to packages
+     * to which the type belongs (e. g. if type belongs to the package <i>org.pcg</i> then in <code>parentDir</code>
      * is created directory <i>org</i> which contains <i>pcg</i>).
-     *
-     * @param parentDir
-     *            directory where should be the new file generated
-     * @param type
-     *            JAVA <code>Type</code> for which should be JAVA source code
-     *            generated
-     * @param generator
-     *            code generator which is used for generating of the source code
-     * @return file which contains JAVA source code
-     * @throws IOException
-     *             if the error during writing to the file occurs
-     * @throws IllegalArgumentException
-     *             if <code>type</code> equals <code>null</code>
-     * @throws IllegalStateException
-     *             if string with generated code is empty
      */
-    private File generateTypeToJavaFile(final File parentDir, final Type type, final CodeGenerator generator)
-            throws IOException {
-        if (parentDir == null) {
-            LOG.warn("Parent Directory not specified, files will be generated "
-                    + "accordingly to generated Type package path.");
-        }
-        if (type == null) {
-            LOG.error("Cannot generate Type into Java File because " + "Generated Type is NULL!");
-            throw new IllegalArgumentException("Generated Type Cannot be NULL!");
-        }
-        if (generator == null) {
-            LOG.error("Cannot generate Type into Java File because " + "Code Generator instance is NULL!");
-            throw new IllegalArgumentException("Code Generator Cannot be NULL!");
+    private final class GeneratorTask {
+        private final File parentDir;
+        private final Type type;
+        private final CodeGenerator generator;
+        private String generatedCode;
+
+        GeneratorTask(final File parentDir, final Type type, final CodeGenerator generator) {
+            if (parentDir == null) {
+                LOG.warn("Parent Directory not specified, files will be generated "
+                        + "accordingly to generated Type package path.");
+            }
+            if (type == null) {
+                LOG.error("Cannot generate Type into Java File because " + "Generated Type is NULL!");
+                throw new IllegalArgumentException("Generated Type Cannot be NULL!");
+            }
+            if (generator == null) {
+                LOG.error("Cannot generate Type into Java File because " + "Code Generator instance is NULL!");
+                throw new IllegalArgumentException("Code Generator Cannot be NULL!");
+            }
+            this.parentDir = parentDir;
+            this.type = type;
+            this.generator = generator;
         }
-        final File packageDir = packageToDirectory(parentDir, type.getPackageName());
 
-        if (!packageDir.exists()) {
-            packageDir.mkdirs();
+        /**
+         * Renders the source code, if the generator accepts the type.
+         *
+         * @throws IllegalStateException
+         *             if string with generated code is empty
+         */
+        void render() {
+            if (generator.isAcceptable(type)) {
+                final String code = generator.generate(type);
+                if (code.isEmpty()) {
+                    throw new IllegalStateException("Generated code should not be empty!");
+                }
+                generatedCode = code;
+            }
         }
 
-        if (generator.isAcceptable(type)) {
-            final String generatedCode = generator.generate(type);
-            if (generatedCode.isEmpty()) {
-                throw new IllegalStateException("Generated code should not be empty!");
+        /**
+         * Writes rendered source code into its file. Files which already hold the same content, for example because
+         * they have been retained from a previous build, are not touched, so that their timestamps do not trigger
+         * recompilation.
+         *
+         * @param written files already written by this generator
+         * @return file which contains JAVA source code, or null if no file was generated
+         * @throws IOException
+         *             if the error during writing to the file occurs
+         */
+        File writeTo(final WrittenFiles written) throws IOException {
+            if (generatedCode == null) {
+                return null;
+            }
+
+            final File packageDir = packageToDirectory(parentDir, type.getPackageName());
+            if (!packageDir.exists()) {
+                packageDir.mkdirs();
             }
-            final File file = new File(packageDir, generator.getUnitName(type) + ".java");
 
-            if (file.exists()) {
+            final File file = new File(packageDir, generator.getUnitName(type) + ".java");
+            if (!written.add(file)) {
                 LOG.warn(
                         "Naming conflict for type '{}': file with same name already exists and will not be generated.",
                         type.getFullyQualifiedName());
                 return null;
             }
 
+            final byte[] content = generatedCode.getBytes(StandardCharsets.UTF_8);
+            if (file.isFile() && Arrays.equals(content, Files.readAllBytes(file.toPath()))) {
+                LOG.debug("File {} is up to date", file);
+                // Let the build context know the file is part of the output, even though it has not been written
+                buildContext.refresh(file);
+                return file;
+            }
+
             try (final OutputStream stream = buildContext.newFileOutputStream(file)) {
-                try (final Writer fw = new OutputStreamWriter(stream, StandardCharsets.UTF_8)) {
-                    try (final BufferedWriter bw = new BufferedWriter(fw)) {
-                        bw.write(generatedCode);
-                    }
-                } catch (IOException e) {
-                    LOG.error("Failed to write generate output into {}", file.getPath(), e);
-                    throw e;
-                }
+                stream.write(content);
+            } catch (IOException e) {
+                LOG.error("Failed to write generate output into {}", file.getPath(), e);
+                throw e;
             }
             return file;
+        }
+    }
+
+    /**
+     * Files written by a single generator run. Paths are compared exactly, hence types whose names differ only in case
+     * are both generated on case-sensitive file systems. Where the target file system is case-insensitive, such paths
+     * refer to the same file, which is detected by comparing the files themselves.
+     */
+    private static final class WrittenFiles {
+        private final Set<File> files = new HashSet<>();
+        private final Map<String, File> filesByFoldedPath = new HashMap<>();
+
+        /**
+         * Record a file about to be written.
+         *
+         * @param file file to be written
+         * @return true if the file has not been written yet, false if it would overwrite an already written file
+         * @throws IOException if the file system cannot be queried
+         */
+        boolean add(final File file) throws IOException {
+            if (!files.add(file)) {
+                return false;
+            }
 
+            final File previous = filesByFoldedPath.putIfAbsent(file.getPath().toLowerCase(Locale.ROOT), file);
+            return previous == null || !file.exists() || !Files.isSameFile(previous.toPath(), file.toPath());
         }
-        return null;
     }
 
     /**
@@ -0,0 +1,161 @@
+/*
+ * Copyright (c) 2017 Pantheon Technologies, s.r.o. and others.  All rights reserved.
+ *
+ * This program and the accompanying materials are made available under the
+ * terms of the Eclipse Public License v1.0 which accompanies this distribution,
+ * and is available at http://www.eclipse.org/legal/epl-v10.html
+ */
+package org.opendaylight.mdsal.binding.java.api.generator.test;
+
+import static org.junit.Assert.assertEquals;
+import static org.junit.Assert.assertNotNull;
+import static org.junit.Assert.assertNull;
+import static org.junit.Assert.assertSame;
+import static org.junit.Assert.assertTrue;
+
+import com.google.common.collect.ImmutableSet;
+import java.io.File;
+import java.net.URL;
+import java.net.URLClassLoader;
+import java.util.List;
+import org.junit.Test;
+import org.opendaylight.mdsal.binding.java.api.generator.GeneratorJavaFile;
+import org.opendaylight.mdsal.binding.model.api.Type;
+import org.opendaylight.yangtools.yang.binding.Augmentable;
+import org.opendaylight.yangtools.yang.binding.Augmentation;
+import org.opendaylight.yangtools.yang.model.api.SchemaContext;
+import org.opendaylight.yangtools.yang.test.util.YangParserTestUtils;
+
+/**
+ * Test behavior of generated builders and implementations with respect to sharing of augmentations between instances
+ * and builders, and to memoized hash codes.
+ */
+public class BuilderReuseCompilationTest extends BaseCompilationTest {
+    private static final String TEST_ID = "builder-reuse";
+    private static final String FOO_PKG = CompilationTestUtils.BASE_PKG + ".urn.opendaylight.foo.rev131008.";
+    private static final String BAR_PKG = CompilationTestUtils.BASE_PKG + ".urn.opendaylight.bar.rev131008.";
+
+    @Test
+    public void testBuilderReuse() throws Exception {
+        final File sourcesOutputDir = new File(CompilationTestUtils.GENERATOR_OUTPUT_PATH + CompilationTestUtils.FS
+            + TEST_ID);
+        assertTrue("Failed to create test file '" + sourcesOutputDir + "'", sourcesOutputDir.mkdir());
+        final File compiledOutputDir = new File(CompilationTestUtils.COMPILER_OUTPUT_PATH + CompilationTestUtils.FS
+            + TEST_ID);
+        assertTrue("Failed to create test file '" + compiledOutputDir + "'", compiledOutputDir.mkdir());
+
+        generateTestSources("/compilation/" + TEST_ID, sourcesOutputDir);
+        CompilationTestUtils.testCompilation(sourcesOutputDir, compiledOutputDir);
+
+        final ClassLoader loader = new URLClassLoader(new URL[] { compiledOutputDir.toURI().toURL() });
+        final Class<?> contClass = Class.forName(FOO_PKG + "Cont", true, loader);
+        final Class<?> contBuilderClass = Class.forName(FOO_PKG + "ContBuilder", true, loader);
+        final Class<?> fooAugClass = Class.forName(FOO_PKG + "Cont1", true, loader);
+        final Class<?> barAugClass = Class.forName(BAR_PKG + "Cont1", true, loader);
+
+        final Object fooAug = build(Class.forName(FOO_PKG + "Cont1Builder", true, loader), "setFooLeaf", "foo");
+        final Object barAug = build(Class.forName(BAR_PKG + "Cont1Builder", true, loader), "setBarLeaf", "bar");
+
+        // Builder reused after build() must not affect the object it has already built
+        final Object builder = contBuilderClass.newInstance();
+        addAugmentation(builder, fooAugClass, fooAug);
+        final Object first = invoke(builder, "build");
+        addAugmentation(builder, barAugClass, barAug);
+        final Object second = invoke(builder, "build");
+        assertSame(fooAug, getAugmentation(first, fooAugClass));
+        assertNull(getAugmentation(first, barAugClass));
+        assertSame(barAug, getAugmentation(second, barAugClass));
+
+        // Builder created from an instance shares its augmentations until they are modified
+        final Object copyBuilder = contBuilderClass.getConstructor(contClass).newInstance(second);
+        invoke(copyBuilder, "removeAugmentation", new Class<?>[] { Class.class }, fooAugClass);
+        final Object third = invoke(copyBuilder, "build");
+        assertNull(getAugmentation(third, fooAugClass));
+        assertSame(barAug, getAugmentation(third, barAugClass));
+        assertSame(fooAug, getAugmentation(second, fooAugClass));
+        assertSame(barAug, getAugmentation(second, barAugClass));
+
+        final Object otherCopyBuilder = contBuilderClass.getConstructor(contClass).newInstance(first);
+        addAugmentation(otherCopyBuilder, barAugClass, barAug);
+        assertEquals(second, invoke(otherCopyBuilder, "build"));
+        assertNull(getAugmentation(first, barAugClass));
+
+        CompilationTestUtils.cleanUp(sourcesOutputDir, compiledOutputDir);
+    }
+
+    @Test
+    public void testZeroHashCode() throws Exception {
+        final String testId = TEST_ID + "-hash";
+        final File sourcesOutputDir = new File(CompilationTestUtils.GENERATOR_OUTPUT_PATH + CompilationTestUtils.FS
+            + testId);
+        assertTrue("Failed to create test file '" + sourcesOutputDir + "'", sourcesOutputDir.mkdir());
+        final File compiledOutputDir = new File(CompilationTestUtils.COMPILER_OUTPUT_PATH + CompilationTestUtils.FS
+            + testId);
+        assertTrue("Failed to create test file '" + compiledOutputDir + "'", compiledOutputDir.mkdir());
+
+        generateTestSources("/compilation/" + TEST_ID, sourcesOutputDir);
+        CompilationTestUtils.testCompilation(sourcesOutputDir, compiledOutputDir);
+
+        final ClassLoader loader = new URLClassLoader(new URL[] { compiledOutputDir.toURI().toURL() });
+        final Class<?> contBuilderClass = Class.forName(FOO_PKG + "ContBuilder", true, loader);
+
+        // Find a value for which the hash code computes to zero, which is also the 'not computed' marker
+        Object zero = null;
+        for (int i = -1024; i <= 1024 && zero == null; ++i) {
+            final Object obj = build(contBuilderClass, "setValue", i, Integer.class);
+            if (obj.hashCode() == 0) {
+                zero = obj;
+            }
+        }
+        assertNotNull("No object with zero hash code found", zero);
+
+        // Hash code must be stable and consistent with equals
+        assertEquals(0, zero.hashCode());
+        assertEquals(0, zero.hashCode());
+        final Object value = Class.forName(FOO_PKG + "Cont", true, loader).getMethod("getValue").invoke(zero);
+        final Object other = build(contBuilderClass, "setValue", value, Integer.class);
+        assertEquals(zero, other);
+        assertEquals(0, other.hashCode());
+
+        CompilationTestUtils.cleanUp(sourcesOutputDir, compiledOutputDir);
+    }
+
+    private static Object build(final Class<?> builderClass, final String setter, final String value)
+            throws Exception {
+        return build(builderClass, setter, value, String.class);
+    }
+
+    private static Object build(final Class<?> builderClass, final String setter, final Object value,
+            final Class<?> valueType) throws Exception {
+        final Object builder = builderClass.newInstance();
+        invoke(builder, setter, new Class<?>[] { valueType }, value);
+        return invoke(builder, "build");
+    }
+
+    private static void addAugmentation(final Object builder, final Class<?> augClass, final Object aug)
+            throws Exception {
+        invoke(builder, "addAugmentation", new Class<?>[] { Class.class, Augmentation.class }, augClass, aug);
+    }
+
+    // Implementation classes are not public, hence their methods have to be invoked through their interfaces
+    private static Object getAugmentation(final Object obj, final Class<?> augClass) throws Exception {
+        return Augmentable.class.getMethod("getAugmentation", Class.class).invoke(obj, augClass);
+    }
+
+    private static Object invoke(final Object obj, final String name) throws Exception {
+        return obj.getClass().getMethod(name).invoke(obj);
+    }
+
+    private static Object invoke(final Object obj, final String name, final Class<?>[] argTypes, final Object... args)
+            throws Exception {
+        return obj.getClass().getMethod(name, argTypes).invoke(obj, args);
+    }
+
+    private void generateTestSources(final String resourceDirPath, final File sourcesOutputDir) throws Exception {
+        final List<File> sourceFiles = CompilationTestUtils.getSourceFiles(resourceDirPath);
+        final SchemaContext context = YangParserTestUtils.parseYangSources(sourceFiles);
+        final List<Type> types = bindingGenerator.generateTypes(context);
+        final GeneratorJavaFile generator = new GeneratorJavaFile(ImmutableSet.copyOf(types));
+        generator.generateToFile(sourcesOutputDir);
+    }
+}
@@ -7,11 +7,15 @@
  */
 package org.opendaylight.mdsal.binding.java.api.generator.test;
 
+import static org.junit.Assert.assertEquals;
 import static org.junit.Assert.assertTrue;
 
 import java.io.File;
 import java.io.IOException;
+import java.nio.charset.StandardCharsets;
+import java.nio.file.Files;
 import java.util.Arrays;
+import java.util.Collections;
 import java.util.HashSet;
 import java.util.List;
 import java.util.Set;
@@ -53,6 +57,46 @@ public class GeneratorJavaFileTest {
         assertTrue(filesList.contains("Type4Builder.java"));
     }
 
+    @Test
+    public void testUnchangedFilesNotRewritten() throws IOException {
+        final File dir = new File(PATH + FS + "unchanged");
+        final Set<GeneratedType> types = new HashSet<GeneratedType>();
+        types.add(createGeneratedType("org.opendaylight.controller.gen", "Type1"));
+
+        final List<File> first = new GeneratorJavaFile(types).generateToFile(dir);
+        assertEquals(1, first.size());
+        final File file = first.get(0);
+        assertTrue(file.setLastModified(1000L));
+
+        final List<File> second = new GeneratorJavaFile(types).generateToFile(dir);
+        assertEquals(first, second);
+        assertEquals(1000L, file.lastModified());
+    }
+
+    @Test
+    public void testCaseCollidingTypes() throws IOException {
+        final File dir = new File(PATH + FS + "case");
+        final List<GeneratedType> types = Arrays.asList(createGeneratedType("org.opendaylight.controller.gen", "Foo"),
+            createGeneratedType("org.opendaylight.controller.gen", "FOO"));
+
+        final List<File> files = new GeneratorJavaFile(types).generateToFile(dir);
+        final File packageDir = new File(dir, "org" + FS + "opendaylight" + FS + "controller" + FS + "gen");
+        if (new File(packageDir, "foo.java").exists()) {
+            // Case-insensitive file system: the second type would overwrite the first one, hence it is skipped
+            assertEquals(Collections.singletonList(new File(packageDir, "Foo.java")), files);
+        } else {
+            assertEquals(Arrays.asList(new File(packageDir, "Foo.java"), new File(packageDir, "FOO.java")), files);
+        }
+
+        // Each reported file holds the source of the type it is named after
+        for (File file : files) {
+            final String name = file.getName().substring(0, file.getName().length() - ".java".length());
+            final String content = new String(Files.readAllBytes(file.toPath()), StandardCharsets.UTF_8);
+            assertTrue(content.contains("interface " + name + "\n")
+                || content.contains("interface " + name + " "));
+        }
+    }
+
     private static GeneratedType createGeneratedType(String pkgName, String name) {
         GeneratedTypeBuilder builder = new GeneratedTypeBuilderImpl(pkgName, name);
         builder.addImplementsType(BindingTypes.DATA_OBJECT);
@@ -12,7 +12,7 @@ import com.google.common.base.MoreObjects.ToStringHelper;
 import com.google.common.base.Preconditions;
 import com.google.common.collect.ImmutableCollection;
 import com.google.common.collect.ImmutableList;
-import com.google.common.collect.Iterables;
+import com.google.common.collect.Iterators;
 import java.io.IOException;
 import java.io.Serializable;
 import java.lang.reflect.Field;
@@ -57,12 +57,24 @@ import org.opendaylight.yangtools.util.HashCodeBuilder;
 public class InstanceIdentifier<T extends DataObject> implements Path<InstanceIdentifier<? extends DataObject>>, Immutable, Serializable {
     private static final Field PATHARGUMENTS_FIELD;
     private static final long serialVersionUID = 2L;
+    /*
+     * Maximum number of child path arguments stacked on top of a flat list.
+     * Beyond this depth a child identifier copies its arguments into a new
+     * flat list, so iteration does not degrade with long child() chains.
+     */
+    private static final int MAX_APPENDED_ARGUMENTS = 16;
     /*
      * Protected to differentiate internal and external access. Internal
-     * access is required never to modify the contents. References passed
-     * to outside entities have to be wrapped in an unmodifiable view.
+     * access is required never to modify the contents. Child identifiers
+     * share their parent's arguments rather than copying them.
      */
     protected transient final Iterable<PathArgument> pathArguments;
+    /*
+     * Lazily-flattened copy of pathArguments, which gives constant-time
+     * access to size and individual arguments and can be passed to outside
+     * entities as is.
+     */
+    private transient ImmutableList<PathArgument> flatArguments;
     private final Class<T> targetType;
     private final boolean wildcarded;
     private final int hash;
@@ -100,7 +112,20 @@ public class InstanceIdentifier<T extends DataObject> implements Path<InstanceId
      * @return Path argument chain. Immutable and does not contain nulls.
      */
     public final Iterable<PathArgument> getPathArguments() {
-        return Iterables.unmodifiableIterable(pathArguments);
+        return flatArguments();
+    }
+
+    private ImmutableList<PathArgument> flatArguments() {
+        if (pathArguments instanceof ImmutableList) {
+            return (ImmutableList<PathArgument>) pathArguments;
+        }
+
+        ImmutableList<PathArgument> ret = flatArguments;
+        if (ret == null) {
+            ret = ImmutableList.copyOf(pathArguments);
+            flatArguments = ret;
+        }
+        return ret;
     }
 
     /**
@@ -150,12 +175,17 @@ public class InstanceIdentifier<T extends DataObject> implements Path<InstanceId
         if (targetType != other.targetType) {
             return false;
         }
+        final List<PathArgument> args = flatArguments();
+        final List<PathArgument> otherArgs = other.flatArguments();
+        if (args.size() != otherArgs.size()) {
+            return false;
+        }
         if (fastNonEqual(other)) {
             return false;
         }
 
         // Everything checks out so far, so we have to do a full equals
-        return Iterables.elementsEqual(pathArguments, other.pathArguments);
+        return args.equals(otherArgs);
     }
 
     /**
@@ -182,7 +212,7 @@ public class InstanceIdentifier<T extends DataObject> implements Path<InstanceId
      * @return ToStringHelper instance which was passed in
      */
     protected ToStringHelper addToStringAttributes(final ToStringHelper toStringHelper) {
-        return toStringHelper.add("targetType", targetType).add("path", Iterables.toString(pathArguments));
+        return toStringHelper.add("targetType", targetType).add("path", flatArguments());
     }
 
     /**
@@ -205,16 +235,14 @@ public class InstanceIdentifier<T extends DataObject> implements Path<InstanceId
      *         is not present.
      */
     public final <I extends DataObject> InstanceIdentifier<I> firstIdentifierOf(final Class<I> type) {
-        int i = 1;
-        for (final PathArgument a : pathArguments) {
-            if (type.equals(a.getType())) {
+        final ImmutableList<PathArgument> args = flatArguments();
+        final int size = args.size();
+        for (int i = 0; i < size; ++i) {
+            if (type.equals(args.get(i).getType())) {
                 @SuppressWarnings("unchecked")
-                final InstanceIdentifier<I> ret = (InstanceIdentifier<I>) internalCreate(
-                        Iterables.limit(pathArguments, i));
+                final InstanceIdentifier<I> ret = (InstanceIdentifier<I>) internalCreate(args.subList(0, i + 1));
                 return ret;
             }
-
-            ++i;
         }
 
         return null;
@@ -280,15 +308,14 @@ public class InstanceIdentifier<T extends DataObject> implements Path<InstanceId
     public final boolean contains(final InstanceIdentifier<? extends DataObject> other) {
         Preconditions.checkNotNull(other, "other should not be null");
 
-        final Iterator<?> lit = pathArguments.iterator();
-        final Iterator<?> oit = other.pathArguments.iterator();
-
-        while (lit.hasNext()) {
-            if (!oit.hasNext()) {
-                return false;
-            }
-
-            if (!lit.next().equals(oit.next())) {
+        final List<PathArgument> args = flatArguments();
+        final List<PathArgument> otherArgs = other.flatArguments();
+        final int size = args.size();
+        if (size > otherArgs.size()) {
+            return false;
+        }
+        for (int i = 0; i < size; ++i) {
+            if (!args.get(i).equals(otherArgs.get(i))) {
                 return false;
             }
         }
@@ -307,16 +334,15 @@ public class InstanceIdentifier<T extends DataObject> implements Path<InstanceId
     public final boolean containsWildcarded(final InstanceIdentifier<?> other) {
         Preconditions.checkNotNull(other, "other should not be null");
 
-        final Iterator<PathArgument> lit = pathArguments.iterator();
-        final Iterator<PathArgument> oit = other.pathArguments.iterator();
-
-        while (lit.hasNext()) {
-            if (!oit.hasNext()) {
-                return false;
-            }
-
-            final PathArgument la = lit.next();
-            final PathArgument oa = oit.next();
+        final List<PathArgument> args = flatArguments();
+        final List<PathArgument> otherArgs = other.flatArguments();
+        final int size = args.size();
+        if (size > otherArgs.size()) {
+            return false;
+        }
+        for (int i = 0; i < size; ++i) {
+            final PathArgument la = args.get(i);
+            final PathArgument oa = otherArgs.get(i);
 
             if (!la.getType().equals(oa.getType())) {
                 return false;
@@ -339,7 +365,34 @@ public class InstanceIdentifier<T extends DataObject> implements Path<InstanceId
     }
 
     private InstanceIdentifier<?> childIdentifier(final PathArgument arg) {
-        return trustedCreate(arg, Iterables.concat(pathArguments, Collections.singleton(arg)), HashCodeBuilder.nextHashCode(hash, arg), isWildcarded());
+        final Iterable<PathArgument> childArguments;
+        if (pathArguments instanceof AppendedArguments
+                && ((AppendedArguments) pathArguments).depth >= MAX_APPENDED_ARGUMENTS) {
+            childArguments = ImmutableList.<PathArgument>builder().addAll(pathArguments).add(arg).build();
+        } else {
+            childArguments = new AppendedArguments(pathArguments, arg);
+        }
+        return trustedCreate(arg, childArguments, HashCodeBuilder.nextHashCode(hash, arg), isWildcarded());
+    }
+
+    /**
+     * Path arguments of a child identifier, sharing the arguments of its parent.
+     */
+    private static final class AppendedArguments implements Iterable<PathArgument> {
+        private final Iterable<PathArgument> parent;
+        private final PathArgument last;
+        private final int depth;
+
+        AppendedArguments(final Iterable<PathArgument> parent, final PathArgument last) {
+            this.parent = parent;
+            this.last = last;
+            this.depth = parent instanceof AppendedArguments ? ((AppendedArguments) parent).depth + 1 : 1;
+        }
+
+        @Override
+        public Iterator<PathArgument> iterator() {
+            return Iterators.concat(parent.iterator(), Iterators.singletonIterator(last));
+        }
     }
 
     @SuppressWarnings("unchecked")
@@ -362,19 +415,12 @@ public class InstanceIdentifier<T extends DataObject> implements Path<InstanceId
         return (InstanceIdentifier<N>) childIdentifier(arg);
     }
 
-    @Deprecated
-    private List<PathArgument> legacyCache;
-
     /**
      * @deprecated Use {@link #getPathArguments()} instead.
      */
     @Deprecated
     public final List<PathArgument> getPath() {
-        if (legacyCache == null) {
-            legacyCache = ImmutableList.<PathArgument>copyOf(pathArguments);
-        }
-
-        return legacyCache;
+        return flatArguments();
     }
 
     /**
@@ -694,7 +740,7 @@ public class InstanceIdentifier<T extends DataObject> implements Path<InstanceId
 
     private void writeObject(final java.io.ObjectOutputStream out) throws IOException {
         out.defaultWriteObject();
-        out.writeInt(Iterables.size(pathArguments));
+        out.writeInt(flatArguments().size());
         for (Object o : pathArguments) {
             out.writeObject(o);
         }
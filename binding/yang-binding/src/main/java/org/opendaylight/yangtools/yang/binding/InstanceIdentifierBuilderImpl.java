@@ -9,7 +9,6 @@ package org.opendaylight.yangtools.yang.binding;
 
 import com.google.common.base.Preconditions;
 import com.google.common.collect.ImmutableList;
-import com.google.common.collect.Iterables;
 import java.util.Objects;
 import org.opendaylight.yangtools.util.HashCodeBuilder;
 import org.opendaylight.yangtools.yang.binding.InstanceIdentifier.IdentifiableItem;
@@ -103,11 +102,11 @@ final class InstanceIdentifierBuilderImpl<T extends DataObject> implements Insta
     public InstanceIdentifier<T> build() {
         Preconditions.checkState(arg != null, "No path arguments present");
 
-        final Iterable<PathArgument> pathArguments;
+        final ImmutableList<PathArgument> pathArguments;
         if (basePath == null) {
             pathArguments = pathBuilder.build();
         } else {
-            pathArguments = Iterables.concat(basePath, pathBuilder.build());
+            pathArguments = ImmutableList.<PathArgument>builder().addAll(basePath).addAll(pathBuilder.build()).build();
         }
 
         @SuppressWarnings("unchecked")
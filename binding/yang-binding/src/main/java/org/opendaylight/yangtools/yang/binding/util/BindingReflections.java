@@ -10,9 +10,7 @@ package org.opendaylight.yangtools.yang.binding.util;
 import static com.google.common.base.Preconditions.checkArgument;
 import static com.google.common.base.Preconditions.checkState;
 import com.google.common.base.Optional;
-import com.google.common.cache.CacheBuilder;
-import com.google.common.cache.CacheLoader;
-import com.google.common.cache.LoadingCache;
+import com.google.common.collect.ImmutableMap;
 import com.google.common.collect.ImmutableSet;
 import com.google.common.collect.ImmutableSet.Builder;
 import com.google.common.collect.Sets;
@@ -20,17 +18,14 @@ import java.lang.reflect.Field;
 import java.lang.reflect.Method;
 import java.lang.reflect.Type;
 import java.net.URI;
-import java.util.HashMap;
 import java.util.HashSet;
+import java.util.LinkedHashMap;
 import java.util.LinkedList;
 import java.util.List;
 import java.util.Map;
 import java.util.ServiceLoader;
 import java.util.concurrent.Callable;
 import java.util.concurrent.Future;
-import java.util.concurrent.TimeUnit;
-import java.util.regex.Matcher;
-import java.util.regex.Pattern;
 import org.opendaylight.yangtools.util.ClassLoaderUtils;
 import org.opendaylight.yangtools.yang.binding.Augmentable;
 import org.opendaylight.yangtools.yang.binding.Augmentation;
@@ -50,15 +45,21 @@ import org.slf4j.LoggerFactory;
 
 public class BindingReflections {
 
-    private static final long EXPIRATION_TIME = 60;
     private static final String ROOT_PACKAGE_PATTERN_STRING = "(org.opendaylight.yang.gen.v1.[a-z0-9_\\.]*\\.rev[0-9][0-9][0-1][0-9][0-3][0-9])";
-    private static final Pattern ROOT_PACKAGE_PATTERN = Pattern.compile(ROOT_PACKAGE_PATTERN_STRING);
+    private static final String REVISION_PACKAGE_PREFIX = ".rev";
+    private static final int REVISION_PACKAGE_LENGTH = REVISION_PACKAGE_PREFIX.length() + 6;
     private static final Logger LOG = LoggerFactory.getLogger(BindingReflections.class);
 
-    private static final LoadingCache<Class<?>, Optional<QName>> CLASS_TO_QNAME = CacheBuilder.newBuilder() //
-            .weakKeys() //
-            .expireAfterAccess(EXPIRATION_TIME, TimeUnit.SECONDS) //
-            .build(new ClassToQNameLoader());
+    /**
+     * Metadata resolved from binding classes. Since it is attached to the class itself, it is computed once and
+     * is released together with the class.
+     */
+    private static final ClassValue<ClassMetadata> METADATA = new ClassValue<ClassMetadata>() {
+        @Override
+        protected ClassMetadata computeValue(final Class<?> type) {
+            return new ClassMetadata(type);
+        }
+    };
 
     private BindingReflections() {
         throw new UnsupportedOperationException("Utility class.");
@@ -78,7 +79,7 @@ public class BindingReflections {
      */
     public static Class<? extends Augmentable<?>> findAugmentationTarget(
             final Class<? extends Augmentation<?>> augmentation) {
-        return ClassLoaderUtils.findFirstGenericArgument(augmentation, Augmentation.class);
+        return METADATA.get(augmentation).augmentationTarget();
     }
 
     /**
@@ -125,7 +126,7 @@ public class BindingReflections {
      *         May return null if QName is not present.
      */
     public static final QName findQName(final Class<?> dataType) {
-        return CLASS_TO_QNAME.getUnchecked(dataType).orNull();
+        return METADATA.get(dataType).qname().orNull();
     }
 
     /**
@@ -236,22 +237,54 @@ public class BindingReflections {
         checkArgument(name != null, "Package name should not be null.");
         checkArgument(name.startsWith(BindingMapping.PACKAGE_PREFIX), "Package name not starting with %s, is: %s",
                 BindingMapping.PACKAGE_PREFIX, name);
-        Matcher match = ROOT_PACKAGE_PATTERN.matcher(name);
-        checkArgument(match.find(), "Package name '%s' does not match required pattern '%s'", name,
+        final int end = findRootPackageEnd(name);
+        checkArgument(end != -1, "Package name '%s' does not match required pattern '%s'", name,
                 ROOT_PACKAGE_PATTERN_STRING);
-        return match.group(0);
+        return name.substring(0, end);
     }
 
-    public static final QNameModule getQNameModule(final Class<?> clz) {
-        if(DataContainer.class.isAssignableFrom(clz) || BaseIdentity.class.isAssignableFrom(clz)) {
-            return findQName(clz).getModule();
+    /**
+     * Find the end of the model root package, which is the last revision package reachable from
+     * {@link BindingMapping#PACKAGE_PREFIX} through lower-case package names, as matched by
+     * {@link #ROOT_PACKAGE_PATTERN_STRING}.
+     *
+     * @return End index of the root package, or -1 if it cannot be found
+     */
+    private static int findRootPackageEnd(final String name) {
+        final int start = BindingMapping.PACKAGE_PREFIX.length() + 1;
+        int limit = start;
+        while (limit < name.length() && isRootPackageChar(name.charAt(limit))) {
+            limit++;
+        }
+
+        for (int offset = limit - REVISION_PACKAGE_LENGTH; offset >= start; offset--) {
+            if (isRevisionPackage(name, offset)) {
+                return offset + REVISION_PACKAGE_LENGTH;
+            }
         }
-        try {
-            YangModuleInfo modInfo = BindingReflections.getModuleInfo(clz);
-            return getQNameModule(modInfo);
-        } catch (Exception e) {
-            throw new IllegalStateException("Unable to get QName of defining model.", e);
+        return -1;
+    }
+
+    private static boolean isRootPackageChar(final char ch) {
+        return ch >= 'a' && ch <= 'z' || ch >= '0' && ch <= '9' || ch == '_' || ch == '.';
+    }
+
+    private static boolean isRevisionPackage(final String name, final int offset) {
+        if (!name.startsWith(REVISION_PACKAGE_PREFIX, offset)) {
+            return false;
         }
+        final int digits = offset + REVISION_PACKAGE_PREFIX.length();
+        return isDigitInRange(name.charAt(digits), '9') && isDigitInRange(name.charAt(digits + 1), '9')
+                && isDigitInRange(name.charAt(digits + 2), '1') && isDigitInRange(name.charAt(digits + 3), '9')
+                && isDigitInRange(name.charAt(digits + 4), '3') && isDigitInRange(name.charAt(digits + 5), '9');
+    }
+
+    private static boolean isDigitInRange(final char ch, final char max) {
+        return ch >= '0' && ch <= max;
+    }
+
+    public static final QNameModule getQNameModule(final Class<?> clz) {
+        return METADATA.get(clz).module();
     }
 
     public static final QNameModule getQNameModule(final YangModuleInfo modInfo) {
@@ -270,6 +303,10 @@ public class BindingReflections {
      */
     public static YangModuleInfo getModuleInfo(final Class<?> cls) throws Exception {
         checkArgument(cls != null);
+        return METADATA.get(cls).moduleInfo();
+    }
+
+    private static YangModuleInfo loadModuleInfo(final Class<?> cls) throws Exception {
         String packageName = getModelRootPackageName(cls.getPackage());
         final String potentialClassName = getModuleInfoClassName(packageName);
         return ClassLoaderUtils.withClassLoader(cls.getClassLoader(), (Callable<YangModuleInfo>) () -> {
@@ -430,14 +467,18 @@ public class BindingReflections {
     public static Map<Class<?>, Method> getChildrenClassToMethod(final Class<?> type) {
         checkArgument(type != null, "Target type must not be null");
         checkArgument(DataContainer.class.isAssignableFrom(type), "Supplied type must be derived from DataContainer");
-        Map<Class<?>, Method> ret = new HashMap<>();
+        return METADATA.get(type).childrenClassToMethod();
+    }
+
+    private static Map<Class<?>, Method> loadChildrenClassToMethod(final Class<?> type) {
+        final Map<Class<?>, Method> ret = new LinkedHashMap<>();
         for (Method method : type.getMethods()) {
             Optional<Class<? extends DataContainer>> entity = getYangModeledReturnType(method);
             if (entity.isPresent()) {
                 ret.put(entity.get(), method);
             }
         }
-        return ret;
+        return ImmutableMap.copyOf(ret);
     }
 
     @SuppressWarnings({ "unchecked", "rawtypes" })
@@ -475,11 +516,84 @@ public class BindingReflections {
         return Optional.absent();
     }
 
-    private static class ClassToQNameLoader extends CacheLoader<Class<?>, Optional<QName>> {
+    /**
+     * Lazily-resolved metadata of a single class. Items are resolved on first access, as not all of them apply
+     * to every class. Concurrent first accesses may resolve an item more than once, which is harmless, as the result
+     * is always the same.
+     */
+    private static final class ClassMetadata {
+        private final Class<?> type;
 
-        @Override
-        public Optional<QName> load(@SuppressWarnings("NullableProblems") final Class<?> key) throws Exception {
-            return resolveQNameNoCache(key);
+        private volatile Optional<QName> qname;
+        private volatile YangModuleInfo moduleInfo;
+        private volatile QNameModule module;
+        private volatile Map<Class<?>, Method> childrenClassToMethod;
+        private volatile Optional<Class<? extends Augmentable<?>>> augmentationTarget;
+
+        ClassMetadata(final Class<?> type) {
+            this.type = type;
+        }
+
+        Optional<QName> qname() {
+            Optional<QName> ret = qname;
+            if (ret == null) {
+                ret = ClassToQNameLoader.resolveQNameNoCache(type);
+                qname = ret;
+            }
+            return ret;
+        }
+
+        YangModuleInfo moduleInfo() throws Exception {
+            YangModuleInfo ret = moduleInfo;
+            if (ret == null) {
+                ret = loadModuleInfo(type);
+                moduleInfo = ret;
+            }
+            return ret;
+        }
+
+        QNameModule module() {
+            QNameModule ret = module;
+            if (ret == null) {
+                if (DataContainer.class.isAssignableFrom(type) || BaseIdentity.class.isAssignableFrom(type)) {
+                    ret = findQName(type).getModule();
+                } else {
+                    try {
+                        ret = getQNameModule(moduleInfo());
+                    } catch (Exception e) {
+                        throw new IllegalStateException("Unable to get QName of defining model.", e);
+                    }
+                }
+                module = ret;
+            }
+            return ret;
+        }
+
+        Map<Class<?>, Method> childrenClassToMethod() {
+            Map<Class<?>, Method> ret = childrenClassToMethod;
+            if (ret == null) {
+                ret = loadChildrenClassToMethod(type);
+                childrenClassToMethod = ret;
+            }
+            return ret;
+        }
+
+        @SuppressWarnings({ "unchecked", "rawtypes" })
+        Class<? extends Augmentable<?>> augmentationTarget() {
+            Optional<Class<? extends Augmentable<?>>> ret = augmentationTarget;
+            if (ret == null) {
+                ret = Optional.fromNullable(ClassLoaderUtils.findFirstGenericArgument((Class) type,
+                    Augmentation.class));
+                augmentationTarget = ret;
+            }
+            return ret.orNull();
+        }
+    }
+
+    private static final class ClassToQNameLoader {
+
+        private ClassToQNameLoader() {
+            throw new UnsupportedOperationException("Utility class.");
         }
 
         /**
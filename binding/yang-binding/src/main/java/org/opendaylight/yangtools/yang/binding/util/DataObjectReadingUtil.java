@@ -12,7 +12,9 @@ import static com.google.common.base.Preconditions.checkState;
 import com.google.common.base.Optional;
 import com.google.common.collect.ImmutableMap;
 import com.google.common.collect.ImmutableMap.Builder;
-import java.lang.reflect.InvocationTargetException;
+import java.lang.invoke.MethodHandle;
+import java.lang.invoke.MethodHandles;
+import java.lang.invoke.MethodType;
 import java.lang.reflect.Method;
 import java.util.ArrayList;
 import java.util.Collections;
@@ -20,6 +22,8 @@ import java.util.Iterator;
 import java.util.List;
 import java.util.Map;
 import java.util.Map.Entry;
+import java.util.concurrent.ConcurrentHashMap;
+import java.util.concurrent.ConcurrentMap;
 import org.opendaylight.yangtools.yang.binding.Augmentable;
 import org.opendaylight.yangtools.yang.binding.Augmentation;
 import org.opendaylight.yangtools.yang.binding.DataContainer;
@@ -34,6 +38,25 @@ import org.opendaylight.yangtools.yang.binding.InstanceIdentifier.PathArgument;
 public class DataObjectReadingUtil {
 
     private static final DataObjectReadingStrategy REAUSABLE_AUGMENTATION_READING_STRATEGY = new AugmentationReadingStrategy();
+    private static final MethodType GETTER_TYPE = MethodType.methodType(Object.class, DataContainer.class);
+
+    /**
+     * Reading strategies, indexed by parent class and then by child class. Strategies hold resolved accessors, hence
+     * caching them avoids repeated getter lookups when the same paths are read over and over.
+     *
+     * <p>
+     * Each parent's cache references only child classes which the parent exposes through its getters, hence which
+     * are already visible to the parent's class loader. The reverse indexing would not be safe: a child defined in a
+     * grouping is shared by parents in other models, and its cache would keep their class loaders alive. Weak keys
+     * would not help here, as each strategy references its child class strongly.
+     */
+    private static final ClassValue<ConcurrentMap<Class<?>, DataObjectReadingStrategy>> STRATEGIES =
+            new ClassValue<ConcurrentMap<Class<?>, DataObjectReadingStrategy>>() {
+                @Override
+                protected ConcurrentMap<Class<?>, DataObjectReadingStrategy> computeValue(final Class<?> type) {
+                    return new ConcurrentHashMap<>();
+                }
+            };
 
     private DataObjectReadingUtil() {
         throw new UnsupportedOperationException("Utility class. Instantion is not allowed.");
@@ -104,18 +127,23 @@ public class DataObjectReadingUtil {
 
     private static DataObjectReadingStrategy resolveReadStrategy(final Class<? extends DataContainer> parentClass,
             final Class<? extends DataContainer> type) {
+        if (Augmentable.class.isAssignableFrom(parentClass) && Augmentation.class.isAssignableFrom(type)) {
+            return REAUSABLE_AUGMENTATION_READING_STRATEGY;
+        }
+
+        final ConcurrentMap<Class<?>, DataObjectReadingStrategy> strategies = STRATEGIES.get(parentClass);
+        final DataObjectReadingStrategy existing = strategies.get(type);
+        if (existing != null) {
+            return existing;
+        }
 
-        // FIXME: Add caching of strategies
-        return createReadStrategy(parentClass, type);
+        final DataObjectReadingStrategy created = createReadStrategy(parentClass, type);
+        final DataObjectReadingStrategy raced = strategies.putIfAbsent(type, created);
+        return raced != null ? raced : created;
     }
 
     private static DataObjectReadingStrategy createReadStrategy(final Class<? extends DataContainer> parent,
             final Class<? extends DataContainer> child) {
-
-        if (Augmentable.class.isAssignableFrom(parent) && Augmentation.class.isAssignableFrom(child)) {
-            return REAUSABLE_AUGMENTATION_READING_STRATEGY;
-        }
-
         /*
          * FIXME Ensure that this strategies also works for children of cases.
          * Possible edge-case is : Parent container uses grouping foo case is
@@ -135,6 +163,7 @@ public class DataObjectReadingUtil {
         private final Class<? extends DataContainer> parentType;
         private final Class<? extends DataContainer> childType;
         private final Method getterMethod;
+        private final MethodHandle getterHandle;
 
         @SuppressWarnings("unchecked")
         public DataObjectReadingStrategy(final Class parentType, final Class childType) {
@@ -144,6 +173,11 @@ public class DataObjectReadingUtil {
             this.parentType = parentType;
             this.childType = childType;
             this.getterMethod = resolveGetterMethod(parentType, childType);
+            try {
+                this.getterHandle = MethodHandles.publicLookup().unreflect(getterMethod).asType(GETTER_TYPE);
+            } catch (IllegalAccessException e) {
+                throw new IllegalStateException("Can not access public method.", e);
+            }
         }
 
         @SuppressWarnings("unchecked")
@@ -151,6 +185,7 @@ public class DataObjectReadingUtil {
             this.parentType = parentType;
             this.childType = childType;
             this.getterMethod = getter;
+            this.getterHandle = null;
         }
 
         @SuppressWarnings("unused")
@@ -166,6 +201,10 @@ public class DataObjectReadingUtil {
             return getterMethod;
         }
 
+        protected Object invokeGetter(final DataContainer parent) throws Throwable {
+            return getterHandle.invokeExact(parent);
+        }
+
         public abstract Map<InstanceIdentifier, DataContainer> readUsingPathArgument(DataContainer parent,
                 PathArgument childArgument, InstanceIdentifier targetBuilder);
 
@@ -206,14 +245,14 @@ public class DataObjectReadingUtil {
 
         @Override
         public DataContainer read(final DataContainer parent, final Class<?> childType) {
+            final Object potentialData;
             try {
-                Object potentialData = getGetterMethod().invoke(parent);
-                checkState(potentialData instanceof DataContainer);
-                return (DataContainer) potentialData;
-
-            } catch (IllegalAccessException | InvocationTargetException e) {
+                potentialData = invokeGetter(parent);
+            } catch (Throwable e) {
                 throw new IllegalArgumentException(e);
             }
+            checkState(potentialData instanceof DataContainer);
+            return (DataContainer) potentialData;
         }
     }
 
@@ -235,20 +274,21 @@ public class DataObjectReadingUtil {
         @Override
         public Map<InstanceIdentifier, DataContainer> readUsingPathArgument(final DataContainer parent,
                 final PathArgument childArgument, final InstanceIdentifier builder) {
+            final Object potentialList;
             try {
-                Object potentialList = getGetterMethod().invoke(parent);
-                if (potentialList instanceof Iterable) {
-
-                    final Iterable<Identifiable> dataList = (Iterable<Identifiable>) potentialList;
-                    if (childArgument instanceof IdentifiableItem<?, ?>) {
-                        return readUsingIdentifiableItem(dataList, (IdentifiableItem) childArgument, builder);
-                    } else {
-                        return readAll(dataList, builder);
-                    }
-                }
-            } catch (InvocationTargetException | IllegalArgumentException | IllegalAccessException e) {
+                potentialList = invokeGetter(parent);
+            } catch (Throwable e) {
                 throw new IllegalStateException(e);
             }
+            if (potentialList instanceof Iterable) {
+
+                final Iterable<Identifiable> dataList = (Iterable<Identifiable>) potentialList;
+                if (childArgument instanceof IdentifiableItem<?, ?>) {
+                    return readUsingIdentifiableItem(dataList, (IdentifiableItem) childArgument, builder);
+                } else {
+                    return readAll(dataList, builder);
+                }
+            }
             return Collections.emptyMap();
         }
 
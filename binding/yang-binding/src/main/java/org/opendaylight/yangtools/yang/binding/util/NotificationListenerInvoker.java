@@ -96,6 +96,20 @@ public final class NotificationListenerInvoker {
         return INVOKERS.getUnchecked(type);
     }
 
+    /**
+     * Returns a method handle which invokes the callback for specified notification on an implementation of the
+     * listener interface. The handle is of type <code>(NotificationListener, DataContainer)void</code>. Callers which
+     * deliver the same notification type repeatedly can resolve the handle once, rather than having it looked up on
+     * each {@link #invokeNotification(NotificationListener, QName, DataContainer)} call.
+     *
+     * @param notificationName
+     *            Name of the notification
+     * @return Method handle, or null if the listener does not handle the notification.
+     */
+    public @Nullable MethodHandle getNotificationHandle(@Nonnull final QName notificationName) {
+        return methodInvokers.get(notificationName);
+    }
+
     /**
      * Invokes supplied RPC on provided implementation of RPC Service.
      *
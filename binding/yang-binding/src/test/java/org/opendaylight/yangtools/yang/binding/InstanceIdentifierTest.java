@@ -15,13 +15,21 @@ import static org.junit.Assert.assertTrue;
 import static org.mockito.Mockito.mock;
 
 import com.google.common.collect.ImmutableList;
+import com.google.common.collect.Iterables;
 import java.io.ByteArrayInputStream;
 import java.io.ByteArrayOutputStream;
 import java.io.ObjectInputStream;
 import java.io.ObjectOutputStream;
 import java.lang.reflect.Field;
+import java.util.ArrayList;
+import java.util.List;
 import org.junit.Test;
+import org.opendaylight.yangtools.yang.binding.InstanceIdentifier.IdentifiableItem;
 import org.opendaylight.yangtools.yang.binding.InstanceIdentifier.InstanceIdentifierBuilder;
+import org.opendaylight.yangtools.yang.binding.InstanceIdentifier.Item;
+import org.opendaylight.yangtools.yang.binding.InstanceIdentifier.PathArgument;
+import org.opendaylight.yangtools.yang.binding.test.mock.Cascade;
+import org.opendaylight.yangtools.yang.binding.test.mock.CascadeKey;
 import org.opendaylight.yangtools.yang.binding.test.mock.FooChild;
 import org.opendaylight.yangtools.yang.binding.test.mock.InstantiatedFoo;
 import org.opendaylight.yangtools.yang.binding.test.mock.Node;
@@ -163,6 +171,70 @@ public class InstanceIdentifierTest {
         assertNotNull(instanceIdentifierBuilder.toInstance());
     }
 
+    @Test
+    public void flatPathArgumentsTest() {
+        final InstanceIdentifier<Nodes> nodes = InstanceIdentifier.create(Nodes.class);
+        final InstanceIdentifier<NodeChild> fromChild = nodes.child(Node.class, new NodeKey(10)).child(NodeChild.class);
+        final InstanceIdentifier<NodeChild> fromBuilder = nodes.builder().child(Node.class, new NodeKey(10))
+                .child(NodeChild.class).build();
+
+        assertEquals(fromChild, fromBuilder);
+        assertEquals(fromChild.hashCode(), fromBuilder.hashCode());
+        assertEquals(3, fromChild.getPath().size());
+        assertTrue(fromChild.getPathArguments() instanceof ImmutableList);
+        assertTrue(nodes.contains(fromChild));
+        assertFalse(fromChild.contains(nodes));
+    }
+
+    @Test
+    public void deepChildPathTest() {
+        // Deep enough to cross the shared argument chain limit more than once
+        final int depth = 40;
+        final List<PathArgument> args = new ArrayList<>();
+        args.add(new IdentifiableItem<>(Cascade.class, new CascadeKey(0)));
+        @SuppressWarnings("unchecked")
+        final InstanceIdentifier<Cascade> root = (InstanceIdentifier<Cascade>) InstanceIdentifier.create(args);
+
+        final List<InstanceIdentifier<Cascade>> ancestors = new ArrayList<>();
+        InstanceIdentifier<Cascade> fromChild = root;
+        final InstanceIdentifierBuilder<Cascade> builder = root.builder();
+        for (int i = 1; i < depth; ++i) {
+            ancestors.add(fromChild);
+            fromChild = fromChild.child(Cascade.class, new CascadeKey(i));
+            builder.child(Cascade.class, new CascadeKey(i));
+            args.add(new IdentifiableItem<>(Cascade.class, new CascadeKey(i)));
+        }
+        final InstanceIdentifier<Cascade> fromBuilder = builder.build();
+        final InstanceIdentifier<?> flat = InstanceIdentifier.create(args);
+
+        assertEquals(args, ImmutableList.copyOf(fromChild.getPathArguments()));
+        assertEquals(args, ImmutableList.copyOf(fromBuilder.getPathArguments()));
+        assertEquals(flat, fromChild);
+        assertEquals(fromChild, flat);
+        assertEquals(flat, fromBuilder);
+        assertEquals(flat.hashCode(), fromChild.hashCode());
+        assertEquals(flat.hashCode(), fromBuilder.hashCode());
+        assertFalse(fromChild.isWildcarded());
+
+        for (final InstanceIdentifier<Cascade> ancestor : ancestors) {
+            assertTrue(ancestor.contains(fromChild));
+            assertTrue(ancestor.contains(flat));
+            assertFalse(fromChild.contains(ancestor));
+        }
+
+        final InstanceIdentifier<Cascade> wildcarded = ancestors.get(depth - 3).child(Cascade.class)
+                .child(Cascade.class, new CascadeKey(depth - 1));
+        assertTrue(wildcarded.isWildcarded());
+        assertTrue(wildcarded.containsWildcarded(fromChild));
+        assertFalse(wildcarded.contains(fromChild));
+        assertFalse(fromChild.containsWildcarded(wildcarded));
+        assertEquals(new Item<>(Cascade.class), Iterables.get(wildcarded.getPathArguments(), depth - 2));
+
+        assertEquals(root, fromChild.firstIdentifierOf(Cascade.class));
+        assertEquals(new CascadeKey(0), fromChild.firstKeyOf(Cascade.class));
+        assertNull(fromChild.firstIdentifierOf(Nodes.class));
+    }
+
     @Test
     public void firstIdentifierOfTest() {
         final InstanceIdentifier<Node> instanceIdentifier =
@@ -10,6 +10,7 @@ package org.opendaylight.yangtools.yang.binding.util;
 import static org.junit.Assert.assertEquals;
 import static org.junit.Assert.assertFalse;
 import static org.junit.Assert.assertNull;
+import static org.junit.Assert.assertSame;
 import static org.junit.Assert.assertTrue;
 import static org.mockito.Mockito.doReturn;
 import static org.mockito.Mockito.mock;
@@ -60,6 +61,27 @@ public class BindingReflectionsTest {
         assertTrue(BindingReflections.getQName(TestImplementation.class).toString().equals("test"));
     }
 
+    @Test
+    public void testModelRootPackageName() {
+        assertEquals("org.opendaylight.yang.gen.v1.urn.test.rev140701",
+                BindingReflections.getModelRootPackageName("org.opendaylight.yang.gen.v1.urn.test.rev140701.foo.bar"));
+        assertEquals("org.opendaylight.yang.gen.v1.test.rev140701.rev150101",
+                BindingReflections.getModelRootPackageName("org.opendaylight.yang.gen.v1.test.rev140701.rev150101"));
+    }
+
+    @Test(expected = IllegalArgumentException.class)
+    public void testModelRootPackageNameWithoutRevision() {
+        BindingReflections.getModelRootPackageName("org.opendaylight.yang.gen.v1.test.foo");
+    }
+
+    @Test
+    public void testMetadataResolvedOnce() {
+        assertSame(BindingReflections.getChildrenClassToMethod(FooChild.class),
+                BindingReflections.getChildrenClassToMethod(FooChild.class));
+        assertSame(BindingReflections.findQName(TestImplementation.class),
+                BindingReflections.findQName(TestImplementation.class));
+    }
+
     @Test(expected = UnsupportedOperationException.class)
     public void testPrivateConstructor() throws Throwable {
         assertFalse(BindingReflections.class.getDeclaredConstructor().isAccessible());
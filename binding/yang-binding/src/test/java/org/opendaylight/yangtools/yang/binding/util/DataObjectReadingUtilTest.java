@@ -7,30 +7,77 @@
  */
 package org.opendaylight.yangtools.yang.binding.util;
 
+import static org.junit.Assert.assertEquals;
 import static org.junit.Assert.assertFalse;
+import static org.junit.Assert.assertSame;
 import static org.junit.Assert.assertTrue;
+import static org.junit.Assert.fail;
 import static org.mockito.Mockito.doReturn;
+import static org.mockito.Mockito.doThrow;
 import static org.mockito.Mockito.mock;
 import static org.opendaylight.yangtools.yang.binding.util.DataObjectReadingUtil.readData;
 
+import com.google.common.base.Optional;
 import com.google.common.collect.ImmutableList;
 import com.google.common.collect.ImmutableMap;
 import com.google.common.collect.ImmutableSet;
 import com.google.common.collect.UnmodifiableIterator;
 import java.lang.reflect.Constructor;
+import java.util.List;
 import java.util.Map;
 import java.util.Map.Entry;
 import org.junit.Before;
 import org.junit.Test;
 import org.mockito.Mock;
 import org.mockito.MockitoAnnotations;
+import org.opendaylight.yangtools.yang.binding.Augmentable;
+import org.opendaylight.yangtools.yang.binding.Augmentation;
+import org.opendaylight.yangtools.yang.binding.ChildOf;
 import org.opendaylight.yangtools.yang.binding.DataObject;
+import org.opendaylight.yangtools.yang.binding.DataRoot;
 import org.opendaylight.yangtools.yang.binding.Identifiable;
+import org.opendaylight.yangtools.yang.binding.Identifier;
 import org.opendaylight.yangtools.yang.binding.InstanceIdentifier;
 import org.opendaylight.yangtools.yang.binding.test.mock.Node;
 import org.opendaylight.yangtools.yang.binding.test.mock.Nodes;
 
 public class DataObjectReadingUtilTest {
+    public interface Root extends ChildOf<DataRoot>, Augmentable<Root>, DataObject {
+        Cont getCont();
+
+        List<ListItem> getListItem();
+    }
+
+    public interface Cont extends ChildOf<Root>, DataObject {
+
+    }
+
+    public interface ListItem extends ChildOf<Root>, Identifiable<ListItemKey>, DataObject {
+
+    }
+
+    public interface RootAugmentation extends Augmentation<Root>, DataObject {
+
+    }
+
+    public static final class ListItemKey implements Identifier<ListItem> {
+        private static final long serialVersionUID = 1L;
+        private final String name;
+
+        public ListItemKey(final String name) {
+            this.name = name;
+        }
+
+        @Override
+        public int hashCode() {
+            return name.hashCode();
+        }
+
+        @Override
+        public boolean equals(final Object obj) {
+            return obj instanceof ListItemKey && name.equals(((ListItemKey) obj).name);
+        }
+    }
 
     @Mock private InstanceIdentifier<? extends DataObject> pathNull;
     @Mock private Map.Entry<InstanceIdentifier<? extends DataObject>, DataObject> entryNull;
@@ -71,6 +118,71 @@ public class DataObjectReadingUtilTest {
                 (InstanceIdentifier<DataObject>) entry.getKey(), path).isEmpty());
     }
 
+    @Test
+    public void testReadChildren() {
+        final Cont cont = mock(Cont.class);
+        doReturn(Cont.class).when(cont).getImplementedInterface();
+        final ListItemKey key = new ListItemKey("foo");
+        final ListItem item = mock(ListItem.class);
+        doReturn(ListItem.class).when(item).getImplementedInterface();
+        doReturn(key).when(item).getKey();
+        final RootAugmentation aug = mock(RootAugmentation.class);
+        doReturn(RootAugmentation.class).when(aug).getImplementedInterface();
+
+        final Root root = mock(Root.class);
+        doReturn(Root.class).when(root).getImplementedInterface();
+        doReturn(cont).when(root).getCont();
+        doReturn(ImmutableList.of(item)).when(root).getListItem();
+        doReturn(aug).when(root).getAugmentation(RootAugmentation.class);
+
+        final InstanceIdentifier<Root> rootPath = InstanceIdentifier.create(Root.class);
+        final InstanceIdentifier<Cont> contPath = rootPath.child(Cont.class);
+        final InstanceIdentifier<ListItem> itemPath = rootPath.child(ListItem.class, key);
+        final InstanceIdentifier<RootAugmentation> augPath = rootPath.augmentation(RootAugmentation.class);
+
+        // Second pass goes through cached strategies
+        for (int i = 0; i < 2; ++i) {
+            assertEquals(ImmutableMap.of(contPath, cont), readData(root, rootPath, contPath));
+            assertEquals(ImmutableMap.of(itemPath, item), readData(root, rootPath, itemPath));
+            assertEquals(ImmutableMap.of(itemPath, item), readData(root, rootPath, rootPath.child(ListItem.class)));
+            assertTrue(readData(root, rootPath, rootPath.child(ListItem.class, new ListItemKey("bar"))).isEmpty());
+            assertEquals(ImmutableMap.of(augPath, aug), readData(root, rootPath, augPath));
+            assertEquals(Optional.of(cont), readData(root, Cont.class));
+        }
+    }
+
+    @Test
+    public void testContainerGetterFailure() {
+        final RuntimeException cause = new RuntimeException("test");
+        final Root root = mock(Root.class);
+        doReturn(Root.class).when(root).getImplementedInterface();
+        doThrow(cause).when(root).getCont();
+
+        final InstanceIdentifier<Root> rootPath = InstanceIdentifier.create(Root.class);
+        try {
+            readData(root, rootPath, rootPath.child(Cont.class));
+            fail("Read should have failed");
+        } catch (IllegalArgumentException e) {
+            assertSame(cause, e.getCause());
+        }
+    }
+
+    @Test
+    public void testListGetterFailure() {
+        final RuntimeException cause = new RuntimeException("test");
+        final Root root = mock(Root.class);
+        doReturn(Root.class).when(root).getImplementedInterface();
+        doThrow(cause).when(root).getListItem();
+
+        final InstanceIdentifier<Root> rootPath = InstanceIdentifier.create(Root.class);
+        try {
+            readData(root, rootPath, rootPath.child(ListItem.class));
+            fail("Read should have failed");
+        } catch (IllegalStateException e) {
+            assertSame(cause, e.getCause());
+        }
+    }
+
     @SuppressWarnings("unchecked")
     @Test(expected = IllegalArgumentException.class)
     public void testReadDataParentNull() {
@@ -8,6 +8,7 @@
 package org.opendaylight.yangtools.yang.binding.util;
 
 import static org.junit.Assert.assertNotNull;
+import static org.junit.Assert.assertNull;
 import static org.junit.Assert.fail;
 import static org.mockito.Mockito.mock;
 
@@ -27,6 +28,13 @@ public class NotificationListenerInvokerTest {
         assertNotNull(NotificationListenerInvoker.from(TestInterface.class));
     }
 
+    @Test
+    public void getNotificationHandleTest() throws Exception {
+        final NotificationListenerInvoker invoker = NotificationListenerInvoker.from(TestInterface.class);
+        assertNotNull(invoker.getNotificationHandle(QName.create("test")));
+        assertNull(invoker.getNotificationHandle(QName.create("other")));
+    }
+
     @Test(expected = IllegalStateException.class)
     public void fromWithExceptionTest() throws Throwable {
         try {
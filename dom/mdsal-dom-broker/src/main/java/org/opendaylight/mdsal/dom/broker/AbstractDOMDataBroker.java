@@ -9,7 +9,6 @@ package org.opendaylight.mdsal.dom.broker;
 
 import com.google.common.base.Preconditions;
 import com.google.common.collect.ImmutableMap;
-import java.util.Collections;
 import java.util.EnumMap;
 import java.util.Map;
 import java.util.Map.Entry;
@@ -20,6 +19,9 @@ import org.opendaylight.mdsal.dom.api.DOMDataBroker;
 import org.opendaylight.mdsal.dom.api.DOMDataBrokerExtension;
 import org.opendaylight.mdsal.dom.api.DOMDataTreeChangeListener;
 import org.opendaylight.mdsal.dom.api.DOMDataTreeChangeService;
+import org.opendaylight.mdsal.dom.api.DOMDataTreeCommitCohort;
+import org.opendaylight.mdsal.dom.api.DOMDataTreeCommitCohortRegistration;
+import org.opendaylight.mdsal.dom.api.DOMDataTreeCommitCohortRegistry;
 import org.opendaylight.mdsal.dom.api.DOMDataTreeIdentifier;
 import org.opendaylight.mdsal.dom.api.DOMTransactionChain;
 import org.opendaylight.mdsal.dom.spi.store.DOMStore;
@@ -42,16 +44,20 @@ public abstract class AbstractDOMDataBroker extends AbstractDOMForwardedTransact
         super(datastores);
 
         boolean treeChange = true;
+        boolean commitCohorts = true;
         for (DOMStore ds : datastores.values()) {
             if (!(ds instanceof DOMStoreTreeChangePublisher)) {
                 treeChange = false;
-                break;
+            }
+            if (!(ds instanceof DOMDataTreeCommitCohortRegistry)) {
+                commitCohorts = false;
             }
         }
 
+        final ImmutableMap.Builder<Class<? extends DOMDataBrokerExtension>, DOMDataBrokerExtension> builder =
+                ImmutableMap.builder();
         if (treeChange) {
-            extensions = ImmutableMap.<Class<? extends DOMDataBrokerExtension>, DOMDataBrokerExtension>of(
-                    DOMDataTreeChangeService.class, new DOMDataTreeChangeService() {
+            builder.put(DOMDataTreeChangeService.class, new DOMDataTreeChangeService() {
                         @Override
                         public <L extends DOMDataTreeChangeListener> ListenerRegistration<L>
                                 registerDataTreeChangeListener(final DOMDataTreeIdentifier treeId, final L listener) {
@@ -63,9 +69,20 @@ public abstract class AbstractDOMDataBroker extends AbstractDOMForwardedTransact
                                     treeId.getRootIdentifier(), listener);
                             }
                         });
-        } else {
-            extensions = Collections.emptyMap();
         }
+        if (commitCohorts) {
+            builder.put(DOMDataTreeCommitCohortRegistry.class, new DOMDataTreeCommitCohortRegistry() {
+                @Override
+                public <T extends DOMDataTreeCommitCohort> DOMDataTreeCommitCohortRegistration<T>
+                        registerCommitCohort(final DOMDataTreeIdentifier path, final T cohort) {
+                    DOMStore registry = getTxFactories().get(path.getDatastoreType());
+                    Preconditions.checkState(registry != null, "Requested logical data store is not available.");
+
+                    return ((DOMDataTreeCommitCohortRegistry) registry).registerCommitCohort(path, cohort);
+                }
+            });
+        }
+        extensions = builder.build();
     }
 
     public void setCloseable(final AutoCloseable closeable) {
@@ -9,6 +9,7 @@ package org.opendaylight.mdsal.dom.broker;
 
 import com.google.common.base.Optional;
 import com.google.common.util.concurrent.CheckedFuture;
+import java.util.Collection;
 import java.util.Map;
 import org.opendaylight.mdsal.common.api.LogicalDatastoreType;
 import org.opendaylight.mdsal.common.api.ReadFailedException;
@@ -45,6 +46,12 @@ class DOMForwardedReadOnlyTransaction extends
         return getSubtransaction(store).exists(path);
     }
 
+    @Override
+    public CheckedFuture<Map<YangInstanceIdentifier, Optional<NormalizedNode<?, ?>>>, ReadFailedException> readAll(
+            final LogicalDatastoreType store, final Collection<YangInstanceIdentifier> paths) {
+        return getSubtransaction(store).readAll(paths);
+    }
+
     @Override
     public void close() {
         closeSubtransactions();
@@ -12,8 +12,15 @@ import com.google.common.base.Optional;
 import com.google.common.base.Preconditions;
 import com.google.common.collect.ClassToInstanceMap;
 import com.google.common.collect.MutableClassToInstanceMap;
-import java.util.HashMap;
-import java.util.Map;
+import com.google.common.util.concurrent.MoreExecutors;
+import java.util.Queue;
+import java.util.concurrent.ConcurrentHashMap;
+import java.util.concurrent.ConcurrentLinkedQueue;
+import java.util.concurrent.ConcurrentMap;
+import java.util.concurrent.Executor;
+import java.util.concurrent.RejectedExecutionException;
+import java.util.concurrent.atomic.AtomicBoolean;
+import java.util.function.Consumer;
 import org.opendaylight.mdsal.dom.api.DOMMountPoint;
 import org.opendaylight.mdsal.dom.api.DOMMountPointListener;
 import org.opendaylight.mdsal.dom.api.DOMMountPointService;
@@ -24,18 +31,63 @@ import org.opendaylight.yangtools.concepts.ObjectRegistration;
 import org.opendaylight.yangtools.util.ListenerRegistry;
 import org.opendaylight.yangtools.yang.data.api.YangInstanceIdentifier;
 import org.opendaylight.yangtools.yang.model.api.SchemaContext;
+import org.slf4j.Logger;
+import org.slf4j.LoggerFactory;
 
 public class DOMMountPointServiceImpl implements DOMMountPointService {
+    private static final Logger LOG = LoggerFactory.getLogger(DOMMountPointServiceImpl.class);
 
-    private final Map<YangInstanceIdentifier, DOMMountPoint> mountPoints = new HashMap<>();
+    private final ConcurrentMap<YangInstanceIdentifier, DOMMountPoint> mountPoints = new ConcurrentHashMap<>();
 
     private final ListenerRegistry<DOMMountPointListener> listeners = ListenerRegistry.create();
 
+    /**
+     * Pending listener notifications. These are delivered in batches, in order, on {@link #listenerNotifier}, so that
+     * mount point registration does not have to wait for listeners if an asynchronous executor is supplied.
+     */
+    private final Queue<Consumer<DOMMountPointListener>> pendingNotifications = new ConcurrentLinkedQueue<>();
+    private final AtomicBoolean notificationsScheduled = new AtomicBoolean();
+    private final Executor listenerNotifier;
+
+    /**
+     * Create a service which notifies listeners in the thread which registers or unregisters a mount point.
+     */
+    public DOMMountPointServiceImpl() {
+        this(MoreExecutors.directExecutor());
+    }
+
+    /**
+     * Create a service which notifies listeners on specified executor. The executor is owned by the caller, who is
+     * responsible for shutting it down.
+     *
+     * @param listenerNotifier Executor used to deliver notifications to listeners
+     */
+    public DOMMountPointServiceImpl(final Executor listenerNotifier) {
+        this.listenerNotifier = Preconditions.checkNotNull(listenerNotifier);
+    }
+
     @Override
     public Optional<DOMMountPoint> getMountPoint(final YangInstanceIdentifier path) {
         return Optional.fromNullable(mountPoints.get(path));
     }
 
+    /**
+     * Find the mount point which owns specified path, e.g. the mount point registered at the longest prefix
+     * of the path.
+     *
+     * @param path Path to look up
+     * @return Mount point owning the path, or absent if the path does not belong to any mount point
+     */
+    public Optional<DOMMountPoint> findMountPoint(final YangInstanceIdentifier path) {
+        for (YangInstanceIdentifier prefix = path; prefix != null; prefix = prefix.getParent()) {
+            final DOMMountPoint mountPoint = mountPoints.get(prefix);
+            if (mountPoint != null) {
+                return Optional.of(mountPoint);
+            }
+        }
+        return Optional.absent();
+    }
+
     @Override
     public DOMMountPointBuilder createMountPoint(final YangInstanceIdentifier path) {
         Preconditions.checkState(!mountPoints.containsKey(path), "Mount point already exists");
@@ -43,16 +95,47 @@ public class DOMMountPointServiceImpl implements DOMMountPointService {
     }
 
     public void notifyMountCreated(final YangInstanceIdentifier identifier) {
-        for (final ListenerRegistration<DOMMountPointListener> listener : listeners
-                .getListeners()) {
-            listener.getInstance().onMountPointCreated(identifier);
-        }
+        scheduleNotification(listener -> listener.onMountPointCreated(identifier));
     }
 
     public void notifyMountRemoved(final YangInstanceIdentifier identifier) {
-        for (final ListenerRegistration<DOMMountPointListener> listener : listeners
-                .getListeners()) {
-            listener.getInstance().onMountPointRemoved(identifier);
+        scheduleNotification(listener -> listener.onMountPointRemoved(identifier));
+    }
+
+    private void scheduleNotification(final Consumer<DOMMountPointListener> notification) {
+        pendingNotifications.add(notification);
+        scheduleDelivery();
+    }
+
+    private void scheduleDelivery() {
+        if (notificationsScheduled.compareAndSet(false, true)) {
+            try {
+                listenerNotifier.execute(this::deliverNotifications);
+            } catch (RejectedExecutionException e) {
+                // Pending notifications stay queued and are picked up by the next successfully scheduled batch
+                notificationsScheduled.set(false);
+                LOG.warn("Failed to schedule delivery of mount point notifications", e);
+            }
+        }
+    }
+
+    private void deliverNotifications() {
+        Consumer<DOMMountPointListener> notification;
+        while ((notification = pendingNotifications.poll()) != null) {
+            for (final ListenerRegistration<DOMMountPointListener> listener : listeners.getListeners()) {
+                try {
+                    notification.accept(listener.getInstance());
+                } catch (RuntimeException e) {
+                    LOG.warn("Listener {} failed to process mount point notification", listener.getInstance(), e);
+                }
+            }
+        }
+
+        // Notifications enqueued after our last poll but before the flag is cleared need to be picked up by a new
+        // batch. Clearing the flag only after draining guarantees at most one batch runs at any given time.
+        notificationsScheduled.set(false);
+        if (!pendingNotifications.isEmpty()) {
+            scheduleDelivery();
         }
     }
 
@@ -63,21 +146,15 @@ public class DOMMountPointServiceImpl implements DOMMountPointService {
     }
 
     public ObjectRegistration<DOMMountPoint> registerMountPoint(final DOMMountPoint mountPoint) {
-        synchronized (mountPoints) {
-            Preconditions.checkState(!mountPoints.containsKey(mountPoint.getIdentifier()),
-                    "Mount point already exists");
-            mountPoints.put(mountPoint.getIdentifier(), mountPoint);
-        }
+        final DOMMountPoint existing = mountPoints.putIfAbsent(mountPoint.getIdentifier(), mountPoint);
+        Preconditions.checkState(existing == null, "Mount point already exists");
         notifyMountCreated(mountPoint.getIdentifier());
 
         return new MountRegistration(mountPoint);
     }
 
     public void unregisterMountPoint(final YangInstanceIdentifier mountPointId) {
-        synchronized (mountPoints) {
-            Preconditions.checkState(mountPoints.containsKey(mountPointId), "Mount point does not exist");
-            mountPoints.remove(mountPointId);
-        }
+        Preconditions.checkState(mountPoints.remove(mountPointId) != null, "Mount point does not exist");
         notifyMountRemoved(mountPointId);
     }
 
@@ -15,6 +15,9 @@ import com.google.common.util.concurrent.FutureCallback;
 import com.google.common.util.concurrent.Futures;
 import com.google.common.util.concurrent.ListenableFuture;
 import com.google.common.util.concurrent.SettableFuture;
+import java.util.Collection;
+import java.util.Map;
+import java.util.function.Supplier;
 import javax.annotation.Nullable;
 import org.opendaylight.mdsal.common.api.LogicalDatastoreType;
 import org.opendaylight.mdsal.common.api.ReadFailedException;
@@ -41,25 +44,35 @@ public class TransactionChainReadTransaction implements DOMDataTreeReadTransacti
     @Override
     public CheckedFuture<Optional<NormalizedNode<?, ?>>, ReadFailedException> read(final LogicalDatastoreType store,
             final YangInstanceIdentifier path) {
-        final SettableFuture<Optional<NormalizedNode<?, ?>>> readResult = SettableFuture.create();
+        return readAfterPreviousWrite(() -> delegateReadTx.read(store, path));
+    }
+
+    @Override
+    public CheckedFuture<Map<YangInstanceIdentifier, Optional<NormalizedNode<?, ?>>>, ReadFailedException> readAll(
+            final LogicalDatastoreType store, final Collection<YangInstanceIdentifier> paths) {
+        return readAfterPreviousWrite(() -> delegateReadTx.readAll(store, paths));
+    }
+
+    private <T> CheckedFuture<T, ReadFailedException> readAfterPreviousWrite(
+            final Supplier<ListenableFuture<T>> read) {
+        final SettableFuture<T> readResult = SettableFuture.create();
 
         Futures.addCallback(previousWriteTxFuture, new FutureCallback<Void>() {
             @Override
             public void onSuccess(@Nullable final Void result) {
-                Futures.addCallback(delegateReadTx.read(store, path),
-                        new FutureCallback<Optional<NormalizedNode<?, ?>>>() {
-
-                            @Override
-                            public void onSuccess(@Nullable final Optional<NormalizedNode<?, ?>> result) {
-                                readResult.set(result);
-                            }
-
-                            @Override
-                            public void onFailure(final Throwable throwable) {
-                                txChain.transactionFailed(TransactionChainReadTransaction.this, throwable);
-                                readResult.setException(throwable);
-                            }
-                        });
+                Futures.addCallback(read.get(), new FutureCallback<T>() {
+
+                    @Override
+                    public void onSuccess(@Nullable final T result) {
+                        readResult.set(result);
+                    }
+
+                    @Override
+                    public void onFailure(final Throwable throwable) {
+                        txChain.transactionFailed(TransactionChainReadTransaction.this, throwable);
+                        readResult.setException(throwable);
+                    }
+                });
             }
 
             @Override
@@ -25,10 +25,12 @@ class BlockingTransactionChainListener implements TransactionChainListener {
 
     private final SettableFuture<Throwable> failFuture = SettableFuture.create();
     private final SettableFuture<Void> successFuture = SettableFuture.create();
+    private volatile AsyncTransaction<?, ?> failedTransaction;
 
     @Override
     public void onTransactionChainFailed(final TransactionChain<?, ?> chain, final AsyncTransaction<?, ?> transaction,
             final Throwable cause) {
+        failedTransaction = transaction;
         failFuture.set(cause);
     }
 
@@ -45,4 +47,8 @@ class BlockingTransactionChainListener implements TransactionChainListener {
         return successFuture;
     }
 
+    public AsyncTransaction<?, ?> getFailedTransaction() {
+        return failedTransaction;
+    }
+
 }
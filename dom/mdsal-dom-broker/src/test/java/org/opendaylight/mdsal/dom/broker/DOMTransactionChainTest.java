@@ -7,7 +7,9 @@
  */
 package org.opendaylight.mdsal.dom.broker;
 
+import static org.junit.Assert.assertFalse;
 import static org.junit.Assert.assertNotNull;
+import static org.junit.Assert.assertSame;
 import static org.junit.Assert.assertTrue;
 import static org.junit.Assert.fail;
 import static org.opendaylight.mdsal.common.api.LogicalDatastoreType.CONFIGURATION;
@@ -15,22 +17,32 @@ import static org.opendaylight.mdsal.common.api.LogicalDatastoreType.OPERATIONAL
 
 import com.google.common.base.Optional;
 import com.google.common.collect.ImmutableMap;
+import com.google.common.util.concurrent.CheckedFuture;
+import com.google.common.util.concurrent.Futures;
 import com.google.common.util.concurrent.ListenableFuture;
 import com.google.common.util.concurrent.ListeningExecutorService;
 import com.google.common.util.concurrent.MoreExecutors;
+import java.util.Collection;
 import java.util.concurrent.ExecutionException;
 import java.util.concurrent.Executors;
 import java.util.concurrent.TimeUnit;
 import java.util.concurrent.TimeoutException;
 import org.junit.Before;
 import org.junit.Test;
+import org.opendaylight.mdsal.common.api.DataValidationFailedException;
 import org.opendaylight.mdsal.common.api.LogicalDatastoreType;
+import org.opendaylight.mdsal.common.api.PostCanCommitStep;
+import org.opendaylight.mdsal.common.api.TransactionCommitFailedException;
+import org.opendaylight.mdsal.dom.api.DOMDataTreeCandidate;
+import org.opendaylight.mdsal.dom.api.DOMDataTreeCommitCohort;
+import org.opendaylight.mdsal.dom.api.DOMDataTreeIdentifier;
 import org.opendaylight.mdsal.dom.api.DOMDataTreeReadTransaction;
 import org.opendaylight.mdsal.dom.api.DOMDataTreeWriteTransaction;
 import org.opendaylight.mdsal.dom.api.DOMTransactionChain;
 import org.opendaylight.mdsal.dom.broker.util.TestModel;
 import org.opendaylight.mdsal.dom.spi.store.DOMStore;
 import org.opendaylight.mdsal.dom.store.inmemory.InMemoryDOMDataStore;
+import org.opendaylight.yangtools.yang.data.api.YangInstanceIdentifier;
 import org.opendaylight.yangtools.yang.data.api.schema.NormalizedNode;
 import org.opendaylight.yangtools.yang.data.impl.schema.ImmutableNodes;
 import org.opendaylight.yangtools.yang.model.api.SchemaContext;
@@ -39,10 +51,11 @@ public class DOMTransactionChainTest {
 
     private SchemaContext schemaContext;
     private AbstractDOMDataBroker domBroker;
+    private InMemoryDOMDataStore operStore;
 
     @Before
     public void setupStore() throws Exception {
-        final InMemoryDOMDataStore operStore = new InMemoryDOMDataStore("OPER",
+        operStore = new InMemoryDOMDataStore("OPER",
                 MoreExecutors.newDirectExecutorService());
         final InMemoryDOMDataStore configStore = new InMemoryDOMDataStore("CFG",
                 MoreExecutors.newDirectExecutorService());
@@ -157,6 +170,37 @@ public class DOMTransactionChainTest {
         }
     }
 
+    @Test
+    public void testTransactionChainFailure() throws InterruptedException, ExecutionException, TimeoutException {
+        operStore.registerCommitCohort(new DOMDataTreeIdentifier(OPERATIONAL, TestModel.TEST_PATH),
+            new DOMDataTreeCommitCohort() {
+                @Override
+                public CheckedFuture<PostCanCommitStep, DataValidationFailedException> canCommit(final Object txId,
+                        final Collection<DOMDataTreeCandidate> candidates, final SchemaContext ctx) {
+                    return Futures.immediateFailedCheckedFuture(new DataValidationFailedException(
+                        YangInstanceIdentifier.class, TestModel.TEST_PATH, "Rejected by test cohort"));
+                }
+            });
+
+        final BlockingTransactionChainListener listener = new BlockingTransactionChainListener();
+        final DOMTransactionChain txChain = domBroker.createTransactionChain(listener);
+        final DOMDataTreeWriteTransaction failingTx = allocateAndWrite(txChain);
+
+        /**
+         * Commit of the transaction is rejected and the chain listener is told which transaction failed.
+         */
+        try {
+            failingTx.submit().get();
+            fail("Transaction should have been rejected");
+        } catch (final ExecutionException e) {
+            assertTrue(e.getCause() instanceof TransactionCommitFailedException);
+        }
+
+        listener.getFailFuture().get(1000, TimeUnit.MILLISECONDS);
+        assertSame(failingTx, listener.getFailedTransaction());
+        assertFalse(listener.getSuccessFuture().isDone());
+    }
+
     private static DOMDataTreeWriteTransaction allocateAndDelete(final DOMTransactionChain txChain)
             throws InterruptedException, ExecutionException {
         final DOMDataTreeWriteTransaction tx = txChain.newWriteOnlyTransaction();
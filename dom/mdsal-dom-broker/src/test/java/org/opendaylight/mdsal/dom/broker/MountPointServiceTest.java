@@ -7,14 +7,28 @@
  */
 package org.opendaylight.mdsal.dom.broker;
 
+import static org.junit.Assert.assertEquals;
 import static org.junit.Assert.assertFalse;
 import static org.junit.Assert.assertSame;
 import static org.junit.Assert.assertTrue;
 import static org.mockito.Mockito.doNothing;
 import static org.mockito.Mockito.mock;
+import static org.mockito.Mockito.never;
+import static org.mockito.Mockito.timeout;
+import static org.mockito.Mockito.verify;
 
 import com.google.common.collect.ClassToInstanceMap;
+import com.google.common.collect.ImmutableList;
 import java.lang.reflect.Field;
+import java.util.ArrayList;
+import java.util.Collections;
+import java.util.List;
+import java.util.concurrent.Executor;
+import java.util.concurrent.ExecutorService;
+import java.util.concurrent.Executors;
+import java.util.concurrent.RejectedExecutionException;
+import java.util.concurrent.TimeUnit;
+import java.util.concurrent.atomic.AtomicBoolean;
 import org.junit.Before;
 import org.junit.Test;
 import org.opendaylight.mdsal.dom.api.DOMMountPoint;
@@ -107,4 +121,106 @@ public class MountPointServiceTest {
         assertFalse(services.isEmpty());
         assertTrue(services.containsKey(DOMService.class));
     }
+
+    @Test
+    public void findMountPointTest() throws Exception {
+        final DOMMountPointServiceImpl mountService = new DOMMountPointServiceImpl();
+        final YangInstanceIdentifier child = PATH.node(QName.create(PATH.getLastPathArgument().getNodeType(), "child"));
+        final YangInstanceIdentifier grandChild = child.node(QName.create(child.getLastPathArgument().getNodeType(),
+            "grand-child"));
+
+        assertFalse(mountService.findMountPoint(grandChild).isPresent());
+
+        mountService.createMountPoint(PATH).register();
+        assertSame(mountService.getMountPoint(PATH).get(), mountService.findMountPoint(grandChild).get());
+
+        mountService.createMountPoint(child).register();
+        assertSame(mountService.getMountPoint(child).get(), mountService.findMountPoint(grandChild).get());
+        assertSame(mountService.getMountPoint(PATH).get(), mountService.findMountPoint(PATH).get());
+        assertFalse(mountService.findMountPoint(YangInstanceIdentifier.EMPTY).isPresent());
+    }
+
+    @Test
+    public void listenerNotificationTest() throws Exception {
+        final DOMMountPointListener listener = mock(DOMMountPointListener.class);
+        final ExecutorService executor = Executors.newSingleThreadExecutor();
+        try {
+            final DOMMountPointServiceImpl mountService = new DOMMountPointServiceImpl(executor);
+            mountService.registerProvisionListener(listener);
+
+            mountService.createMountPoint(PATH).register().close();
+
+            verify(listener, timeout(5000)).onMountPointRemoved(PATH);
+            verify(listener).onMountPointCreated(PATH);
+        } finally {
+            executor.shutdown();
+        }
+    }
+
+    @Test
+    public void multiThreadedListenerNotificationOrderTest() throws Exception {
+        final List<String> events = Collections.synchronizedList(new ArrayList<>());
+        final DOMMountPointListener listener = new RecordingListener(events);
+        final ExecutorService executor = Executors.newFixedThreadPool(4);
+        final ImmutableList.Builder<String> expected = ImmutableList.builder();
+        try {
+            final DOMMountPointServiceImpl mountService = new DOMMountPointServiceImpl(executor);
+            mountService.registerProvisionListener(listener);
+
+            for (int i = 0; i < 1000; ++i) {
+                final YangInstanceIdentifier path = PATH.node(QName.create(PATH.getLastPathArgument().getNodeType(),
+                    "child" + i));
+                mountService.createMountPoint(path).register().close();
+                expected.add("created " + path).add("removed " + path);
+            }
+        } finally {
+            executor.shutdown();
+            assertTrue(executor.awaitTermination(5, TimeUnit.SECONDS));
+        }
+
+        // Batches must never run concurrently, otherwise a removal could overtake the corresponding creation
+        assertEquals(expected.build(), ImmutableList.copyOf(events));
+    }
+
+    @Test
+    public void rejectedListenerNotificationTest() throws Exception {
+        final DOMMountPointListener listener = mock(DOMMountPointListener.class);
+        final AtomicBoolean reject = new AtomicBoolean(true);
+        final Executor executor = command -> {
+            if (reject.get()) {
+                throw new RejectedExecutionException("mock");
+            }
+            command.run();
+        };
+        final DOMMountPointServiceImpl mountService = new DOMMountPointServiceImpl(executor);
+        mountService.registerProvisionListener(listener);
+
+        // Registration succeeds even though notifications cannot be delivered
+        final ObjectRegistration<DOMMountPoint> reg = mountService.createMountPoint(PATH).register();
+        verify(listener, never()).onMountPointCreated(PATH);
+
+        // Once the executor accepts work again, queued notifications are delivered
+        reject.set(false);
+        reg.close();
+        verify(listener).onMountPointCreated(PATH);
+        verify(listener).onMountPointRemoved(PATH);
+    }
+
+    private static final class RecordingListener implements DOMMountPointListener {
+        private final List<String> events;
+
+        RecordingListener(final List<String> events) {
+            this.events = events;
+        }
+
+        @Override
+        public void onMountPointCreated(final YangInstanceIdentifier path) {
+            events.add("created " + path);
+        }
+
+        @Override
+        public void onMountPointRemoved(final YangInstanceIdentifier path) {
+            events.add("removed " + path);
+        }
+    }
 }
@@ -9,19 +9,28 @@ package org.opendaylight.mdsal.dom.broker;
 
 import static org.junit.Assert.assertEquals;
 import static org.junit.Assert.assertNotNull;
+import static org.junit.Assert.assertSame;
 import static org.mockito.Matchers.any;
 import static org.mockito.Mockito.atLeastOnce;
 import static org.mockito.Mockito.doNothing;
 import static org.mockito.Mockito.doReturn;
 import static org.mockito.Mockito.mock;
+import static org.mockito.Mockito.never;
 import static org.mockito.Mockito.verify;
 
+import com.google.common.base.Optional;
+import com.google.common.collect.ImmutableList;
+import com.google.common.collect.ImmutableMap;
 import com.google.common.util.concurrent.Futures;
 import com.google.common.util.concurrent.ListenableFuture;
+import com.google.common.util.concurrent.SettableFuture;
+import java.util.Collection;
+import java.util.Map;
 import org.junit.Test;
 import org.opendaylight.mdsal.common.api.LogicalDatastoreType;
 import org.opendaylight.mdsal.dom.api.DOMDataTreeReadTransaction;
 import org.opendaylight.yangtools.yang.data.api.YangInstanceIdentifier;
+import org.opendaylight.yangtools.yang.data.api.schema.NormalizedNode;
 
 public class TransactionChainReadTransactionTest {
 
@@ -60,4 +69,28 @@ public class TransactionChainReadTransactionTest {
         assertNotNull(transactionChainReadTransaction.read(
                 LogicalDatastoreType.OPERATIONAL, YangInstanceIdentifier.EMPTY));
     }
-}
\ No newline at end of file
+
+    @Test
+    public void readAllTest() throws Exception {
+        final DOMDataTreeReadTransaction readTransaction = mock(DOMDataTreeReadTransaction.class);
+        final ShardedDOMTransactionChainAdapter chainAdapter = mock(ShardedDOMTransactionChainAdapter.class);
+        final SettableFuture<Void> previousWriteTxFuture = SettableFuture.create();
+        final TransactionChainReadTransaction transactionChainReadTransaction =
+                new TransactionChainReadTransaction("testIdent", readTransaction, previousWriteTxFuture, chainAdapter);
+
+        final Collection<YangInstanceIdentifier> paths = ImmutableList.of(YangInstanceIdentifier.EMPTY);
+        final Map<YangInstanceIdentifier, Optional<NormalizedNode<?, ?>>> results =
+                ImmutableMap.of(YangInstanceIdentifier.EMPTY, Optional.absent());
+        doReturn(Futures.immediateCheckedFuture(results)).when(readTransaction).readAll(any(), any());
+
+        // The batch is passed through only once the previous write completes
+        final ListenableFuture<Map<YangInstanceIdentifier, Optional<NormalizedNode<?, ?>>>> future =
+                transactionChainReadTransaction.readAll(LogicalDatastoreType.OPERATIONAL, paths);
+        verify(readTransaction, never()).readAll(any(), any());
+
+        previousWriteTxFuture.set(null);
+        assertSame(results, future.get());
+        verify(readTransaction).readAll(LogicalDatastoreType.OPERATIONAL, paths);
+        verify(readTransaction, never()).read(any(), any());
+    }
+}
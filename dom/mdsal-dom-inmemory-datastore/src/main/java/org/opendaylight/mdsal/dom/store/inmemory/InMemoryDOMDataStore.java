@@ -11,7 +11,12 @@ import com.google.common.base.Preconditions;
 import java.util.concurrent.ExecutorService;
 import java.util.concurrent.TimeUnit;
 import java.util.concurrent.atomic.AtomicLong;
+import org.opendaylight.mdsal.common.api.TransactionCommitFailedException;
 import org.opendaylight.mdsal.dom.api.DOMDataTreeChangeListener;
+import org.opendaylight.mdsal.dom.api.DOMDataTreeCommitCohort;
+import org.opendaylight.mdsal.dom.api.DOMDataTreeCommitCohortRegistration;
+import org.opendaylight.mdsal.dom.api.DOMDataTreeCommitCohortRegistry;
+import org.opendaylight.mdsal.dom.api.DOMDataTreeIdentifier;
 import org.opendaylight.mdsal.dom.spi.store.DOMStore;
 import org.opendaylight.mdsal.dom.spi.store.DOMStoreReadTransaction;
 import org.opendaylight.mdsal.dom.spi.store.DOMStoreReadWriteTransaction;
@@ -49,12 +54,14 @@ import org.slf4j.LoggerFactory;
  *
  */
 public class InMemoryDOMDataStore extends TransactionReadyPrototype<String> implements DOMStore,
-        Identifiable<String>, SchemaContextListener, AutoCloseable, DOMStoreTreeChangePublisher {
+        Identifiable<String>, SchemaContextListener, AutoCloseable, DOMStoreTreeChangePublisher,
+        DOMDataTreeCommitCohortRegistry {
     private static final Logger LOG = LoggerFactory.getLogger(InMemoryDOMDataStore.class);
 
     private final DataTree dataTree = InMemoryDataTreeFactory.getInstance().create(TreeType.OPERATIONAL);
     private final AtomicLong txCounter = new AtomicLong(0);
 
+    private final InMemoryDOMDataTreeCommitCohortRegistry cohortRegistry;
     private final InMemoryDOMStoreTreeChangePublisher changePublisher;
     private final ExecutorService dataChangeListenerExecutor;
     private final boolean debugTransactions;
@@ -74,6 +81,9 @@ public class InMemoryDOMDataStore extends TransactionReadyPrototype<String> impl
         this.debugTransactions = debugTransactions;
         changePublisher = new InMemoryDOMStoreTreeChangePublisher(this.dataChangeListenerExecutor,
                 maxDataChangeListenerQueueSize);
+        // Cohorts are user code just like listeners, hence they are invoked on the same executor
+        cohortRegistry = new InMemoryDOMDataTreeCommitCohortRegistry(YangInstanceIdentifier.EMPTY,
+            this.dataChangeListenerExecutor);
     }
 
     public void setCloseable(final AutoCloseable closeable) {
@@ -111,6 +121,7 @@ public class InMemoryDOMDataStore extends TransactionReadyPrototype<String> impl
     @Override
     public synchronized void onGlobalContextUpdated(final SchemaContext ctx) {
         dataTree.setSchemaContext(ctx);
+        cohortRegistry.setSchemaContext(ctx);
     }
 
     @SuppressWarnings("checkstyle:IllegalCatch")
@@ -145,6 +156,16 @@ public class InMemoryDOMDataStore extends TransactionReadyPrototype<String> impl
         return changePublisher.registerTreeChangeListener(treeId, listener, dataTree.takeSnapshot());
     }
 
+    /**
+     * Register a commit cohort. Since this data store is not aware of the logical data store type it backs,
+     * the type of {@code path} is passed through to cohorts as-is.
+     */
+    @Override
+    public <T extends DOMDataTreeCommitCohort> DOMDataTreeCommitCohortRegistration<T> registerCommitCohort(
+            final DOMDataTreeIdentifier path, final T cohort) {
+        return cohortRegistry.registerCommitCohort(path, cohort);
+    }
+
     @Override
     protected void transactionAborted(final SnapshotBackedWriteTransaction<String> tx) {
         LOG.debug("Tx: {} is closed.", tx.getIdentifier());
@@ -169,6 +190,15 @@ public class InMemoryDOMDataStore extends TransactionReadyPrototype<String> impl
         return dataTree.prepare(modification);
     }
 
+    boolean hasCommitCohorts() {
+        return !cohortRegistry.isEmpty();
+    }
+
+    InMemoryDOMDataTreeCommitCohortRegistry.CohortSteps canCommitCohorts(final Object txId,
+            final DataTreeCandidate candidate) throws TransactionCommitFailedException {
+        return cohortRegistry.canCommit(txId, candidate);
+    }
+
     synchronized void commit(final DataTreeCandidate candidate) {
         dataTree.commit(candidate);
         changePublisher.publishChange(candidate);
@@ -0,0 +1,361 @@
+/*
+ * Copyright (c) 2017 Pantheon Technologies, s.r.o. and others.  All rights reserved.
+ *
+ * This program and the accompanying materials are made available under the
+ * terms of the Eclipse Public License v1.0 which accompanies this distribution,
+ * and is available at http://www.eclipse.org/legal/epl-v10.html
+ */
+package org.opendaylight.mdsal.dom.store.inmemory;
+
+import com.google.common.base.Preconditions;
+import com.google.common.base.Supplier;
+import com.google.common.collect.ImmutableList;
+import com.google.common.collect.Iterables;
+import com.google.common.collect.Multimap;
+import com.google.common.collect.Multimaps;
+import com.google.common.util.concurrent.FutureCallback;
+import com.google.common.util.concurrent.Futures;
+import com.google.common.util.concurrent.ListenableFuture;
+import com.google.common.util.concurrent.ListenableFutureTask;
+import com.google.common.util.concurrent.MoreExecutors;
+import java.util.ArrayList;
+import java.util.Collection;
+import java.util.IdentityHashMap;
+import java.util.List;
+import java.util.Map.Entry;
+import java.util.concurrent.ExecutionException;
+import java.util.concurrent.Executor;
+import java.util.concurrent.RejectedExecutionException;
+import java.util.concurrent.TimeUnit;
+import java.util.concurrent.TimeoutException;
+import java.util.concurrent.atomic.AtomicInteger;
+import javax.annotation.Nullable;
+import org.opendaylight.mdsal.common.api.LogicalDatastoreType;
+import org.opendaylight.mdsal.common.api.PostCanCommitStep;
+import org.opendaylight.mdsal.common.api.PostPreCommitStep;
+import org.opendaylight.mdsal.common.api.ThreePhaseCommitStep;
+import org.opendaylight.mdsal.common.api.TransactionCommitFailedException;
+import org.opendaylight.mdsal.dom.api.DOMDataTreeCandidate;
+import org.opendaylight.mdsal.dom.api.DOMDataTreeCommitCohort;
+import org.opendaylight.mdsal.dom.api.DOMDataTreeCommitCohortRegistration;
+import org.opendaylight.mdsal.dom.api.DOMDataTreeCommitCohortRegistry;
+import org.opendaylight.mdsal.dom.api.DOMDataTreeIdentifier;
+import org.opendaylight.mdsal.dom.spi.AbstractRegistrationTree;
+import org.opendaylight.mdsal.dom.spi.RegistrationTreeNode;
+import org.opendaylight.mdsal.dom.spi.RegistrationTreeSnapshot;
+import org.opendaylight.yangtools.concepts.AbstractObjectRegistration;
+import org.opendaylight.yangtools.yang.data.api.YangInstanceIdentifier;
+import org.opendaylight.yangtools.yang.data.api.YangInstanceIdentifier.PathArgument;
+import org.opendaylight.yangtools.yang.data.api.schema.tree.DataTreeCandidate;
+import org.opendaylight.yangtools.yang.data.api.schema.tree.DataTreeCandidateNode;
+import org.opendaylight.yangtools.yang.data.api.schema.tree.ModificationType;
+import org.opendaylight.yangtools.yang.model.api.SchemaContext;
+import org.slf4j.Logger;
+import org.slf4j.LoggerFactory;
+
+/**
+ * {@link DOMDataTreeCommitCohortRegistry} backing {@link InMemoryDOMDataStore} and {@link InMemoryDOMDataTreeShard}.
+ * Cohorts are indexed by their subtree in a registration tree, so that each commit is matched only against cohorts
+ * whose subtree it touches, and each such cohort is handed only the part of the candidate it registered for. Cohorts
+ * can only be registered at or below the root path, as they could not be handed a candidate rooted at their subtree
+ * otherwise.
+ *
+ * <p>
+ * Each affected cohort is invoked on the supplied executor before waiting for any of them, so independent cohorts
+ * validate in parallel even if they perform their validation synchronously. Waiting for each phase is bounded by
+ * a deadline, after which the commit is rejected.
+ */
+final class InMemoryDOMDataTreeCommitCohortRegistry
+        extends AbstractRegistrationTree<InMemoryDOMDataTreeCommitCohortRegistry.CohortRegistration<?>>
+        implements DOMDataTreeCommitCohortRegistry {
+    private static final Logger LOG = LoggerFactory.getLogger(InMemoryDOMDataTreeCommitCohortRegistry.class);
+    private static final Supplier<List<DOMDataTreeCandidate>> LIST_SUPPLIER = () -> new ArrayList<>();
+
+    static final long DEFAULT_COHORT_TIMEOUT_MILLIS = TimeUnit.SECONDS.toMillis(30);
+
+    private final AtomicInteger registrationCount = new AtomicInteger();
+    private final YangInstanceIdentifier rootPath;
+    private final Executor executor;
+    private final long timeoutNanos;
+
+    private volatile SchemaContext schemaContext;
+
+    InMemoryDOMDataTreeCommitCohortRegistry(final YangInstanceIdentifier rootPath, final Executor executor) {
+        this(rootPath, executor, DEFAULT_COHORT_TIMEOUT_MILLIS, TimeUnit.MILLISECONDS);
+    }
+
+    InMemoryDOMDataTreeCommitCohortRegistry(final YangInstanceIdentifier rootPath, final Executor executor,
+            final long timeout, final TimeUnit unit) {
+        this.rootPath = Preconditions.checkNotNull(rootPath);
+        this.executor = Preconditions.checkNotNull(executor);
+        Preconditions.checkArgument(timeout > 0, "Timeout must be positive, %s supplied", timeout);
+        this.timeoutNanos = unit.toNanos(timeout);
+    }
+
+    void setSchemaContext(final SchemaContext schemaContext) {
+        this.schemaContext = schemaContext;
+    }
+
+    boolean isEmpty() {
+        return registrationCount.get() == 0;
+    }
+
+    @Override
+    public <T extends DOMDataTreeCommitCohort> DOMDataTreeCommitCohortRegistration<T> registerCommitCohort(
+            final DOMDataTreeIdentifier path, final T cohort) {
+        Preconditions.checkArgument(rootPath.contains(path.getRootIdentifier()), "Path %s is not at or below %s",
+            path, rootPath);
+
+        takeLock();
+        try {
+            final RegistrationTreeNode<CohortRegistration<?>> node =
+                    findNodeFor(path.getRootIdentifier().getPathArguments());
+            final CohortRegistration<T> reg = new CohortRegistration<>(cohort, path.getDatastoreType(), node);
+            addRegistration(node, reg);
+            registrationCount.incrementAndGet();
+            return reg;
+        } finally {
+            releaseLock();
+        }
+    }
+
+    /**
+     * Run the canCommit phase of all cohorts affected by a candidate.
+     *
+     * @param txId Transaction identifier
+     * @param candidate Prepared candidate, rooted at this registry's root path
+     * @return Steps of affected cohorts, or null if the candidate does not affect any cohort
+     * @throws TransactionCommitFailedException if any of the affected cohorts rejected the candidate, or did not
+     *         respond before the deadline
+     */
+    @Nullable CohortSteps canCommit(final Object txId, final DataTreeCandidate candidate)
+            throws TransactionCommitFailedException {
+        if (isEmpty() || candidate.getRootNode().getModificationType() == ModificationType.UNMODIFIED) {
+            return null;
+        }
+
+        final Multimap<CohortRegistration<?>, DOMDataTreeCandidate> cohortCandidates =
+                Multimaps.newListMultimap(new IdentityHashMap<>(), LIST_SUPPLIER);
+        final YangInstanceIdentifier candidatePath = YangInstanceIdentifier.create(Iterables.concat(
+            rootPath.getPathArguments(), candidate.getRootPath().getPathArguments()));
+        try (RegistrationTreeSnapshot<CohortRegistration<?>> snapshot = takeSnapshot()) {
+            lookupCohorts(ImmutableList.copyOf(candidatePath.getPathArguments()), 0, snapshot.getRootNode(),
+                candidatePath, candidate.getRootNode(), cohortCandidates);
+        }
+        if (cohortCandidates.isEmpty()) {
+            return null;
+        }
+
+        final SchemaContext ctx = schemaContext;
+        final List<ListenableFuture<PostCanCommitStep>> futures = new ArrayList<>(cohortCandidates.keySet().size());
+        for (Entry<CohortRegistration<?>, Collection<DOMDataTreeCandidate>> entry :
+                cohortCandidates.asMap().entrySet()) {
+            futures.add(invokeCanCommit(txId, entry.getKey(), entry.getValue(), ctx, executor));
+        }
+
+        return new CohortSteps(txId, awaitAll(txId, "canCommit", futures));
+    }
+
+    private static ListenableFuture<PostCanCommitStep> invokeCanCommit(final Object txId,
+            final CohortRegistration<?> reg, final Collection<DOMDataTreeCandidate> candidates,
+            final SchemaContext ctx, final Executor executor) {
+        // Exceptions thrown by the cohort fail the task, and hence the returned future
+        final ListenableFutureTask<ListenableFuture<PostCanCommitStep>> task = ListenableFutureTask.create(
+            () -> reg.getInstance().canCommit(txId, candidates, ctx));
+        try {
+            executor.execute(task);
+        } catch (RejectedExecutionException e) {
+            return Futures.immediateFailedFuture(e);
+        }
+        return Futures.dereference(task);
+    }
+
+    private <T> List<T> awaitAll(final Object txId, final String phase,
+            final List<? extends ListenableFuture<? extends T>> futures) throws TransactionCommitFailedException {
+        final ListenableFuture<List<T>> all = Futures.allAsList(futures);
+        try {
+            return all.get(timeoutNanos, TimeUnit.NANOSECONDS);
+        } catch (ExecutionException e) {
+            LOG.debug("Transaction {} failed in {} phase of commit cohorts", txId, phase, e);
+            abortAll(futures);
+            throw new TransactionCommitFailedException("Commit cohort failed in " + phase + " phase",
+                e.getCause());
+        } catch (TimeoutException e) {
+            LOG.warn("Transaction {} timed out in {} phase of commit cohorts", txId, phase, e);
+            abortAll(futures);
+            throw new TransactionCommitFailedException("Commit cohorts did not complete " + phase + " phase in time",
+                e);
+        } catch (InterruptedException e) {
+            LOG.warn("Transaction {} interrupted in {} phase of commit cohorts", txId, phase, e);
+            Thread.currentThread().interrupt();
+            abortAll(futures);
+            throw new TransactionCommitFailedException("Interrupted while waiting for " + phase
+                + " phase of commit cohorts", e);
+        }
+    }
+
+    /*
+     * Abort steps of all cohorts which have succeeded or will succeed. Some of the futures may still be pending when
+     * the commit fails, hence we attach a callback instead of looking only at the ones already completed.
+     */
+    private static void abortAll(final List<? extends ListenableFuture<?>> futures) {
+        for (ListenableFuture<?> future : futures) {
+            Futures.addCallback(future, new FutureCallback<Object>() {
+                @Override
+                public void onSuccess(final Object result) {
+                    if (result instanceof ThreePhaseCommitStep) {
+                        ((ThreePhaseCommitStep) result).abort();
+                    }
+                }
+
+                @Override
+                public void onFailure(final Throwable cause) {
+                    // This cohort has failed, there is nothing to abort
+                }
+            }, MoreExecutors.directExecutor());
+        }
+    }
+
+    private static void lookupCohorts(final List<PathArgument> args, final int offset,
+            final RegistrationTreeNode<CohortRegistration<?>> node, final YangInstanceIdentifier path,
+            final DataTreeCandidateNode candNode,
+            final Multimap<CohortRegistration<?>, DOMDataTreeCandidate> cohortCandidates) {
+        if (args.size() != offset) {
+            // Registrations are not allowed above the root path, which is where candidates are rooted, hence there
+            // are no cohorts to collect on the way down
+            final PathArgument arg = args.get(offset);
+
+            final RegistrationTreeNode<CohortRegistration<?>> exactChild = node.getExactChild(arg);
+            if (exactChild != null) {
+                lookupCohorts(args, offset + 1, exactChild, path, candNode, cohortCandidates);
+            }
+            for (RegistrationTreeNode<CohortRegistration<?>> c : node.getInexactChildren(arg)) {
+                lookupCohorts(args, offset + 1, c, path, candNode, cohortCandidates);
+            }
+        } else {
+            collectCandidates(path, node, candNode, cohortCandidates);
+        }
+    }
+
+    private static void collectCandidates(final YangInstanceIdentifier path,
+            final RegistrationTreeNode<CohortRegistration<?>> regNode, final DataTreeCandidateNode candNode,
+            final Multimap<CohortRegistration<?>, DOMDataTreeCandidate> cohortCandidates) {
+        if (candNode.getModificationType() == ModificationType.UNMODIFIED) {
+            return;
+        }
+
+        for (CohortRegistration<?> reg : regNode.getRegistrations()) {
+            cohortCandidates.put(reg, new SimpleDOMDataTreeCandidate(
+                new DOMDataTreeIdentifier(reg.datastoreType, path), candNode));
+        }
+
+        for (DataTreeCandidateNode candChild : candNode.getChildNodes()) {
+            if (candChild.getModificationType() != ModificationType.UNMODIFIED) {
+                final PathArgument childArg = candChild.getIdentifier();
+                final RegistrationTreeNode<CohortRegistration<?>> regChild = regNode.getExactChild(childArg);
+                if (regChild != null) {
+                    collectCandidates(path.node(childArg), regChild, candChild, cohortCandidates);
+                }
+                for (RegistrationTreeNode<CohortRegistration<?>> rc : regNode.getInexactChildren(childArg)) {
+                    collectCandidates(path.node(childArg), rc, candChild, cohortCandidates);
+                }
+            }
+        }
+    }
+
+    /**
+     * Steps of cohorts which have accepted a candidate. Drives them through the remaining phases of the commit.
+     */
+    final class CohortSteps {
+        private final Object txId;
+        private List<PostCanCommitStep> canCommitSteps;
+        private List<PostPreCommitStep> preCommitSteps;
+
+        CohortSteps(final Object txId, final List<PostCanCommitStep> canCommitSteps) {
+            this.txId = txId;
+            this.canCommitSteps = canCommitSteps;
+        }
+
+        void preCommit() throws TransactionCommitFailedException {
+            Preconditions.checkState(canCommitSteps != null, "Cohorts of %s are not in can-commit state", txId);
+            final List<ListenableFuture<? extends PostPreCommitStep>> futures = new ArrayList<>(canCommitSteps.size());
+            for (PostCanCommitStep step : canCommitSteps) {
+                futures.add(step.preCommit());
+            }
+            canCommitSteps = null;
+            preCommitSteps = awaitAll(txId, "preCommit", futures);
+        }
+
+        void commit() {
+            Preconditions.checkState(preCommitSteps != null, "Cohorts of %s are not in pre-commit state", txId);
+            final List<ListenableFuture<?>> futures = new ArrayList<>(preCommitSteps.size());
+            for (PostPreCommitStep step : preCommitSteps) {
+                futures.add(step.commit());
+            }
+            preCommitSteps = null;
+
+            // The data has been committed at this point, so the best we can do is report failures
+            try {
+                awaitAll(txId, "commit", futures);
+            } catch (TransactionCommitFailedException e) {
+                LOG.warn("Commit cohorts of transaction {} failed to commit", txId, e);
+            }
+        }
+
+        void abort() {
+            final List<? extends ThreePhaseCommitStep> steps = canCommitSteps != null ? canCommitSteps
+                    : preCommitSteps;
+            canCommitSteps = null;
+            preCommitSteps = null;
+            if (steps != null) {
+                for (ThreePhaseCommitStep step : steps) {
+                    step.abort();
+                }
+            }
+        }
+    }
+
+    final class CohortRegistration<T extends DOMDataTreeCommitCohort> extends AbstractObjectRegistration<T>
+            implements DOMDataTreeCommitCohortRegistration<T> {
+        private final RegistrationTreeNode<CohortRegistration<?>> node;
+        private final LogicalDatastoreType datastoreType;
+
+        CohortRegistration(final T instance, final LogicalDatastoreType datastoreType,
+                final RegistrationTreeNode<CohortRegistration<?>> node) {
+            super(instance);
+            this.datastoreType = Preconditions.checkNotNull(datastoreType);
+            this.node = Preconditions.checkNotNull(node);
+        }
+
+        @Override
+        protected void removeRegistration() {
+            InMemoryDOMDataTreeCommitCohortRegistry.this.removeRegistration(node, this);
+            registrationCount.decrementAndGet();
+        }
+    }
+
+    private static final class SimpleDOMDataTreeCandidate implements DOMDataTreeCandidate {
+        private final DOMDataTreeIdentifier rootPath;
+        private final DataTreeCandidateNode rootNode;
+
+        SimpleDOMDataTreeCandidate(final DOMDataTreeIdentifier rootPath, final DataTreeCandidateNode rootNode) {
+            this.rootPath = rootPath;
+            this.rootNode = rootNode;
+        }
+
+        @Override
+        public DOMDataTreeIdentifier getRootPath() {
+            return rootPath;
+        }
+
+        @Override
+        public DataTreeCandidateNode getRootNode() {
+            return rootNode;
+        }
+
+        @Override
+        public String toString() {
+            return "SimpleDOMDataTreeCandidate{rootPath=" + rootPath + ", rootNode=" + rootNode + "}";
+        }
+    }
+}
@@ -23,8 +23,12 @@ import java.util.Map;
 import java.util.Map.Entry;
 import java.util.concurrent.Executor;
 import javax.annotation.Nonnull;
+import javax.annotation.Nullable;
 import org.opendaylight.mdsal.common.api.LogicalDatastoreType;
 import org.opendaylight.mdsal.dom.api.DOMDataTreeChangeListener;
+import org.opendaylight.mdsal.dom.api.DOMDataTreeCommitCohort;
+import org.opendaylight.mdsal.dom.api.DOMDataTreeCommitCohortRegistration;
+import org.opendaylight.mdsal.dom.api.DOMDataTreeCommitCohortRegistry;
 import org.opendaylight.mdsal.dom.api.DOMDataTreeIdentifier;
 import org.opendaylight.mdsal.dom.api.DOMDataTreeShard;
 import org.opendaylight.mdsal.dom.spi.DOMDataTreePrefixTable;
@@ -33,6 +37,7 @@ import org.opendaylight.mdsal.dom.spi.shard.ForeignShardModificationContext;
 import org.opendaylight.mdsal.dom.spi.shard.ReadableWriteableDOMDataTreeShard;
 import org.opendaylight.mdsal.dom.spi.shard.SubshardProducerSpecification;
 import org.opendaylight.mdsal.dom.spi.shard.WriteableDOMDataTreeShard;
+import org.opendaylight.mdsal.dom.spi.store.SnapshotBackedReadCursor;
 import org.opendaylight.yangtools.concepts.ListenerRegistration;
 import org.opendaylight.yangtools.util.concurrent.CountingRejectedExecutionHandler;
 import org.opendaylight.yangtools.util.concurrent.FastThreadPoolExecutor;
@@ -48,7 +53,8 @@ import org.slf4j.Logger;
 import org.slf4j.LoggerFactory;
 
 @Beta
-public class InMemoryDOMDataTreeShard implements ReadableWriteableDOMDataTreeShard, SchemaContextListener {
+public class InMemoryDOMDataTreeShard implements ReadableWriteableDOMDataTreeShard, SchemaContextListener,
+        DOMDataTreeCommitCohortRegistry {
 
     private static final Logger LOG = LoggerFactory.getLogger(InMemoryDOMDataTreeShard.class);
     private static final int DEFAULT_SUBMIT_QUEUE_SIZE = 1000;
@@ -57,6 +63,7 @@ public class InMemoryDOMDataTreeShard implements ReadableWriteableDOMDataTreeSha
     private final Map<DOMDataTreeIdentifier, ChildShardContext> childShards = new HashMap<>();
     private final Collection<InMemoryDOMDataTreeShardProducer> producers = new HashSet<>();
     private final InMemoryDOMDataTreeShardChangePublisher shardChangePublisher;
+    private final InMemoryDOMDataTreeCommitCohortRegistry cohortRegistry;
     private final ListeningExecutorService executor;
     private final DOMDataTreeIdentifier prefix;
     private final DataTree dataTree;
@@ -70,6 +77,8 @@ public class InMemoryDOMDataTreeShard implements ReadableWriteableDOMDataTreeSha
 
         this.shardChangePublisher = new InMemoryDOMDataTreeShardChangePublisher(dataTreeChangeExecutor,
                 maxDataChangeListenerQueueSize, dataTree, prefix.getRootIdentifier(), childShards);
+        this.cohortRegistry = new InMemoryDOMDataTreeCommitCohortRegistry(prefix.getRootIdentifier(),
+            dataTreeChangeExecutor);
 
         final FastThreadPoolExecutor fte = new FastThreadPoolExecutor(1, submitQueueSize, "Shard[" + prefix + "]");
         fte.setRejectedExecutionHandler(CountingRejectedExecutionHandler.newCallerWaitsPolicy());
@@ -94,6 +103,7 @@ public class InMemoryDOMDataTreeShard implements ReadableWriteableDOMDataTreeSha
     @Override
     public void onGlobalContextUpdated(final SchemaContext context) {
         dataTree.setSchemaContext(context);
+        cohortRegistry.setSchemaContext(context);
     }
 
     @Override
@@ -182,6 +192,14 @@ public class InMemoryDOMDataTreeShard implements ReadableWriteableDOMDataTreeSha
         return shardChangePublisher.registerTreeChangeListener(treeId, listener);
     }
 
+    @Override
+    public <T extends DOMDataTreeCommitCohort> DOMDataTreeCommitCohortRegistration<T> registerCommitCohort(
+            final DOMDataTreeIdentifier path, final T cohort) {
+        Preconditions.checkArgument(prefix.contains(path) || path.contains(prefix),
+                "Path %s does not intersect shard %s", path, prefix);
+        return cohortRegistry.registerCommitCohort(path, cohort);
+    }
+
     private void reparentChildShards(final DOMDataTreeIdentifier newChildPrefix, final DOMDataTreeShard newChild) {
         final Iterator<Entry<DOMDataTreeIdentifier, ChildShardContext>> actualChildren =
                 childShards.entrySet().iterator();
@@ -234,6 +252,21 @@ public class InMemoryDOMDataTreeShard implements ReadableWriteableDOMDataTreeSha
         return ImmutableMap.copyOf(Maps.transformValues(childShards, ChildShardContext::getShard));
     }
 
+    /**
+     * Create a new read cursor anchored at specified path. The cursor observes the state of this shard at the time
+     * it was created and is not affected by subsequent commits. Data of attached child shards is not visible.
+     *
+     * @param path Path at which the cursor is to be anchored, has to be contained in this shard
+     * @return A new cursor, or null if the path does not exist
+     * @throws IllegalArgumentException if the path is not contained in this shard
+     */
+    @Nullable
+    public SnapshotBackedReadCursor createReadCursor(@Nonnull final DOMDataTreeIdentifier path) {
+        Preconditions.checkArgument(prefix.contains(path), "Path %s is not contained in shard %s", path, prefix);
+        return SnapshotBackedReadCursor.create(dataTree.takeSnapshot(),
+            path.getRootIdentifier().relativeTo(prefix.getRootIdentifier()).get());
+    }
+
     DataTreeSnapshot takeSnapshot() {
         return dataTree.takeSnapshot();
     }
@@ -244,6 +277,6 @@ public class InMemoryDOMDataTreeShard implements ReadableWriteableDOMDataTreeSha
 
         return new InmemoryDOMDataTreeShardWriteTransaction(producer,
                 producer.getModificationFactory().createModification((CursorAwareDataTreeSnapshot) snapshot), dataTree,
-                shardChangePublisher, executor);
+                shardChangePublisher, cohortRegistry, executor);
     }
 }
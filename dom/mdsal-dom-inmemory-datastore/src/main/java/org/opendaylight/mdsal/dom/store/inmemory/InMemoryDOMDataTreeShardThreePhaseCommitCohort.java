@@ -30,13 +30,20 @@ class InMemoryDOMDataTreeShardThreePhaseCommitCohort implements DOMStoreThreePha
     private final DataTreeModification modification;
     private DataTreeCandidate candidate;
     private final InMemoryDOMDataTreeShardChangePublisher changePublisher;
+    private final InMemoryDOMDataTreeCommitCohortRegistry cohortRegistry;
+    private final Object txId;
+    private InMemoryDOMDataTreeCommitCohortRegistry.CohortSteps cohortSteps;
 
     InMemoryDOMDataTreeShardThreePhaseCommitCohort(final DataTree dataTree,
                                                    final DataTreeModification modification,
-                                                   final InMemoryDOMDataTreeShardChangePublisher changePublisher) {
+                                                   final InMemoryDOMDataTreeShardChangePublisher changePublisher,
+                                                   final InMemoryDOMDataTreeCommitCohortRegistry cohortRegistry,
+                                                   final Object txId) {
         this.dataTree = Preconditions.checkNotNull(dataTree);
         this.modification = Preconditions.checkNotNull(modification);
         this.changePublisher = Preconditions.checkNotNull(changePublisher);
+        this.cohortRegistry = Preconditions.checkNotNull(cohortRegistry);
+        this.txId = Preconditions.checkNotNull(txId);
     }
 
     @SuppressWarnings("checkstyle:IllegalCatch")
@@ -44,6 +51,11 @@ class InMemoryDOMDataTreeShardThreePhaseCommitCohort implements DOMStoreThreePha
     public ListenableFuture<Boolean> canCommit() {
         try {
             dataTree.validate(modification);
+            if (!cohortRegistry.isEmpty()) {
+                // Commit cohorts need to see the candidate, hence we need to prepare it early
+                candidate = dataTree.prepare(modification);
+                cohortSteps = cohortRegistry.canCommit(txId, candidate);
+            }
             LOG.debug("DataTreeModification {} validated", modification);
 
             return CAN_COMMIT_FUTURE;
@@ -53,6 +65,10 @@ class InMemoryDOMDataTreeShardThreePhaseCommitCohort implements DOMStoreThreePha
 
             return Futures.immediateFailedFuture(new TransactionCommitFailedException(
                     "Data did not pass validation.", e));
+        } catch (TransactionCommitFailedException e) {
+            LOG.warn("DataTreeModification {} was rejected by commit cohorts", modification, e);
+            candidate = null;
+            return Futures.immediateFailedFuture(e);
         } catch (Exception e) {
             LOG.warn("Unexpected failure in validation phase", e);
             return Futures.immediateFailedFuture(e);
@@ -63,7 +79,12 @@ class InMemoryDOMDataTreeShardThreePhaseCommitCohort implements DOMStoreThreePha
     @Override
     public ListenableFuture<Void> preCommit() {
         try {
-            candidate = dataTree.prepare(modification);
+            if (candidate == null) {
+                candidate = dataTree.prepare(modification);
+            }
+            if (cohortSteps != null) {
+                cohortSteps.preCommit();
+            }
             LOG.debug("DataTreeModification {} prepared", modification);
             return SUCCESSFUL_FUTURE;
         } catch (Exception e) {
@@ -75,6 +96,10 @@ class InMemoryDOMDataTreeShardThreePhaseCommitCohort implements DOMStoreThreePha
     @Override
     public ListenableFuture<Void> abort() {
         candidate = null;
+        if (cohortSteps != null) {
+            cohortSteps.abort();
+            cohortSteps = null;
+        }
         return SUCCESSFUL_FUTURE;
     }
 
@@ -85,6 +110,10 @@ class InMemoryDOMDataTreeShardThreePhaseCommitCohort implements DOMStoreThreePha
         dataTree.commit(candidate);
         // publish this change for listeners
         changePublisher.publishChange(candidate);
+        if (cohortSteps != null) {
+            cohortSteps.commit();
+            cohortSteps = null;
+        }
         return SUCCESSFUL_FUTURE;
     }
 }
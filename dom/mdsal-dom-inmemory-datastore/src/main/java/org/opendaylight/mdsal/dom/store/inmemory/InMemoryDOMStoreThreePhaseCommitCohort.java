@@ -33,6 +33,7 @@ class InMemoryDOMStoreThreePhaseCommitCohort implements DOMStoreThreePhaseCommit
     private final DataTreeModification modification;
     private final InMemoryDOMDataStore store;
     private DataTreeCandidate candidate;
+    private InMemoryDOMDataTreeCommitCohortRegistry.CohortSteps cohortSteps;
 
     InMemoryDOMStoreThreePhaseCommitCohort(final InMemoryDOMDataStore store,
             final SnapshotBackedWriteTransaction<String> writeTransaction, final DataTreeModification modification) {
@@ -53,6 +54,11 @@ class InMemoryDOMStoreThreePhaseCommitCohort implements DOMStoreThreePhaseCommit
     public final ListenableFuture<Boolean> canCommit() {
         try {
             store.validate(modification);
+            if (store.hasCommitCohorts()) {
+                // Commit cohorts need to see the candidate, hence we need to prepare it early
+                candidate = store.prepare(modification);
+                cohortSteps = store.canCommitCohorts(getTransaction().getIdentifier(), candidate);
+            }
             LOG.debug("Store Transaction: {} can be committed", getTransaction().getIdentifier());
             return CAN_COMMIT_FUTURE;
         } catch (ConflictingModificationAppliedException e) {
@@ -72,6 +78,10 @@ class InMemoryDOMStoreThreePhaseCommitCohort implements DOMStoreThreePhaseCommit
 
             return Futures.immediateFailedFuture(
                     new TransactionCommitFailedException("Data did not pass validation.", e));
+        } catch (TransactionCommitFailedException e) {
+            LOG.warn("Store Tx: {} was rejected by commit cohorts", getTransaction().getIdentifier(), e);
+            candidate = null;
+            return Futures.immediateFailedFuture(e);
         } catch (Exception e) {
             LOG.warn("Unexpected failure in validation phase", e);
             return Futures.immediateFailedFuture(e);
@@ -82,7 +92,12 @@ class InMemoryDOMStoreThreePhaseCommitCohort implements DOMStoreThreePhaseCommit
     @Override
     public final ListenableFuture<Void> preCommit() {
         try {
-            candidate = store.prepare(modification);
+            if (candidate == null) {
+                candidate = store.prepare(modification);
+            }
+            if (cohortSteps != null) {
+                cohortSteps.preCommit();
+            }
             return SUCCESSFUL_FUTURE;
         } catch (Exception e) {
             LOG.warn("Unexpected failure in pre-commit phase", e);
@@ -93,6 +108,10 @@ class InMemoryDOMStoreThreePhaseCommitCohort implements DOMStoreThreePhaseCommit
     @Override
     public final ListenableFuture<Void> abort() {
         candidate = null;
+        if (cohortSteps != null) {
+            cohortSteps.abort();
+            cohortSteps = null;
+        }
         return SUCCESSFUL_FUTURE;
     }
 
@@ -109,6 +128,10 @@ class InMemoryDOMStoreThreePhaseCommitCohort implements DOMStoreThreePhaseCommit
          * registrations.
          */
         store.commit(candidate);
+        if (cohortSteps != null) {
+            cohortSteps.commit();
+            cohortSteps = null;
+        }
         return SUCCESSFUL_FUTURE;
     }
 }
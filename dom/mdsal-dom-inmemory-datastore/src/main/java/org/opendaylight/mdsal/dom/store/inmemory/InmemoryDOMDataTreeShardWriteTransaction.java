@@ -87,6 +87,7 @@ class InmemoryDOMDataTreeShardWriteTransaction implements DOMDataTreeShardWriteT
 
     private final ArrayList<DOMStoreThreePhaseCommitCohort> cohorts = new ArrayList<>();
     private final InMemoryDOMDataTreeShardChangePublisher changePublisher;
+    private final InMemoryDOMDataTreeCommitCohortRegistry cohortRegistry;
     private final InMemoryDOMDataTreeShardProducer producer;
     private final ShardDataModification modification;
     private final ListeningExecutorService executor;
@@ -101,11 +102,13 @@ class InmemoryDOMDataTreeShardWriteTransaction implements DOMDataTreeShardWriteT
                                              final ShardDataModification root,
                                              final DataTree rootShardDataTree,
                                              final InMemoryDOMDataTreeShardChangePublisher changePublisher,
+                                             final InMemoryDOMDataTreeCommitCohortRegistry cohortRegistry,
                                              final ListeningExecutorService executor) {
         this.producer = producer;
         this.modification = Preconditions.checkNotNull(root);
         this.rootShardDataTree = Preconditions.checkNotNull(rootShardDataTree);
         this.changePublisher = Preconditions.checkNotNull(changePublisher);
+        this.cohortRegistry = Preconditions.checkNotNull(cohortRegistry);
         this.identifier = "INMEMORY-SHARD-TX-" + COUNTER.getAndIncrement();
         LOG.debug("Shard transaction{} created", identifier);
         this.executor = executor;
@@ -185,7 +188,7 @@ class InmemoryDOMDataTreeShardWriteTransaction implements DOMDataTreeShardWriteT
 
         producer.transactionReady(this, rootModification);
         cohorts.add(new InMemoryDOMDataTreeShardThreePhaseCommitCohort(
-                rootShardDataTree, rootModification, changePublisher));
+                rootShardDataTree, rootModification, changePublisher, cohortRegistry, identifier));
         for (final Entry<DOMDataTreeIdentifier, ForeignShardModificationContext> entry :
                 modification.getChildShards().entrySet()) {
             cohorts.add(new ForeignShardThreePhaseCommitCohort(entry.getKey(), entry.getValue()));
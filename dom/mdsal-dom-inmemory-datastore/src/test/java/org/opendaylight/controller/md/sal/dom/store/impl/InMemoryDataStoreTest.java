@@ -10,34 +10,61 @@ package org.opendaylight.controller.md.sal.dom.store.impl;
 import static org.junit.Assert.assertEquals;
 import static org.junit.Assert.assertFalse;
 import static org.junit.Assert.assertNotNull;
+import static org.junit.Assert.assertNull;
 import static org.junit.Assert.assertTrue;
+import static org.junit.Assert.fail;
+import static org.mockito.Matchers.any;
+import static org.mockito.Mockito.doReturn;
+import static org.mockito.Mockito.mock;
+import static org.mockito.Mockito.never;
+import static org.mockito.Mockito.verify;
 
 import com.google.common.base.Optional;
+import com.google.common.collect.ImmutableList;
+import com.google.common.collect.Iterables;
 import com.google.common.util.concurrent.CheckedFuture;
+import com.google.common.util.concurrent.Futures;
 import com.google.common.util.concurrent.ListenableFuture;
 import com.google.common.util.concurrent.MoreExecutors;
 import java.io.IOException;
+import java.util.Collection;
+import java.util.Map;
 import java.util.concurrent.ExecutionException;
 import org.junit.Before;
 import org.junit.Ignore;
 import org.junit.Test;
+import org.mockito.ArgumentCaptor;
 import org.mockito.Mockito;
+import org.opendaylight.mdsal.common.api.DataValidationFailedException;
+import org.opendaylight.mdsal.common.api.LogicalDatastoreType;
+import org.opendaylight.mdsal.common.api.PostCanCommitStep;
 import org.opendaylight.mdsal.common.api.ReadFailedException;
+import org.opendaylight.mdsal.common.api.TransactionCommitFailedException;
+import org.opendaylight.mdsal.dom.api.DOMDataTreeCandidate;
+import org.opendaylight.mdsal.dom.api.DOMDataTreeCommitCohort;
+import org.opendaylight.mdsal.dom.api.DOMDataTreeCommitCohortRegistration;
+import org.opendaylight.mdsal.dom.api.DOMDataTreeIdentifier;
 import org.opendaylight.mdsal.dom.spi.store.DOMStoreReadTransaction;
 import org.opendaylight.mdsal.dom.spi.store.DOMStoreReadWriteTransaction;
 import org.opendaylight.mdsal.dom.spi.store.DOMStoreThreePhaseCommitCohort;
 import org.opendaylight.mdsal.dom.spi.store.DOMStoreTransactionChain;
 import org.opendaylight.mdsal.dom.spi.store.DOMStoreWriteTransaction;
+import org.opendaylight.mdsal.dom.spi.store.SnapshotBackedReadCursor;
+import org.opendaylight.mdsal.dom.spi.store.SnapshotBackedReadTransaction;
+import org.opendaylight.mdsal.dom.spi.store.SnapshotBackedReadWriteTransaction;
 import org.opendaylight.mdsal.dom.spi.store.SnapshotBackedTransactions;
 import org.opendaylight.mdsal.dom.spi.store.SnapshotBackedWriteTransaction.TransactionReadyPrototype;
 import org.opendaylight.mdsal.dom.store.inmemory.InMemoryDOMDataStore;
 import org.opendaylight.yangtools.yang.data.api.YangInstanceIdentifier;
 import org.opendaylight.yangtools.yang.data.api.YangInstanceIdentifier.NodeIdentifier;
 import org.opendaylight.yangtools.yang.data.api.schema.ContainerNode;
+import org.opendaylight.yangtools.yang.data.api.schema.MapEntryNode;
+import org.opendaylight.yangtools.yang.data.api.schema.MapNode;
 import org.opendaylight.yangtools.yang.data.api.schema.NormalizedNode;
 import org.opendaylight.yangtools.yang.data.api.schema.tree.DataTreeModification;
 import org.opendaylight.yangtools.yang.data.api.schema.tree.DataTreeSnapshot;
 import org.opendaylight.yangtools.yang.data.impl.schema.ImmutableNodes;
+import org.opendaylight.yangtools.yang.data.impl.schema.builder.api.CollectionNodeBuilder;
 import org.opendaylight.yangtools.yang.data.impl.schema.builder.impl.ImmutableContainerNodeBuilder;
 import org.opendaylight.yangtools.yang.model.api.SchemaContext;
 import org.opendaylight.yangtools.yang.model.parser.api.YangSyntaxErrorException;
@@ -447,6 +474,129 @@ public class InMemoryDataStoreTest {
         assertFalse(txTwo.ready().canCommit().get());
     }
 
+    @Test
+    @SuppressWarnings("unchecked")
+    public void testCommitCohortReceivesFilteredCandidate() throws Exception {
+        final DOMDataTreeCommitCohort cohort = mock(DOMDataTreeCommitCohort.class);
+        doReturn(PostCanCommitStep.NOOP_SUCCESS_FUTURE).when(cohort).canCommit(any(), any(Collection.class), any());
+        final DOMDataTreeIdentifier cohortPath =
+                new DOMDataTreeIdentifier(LogicalDatastoreType.OPERATIONAL, TestModel.TEST_PATH);
+        final DOMDataTreeCommitCohortRegistration<DOMDataTreeCommitCohort> reg =
+                domStore.registerCommitCohort(cohortPath, cohort);
+
+        final DOMStoreReadWriteTransaction writeTx = domStore.newReadWriteTransaction();
+        writeTx.write(TestModel.TEST_PATH, ImmutableNodes.containerNode(TestModel.TEST_QNAME));
+        assertThreePhaseCommit(writeTx.ready());
+
+        final ArgumentCaptor<Collection> candidates = ArgumentCaptor.forClass(Collection.class);
+        verify(cohort).canCommit(any(), candidates.capture(), any());
+        final DOMDataTreeCandidate candidate =
+                (DOMDataTreeCandidate) Iterables.getOnlyElement(candidates.getValue());
+        assertEquals(cohortPath, candidate.getRootPath());
+        assertEquals(TestModel.TEST_QNAME, candidate.getRootNode().getIdentifier().getNodeType());
+
+        reg.close();
+        final DOMStoreReadWriteTransaction secondTx = domStore.newReadWriteTransaction();
+        secondTx.merge(TestModel.TEST_PATH, ImmutableNodes.containerNode(TestModel.TEST_QNAME));
+        assertThreePhaseCommit(secondTx.ready());
+        verify(cohort).canCommit(any(), any(Collection.class), any());
+    }
+
+    @Test
+    @SuppressWarnings("unchecked")
+    public void testCommitCohortRejects() throws Exception {
+        final DOMDataTreeCommitCohort cohort = mock(DOMDataTreeCommitCohort.class);
+        doReturn(Futures.immediateFailedCheckedFuture(new DataValidationFailedException(
+            YangInstanceIdentifier.class, TestModel.TEST_PATH, "rejected"))).when(cohort)
+                .canCommit(any(), any(Collection.class), any());
+        final DOMDataTreeCommitCohort unaffected = mock(DOMDataTreeCommitCohort.class);
+        domStore.registerCommitCohort(new DOMDataTreeIdentifier(LogicalDatastoreType.OPERATIONAL,
+            TestModel.TEST_PATH), cohort);
+        domStore.registerCommitCohort(new DOMDataTreeIdentifier(LogicalDatastoreType.OPERATIONAL,
+            TestModel.OUTER_LIST_PATH), unaffected);
+
+        final DOMStoreReadWriteTransaction writeTx = domStore.newReadWriteTransaction();
+        writeTx.write(TestModel.TEST_PATH, ImmutableNodes.containerNode(TestModel.TEST_QNAME));
+        try {
+            writeTx.ready().canCommit().get();
+            fail("Commit should have been rejected");
+        } catch (ExecutionException e) {
+            assertTrue(e.getCause() instanceof TransactionCommitFailedException);
+        }
+
+        verify(unaffected, never()).canCommit(any(), any(Collection.class), any());
+        assertFalse(domStore.newReadOnlyTransaction().read(TestModel.TEST_PATH).get().isPresent());
+    }
+
+    @Test
+    public void testReadCursor() throws Exception {
+        final CollectionNodeBuilder<MapEntryNode, MapNode> listBuilder =
+                ImmutableNodes.mapNodeBuilder(TestModel.OUTER_LIST_QNAME);
+        for (int i = 0; i < 10; ++i) {
+            listBuilder.addChild(ImmutableNodes.mapEntry(TestModel.OUTER_LIST_QNAME, TestModel.ID_QNAME, i));
+        }
+
+        final SnapshotBackedReadWriteTransaction<?> writeTx =
+                (SnapshotBackedReadWriteTransaction<?>) domStore.newReadWriteTransaction();
+        writeTx.write(TestModel.TEST_PATH, ImmutableContainerNodeBuilder.create()
+            .withNodeIdentifier(new NodeIdentifier(TestModel.TEST_QNAME)).addChild(listBuilder.build()).build());
+
+        // Read-write transaction cursors see uncommitted data
+        try (SnapshotBackedReadCursor cursor = writeTx.createCursor(TestModel.TEST_PATH)) {
+            assertNotNull(cursor);
+            assertTrue(cursor.exists(new NodeIdentifier(TestModel.OUTER_LIST_QNAME)).checkedGet());
+        }
+        assertThreePhaseCommit(writeTx.ready());
+
+        final SnapshotBackedReadTransaction<?> readTx =
+                (SnapshotBackedReadTransaction<?>) domStore.newReadOnlyTransaction();
+        assertNull(readTx.createCursor(TestModel.OUTER_LIST_PATH.node(TestModel.INNER_LIST_QNAME)));
+
+        try (SnapshotBackedReadCursor cursor = readTx.createCursor(TestModel.TEST_PATH)) {
+            final NodeIdentifier listId = new NodeIdentifier(TestModel.OUTER_LIST_QNAME);
+            assertEquals(3, Iterables.size(cursor.readEntries(listId, 2, 3)));
+            assertEquals(2, Iterables.size(cursor.readEntries(listId, 8, 3)));
+            assertTrue(Iterables.isEmpty(cursor.readEntries(listId, 10, 3)));
+
+            final MapEntryNode entry = Iterables.getOnlyElement(cursor.readEntries(listId, 5, 1));
+            cursor.enter(listId, entry.getIdentifier());
+            assertEquals(entry.getChild(new NodeIdentifier(TestModel.ID_QNAME)),
+                cursor.readNode(new NodeIdentifier(TestModel.ID_QNAME)).checkedGet());
+            cursor.exit(2);
+            assertTrue(cursor.exists(listId).checkedGet());
+        }
+    }
+
+    @Test
+    public void testReadAll() throws Exception {
+        final DOMStoreReadWriteTransaction writeTx = domStore.newReadWriteTransaction();
+        writeTx.write(TestModel.TEST_PATH, ImmutableNodes.containerNode(TestModel.TEST_QNAME));
+
+        // Read-write transactions see uncommitted data
+        Map<YangInstanceIdentifier, Optional<NormalizedNode<?, ?>>> results = writeTx.readAll(
+            ImmutableList.of(TestModel.TEST_PATH, TestModel.OUTER_LIST_PATH)).checkedGet();
+        assertEquals(2, results.size());
+        assertTrue(results.get(TestModel.TEST_PATH).isPresent());
+        assertFalse(results.get(TestModel.OUTER_LIST_PATH).isPresent());
+        assertThreePhaseCommit(writeTx.ready());
+
+        final DOMStoreReadTransaction readTx = domStore.newReadOnlyTransaction();
+        results = readTx.readAll(ImmutableList.of(TestModel.OUTER_LIST_PATH, TestModel.TEST_PATH,
+            TestModel.TEST_PATH)).checkedGet();
+        assertEquals(ImmutableList.of(TestModel.OUTER_LIST_PATH, TestModel.TEST_PATH),
+            ImmutableList.copyOf(results.keySet()));
+        assertTrue(results.get(TestModel.TEST_PATH).isPresent());
+        assertFalse(results.get(TestModel.OUTER_LIST_PATH).isPresent());
+
+        readTx.close();
+        try {
+            readTx.readAll(ImmutableList.of(TestModel.TEST_PATH)).checkedGet();
+            fail("Read of a closed transaction should have failed");
+        } catch (ReadFailedException e) {
+            // Expected
+        }
+    }
+
     private static void assertThreePhaseCommit(final DOMStoreThreePhaseCommitCohort cohort)
             throws InterruptedException, ExecutionException {
         assertTrue(cohort.canCommit().get().booleanValue());
@@ -0,0 +1,181 @@
+/*
+ * Copyright (c) 2017 Pantheon Technologies, s.r.o. and others.  All rights reserved.
+ *
+ * This program and the accompanying materials are made available under the
+ * terms of the Eclipse Public License v1.0 which accompanies this distribution,
+ * and is available at http://www.eclipse.org/legal/epl-v10.html
+ */
+package org.opendaylight.mdsal.dom.store.inmemory;
+
+import static org.junit.Assert.assertEquals;
+import static org.junit.Assert.assertNotNull;
+import static org.junit.Assert.assertSame;
+import static org.junit.Assert.assertTrue;
+import static org.junit.Assert.fail;
+import static org.mockito.Matchers.any;
+import static org.mockito.Mockito.doReturn;
+import static org.mockito.Mockito.mock;
+import static org.mockito.Mockito.verify;
+
+import com.google.common.collect.ImmutableSet;
+import com.google.common.collect.Iterables;
+import com.google.common.util.concurrent.CheckedFuture;
+import com.google.common.util.concurrent.Futures;
+import com.google.common.util.concurrent.MoreExecutors;
+import com.google.common.util.concurrent.SettableFuture;
+import java.util.Collection;
+import java.util.concurrent.CountDownLatch;
+import java.util.concurrent.ExecutorService;
+import java.util.concurrent.Executors;
+import java.util.concurrent.TimeUnit;
+import org.junit.Before;
+import org.junit.Test;
+import org.mockito.ArgumentCaptor;
+import org.opendaylight.mdsal.common.api.DataValidationFailedException;
+import org.opendaylight.mdsal.common.api.LogicalDatastoreType;
+import org.opendaylight.mdsal.common.api.PostCanCommitStep;
+import org.opendaylight.mdsal.common.api.TransactionCommitFailedException;
+import org.opendaylight.mdsal.dom.api.DOMDataTreeCandidate;
+import org.opendaylight.mdsal.dom.api.DOMDataTreeCommitCohort;
+import org.opendaylight.mdsal.dom.api.DOMDataTreeIdentifier;
+import org.opendaylight.yangtools.yang.common.QName;
+import org.opendaylight.yangtools.yang.data.api.YangInstanceIdentifier;
+import org.opendaylight.yangtools.yang.data.api.YangInstanceIdentifier.NodeIdentifier;
+import org.opendaylight.yangtools.yang.data.api.schema.tree.DataTreeCandidate;
+import org.opendaylight.yangtools.yang.data.api.schema.tree.DataTreeCandidateNode;
+import org.opendaylight.yangtools.yang.data.api.schema.tree.ModificationType;
+import org.opendaylight.yangtools.yang.model.api.SchemaContext;
+
+public class InMemoryDOMDataTreeCommitCohortRegistryTest {
+    private static final YangInstanceIdentifier SHARD_ROOT = YangInstanceIdentifier.of(QName.create("test"));
+    private static final QName CHILD = QName.create(SHARD_ROOT.getLastPathArgument().getNodeType(), "child");
+
+    private final DataTreeCandidate candidate = mock(DataTreeCandidate.class);
+    private final DataTreeCandidateNode candidateNode = mock(DataTreeCandidateNode.class);
+    private InMemoryDOMDataTreeCommitCohortRegistry registry;
+
+    @Before
+    public void setUp() {
+        doReturn(YangInstanceIdentifier.EMPTY).when(candidate).getRootPath();
+        doReturn(candidateNode).when(candidate).getRootNode();
+        doReturn(ModificationType.WRITE).when(candidateNode).getModificationType();
+        doReturn(ImmutableSet.of()).when(candidateNode).getChildNodes();
+
+        // Rooted the same way as a shard with /test prefix
+        registry = new InMemoryDOMDataTreeCommitCohortRegistry(SHARD_ROOT, MoreExecutors.directExecutor());
+    }
+
+    @Test(expected = IllegalArgumentException.class)
+    public void testCohortAboveShardRoot() {
+        registry.registerCommitCohort(new DOMDataTreeIdentifier(LogicalDatastoreType.OPERATIONAL,
+            YangInstanceIdentifier.EMPTY), mock(DOMDataTreeCommitCohort.class));
+    }
+
+    @Test
+    @SuppressWarnings("unchecked")
+    public void testCohortBelowShardRoot() throws Exception {
+        final DOMDataTreeCommitCohort cohort = mock(DOMDataTreeCommitCohort.class);
+        doReturn(PostCanCommitStep.NOOP_SUCCESS_FUTURE).when(cohort).canCommit(any(), any(Collection.class), any());
+        final YangInstanceIdentifier childPath = SHARD_ROOT.node(CHILD);
+        registry.registerCommitCohort(new DOMDataTreeIdentifier(LogicalDatastoreType.OPERATIONAL, childPath), cohort);
+
+        final DataTreeCandidateNode childNode = mock(DataTreeCandidateNode.class);
+        doReturn(new NodeIdentifier(CHILD)).when(childNode).getIdentifier();
+        doReturn(ModificationType.WRITE).when(childNode).getModificationType();
+        doReturn(ImmutableSet.of()).when(childNode).getChildNodes();
+        doReturn(ImmutableSet.of(childNode)).when(candidateNode).getChildNodes();
+
+        assertNotNull(registry.canCommit("tx", candidate));
+
+        // The cohort is handed a candidate rooted at its own subtree
+        final ArgumentCaptor<Collection> candidates = ArgumentCaptor.forClass(Collection.class);
+        verify(cohort).canCommit(any(), candidates.capture(), any());
+        final DOMDataTreeCandidate domCandidate = (DOMDataTreeCandidate) Iterables.getOnlyElement(
+            candidates.getValue());
+        assertEquals(new DOMDataTreeIdentifier(LogicalDatastoreType.OPERATIONAL, childPath),
+            domCandidate.getRootPath());
+        assertSame(childNode, domCandidate.getRootNode());
+    }
+
+    @Test(timeout = 10000)
+    public void testCohortsInvokedInParallel() throws Exception {
+        final ExecutorService executor = Executors.newFixedThreadPool(2);
+        try {
+            registry = new InMemoryDOMDataTreeCommitCohortRegistry(SHARD_ROOT, executor);
+
+            // Each cohort validates synchronously and completes only once both of them have been invoked
+            final CountDownLatch invoked = new CountDownLatch(2);
+            final DOMDataTreeCommitCohort cohort = new DOMDataTreeCommitCohort() {
+                @Override
+                public CheckedFuture<PostCanCommitStep, DataValidationFailedException> canCommit(final Object txId,
+                        final Collection<DOMDataTreeCandidate> candidates, final SchemaContext ctx) {
+                    invoked.countDown();
+                    try {
+                        assertTrue(invoked.await(5, TimeUnit.SECONDS));
+                    } catch (InterruptedException e) {
+                        throw new IllegalStateException(e);
+                    }
+                    return PostCanCommitStep.NOOP_SUCCESS_FUTURE;
+                }
+            };
+            final DOMDataTreeIdentifier path = new DOMDataTreeIdentifier(LogicalDatastoreType.OPERATIONAL, SHARD_ROOT);
+            registry.registerCommitCohort(path, cohort);
+            registry.registerCommitCohort(path, cohort);
+
+            assertNotNull(registry.canCommit("tx", candidate));
+        } finally {
+            executor.shutdownNow();
+        }
+    }
+
+    @Test
+    @SuppressWarnings("unchecked")
+    public void testInterruptPreserved() throws Exception {
+        final DOMDataTreeCommitCohort cohort = mock(DOMDataTreeCommitCohort.class);
+        doReturn(Futures.makeChecked(SettableFuture.create(), e -> new DataValidationFailedException(
+            YangInstanceIdentifier.class, SHARD_ROOT, e.getMessage()))).when(cohort).canCommit(any(),
+                any(Collection.class), any());
+        registry.registerCommitCohort(new DOMDataTreeIdentifier(LogicalDatastoreType.OPERATIONAL, SHARD_ROOT),
+            cohort);
+
+        Thread.currentThread().interrupt();
+        try {
+            registry.canCommit("tx", candidate);
+            fail("Commit should have been rejected");
+        } catch (TransactionCommitFailedException e) {
+            assertEquals(InterruptedException.class, e.getCause().getClass());
+        } finally {
+            assertTrue("Interrupt status should have been restored", Thread.interrupted());
+        }
+    }
+
+    @Test
+    @SuppressWarnings("unchecked")
+    public void testLateSuccessAborted() throws Exception {
+        final DOMDataTreeCommitCohort failing = mock(DOMDataTreeCommitCohort.class);
+        doReturn(Futures.immediateFailedCheckedFuture(new DataValidationFailedException(YangInstanceIdentifier.class,
+            SHARD_ROOT, "rejected"))).when(failing).canCommit(any(), any(Collection.class), any());
+
+        final SettableFuture<PostCanCommitStep> slowFuture = SettableFuture.create();
+        final DOMDataTreeCommitCohort slow = mock(DOMDataTreeCommitCohort.class);
+        doReturn(Futures.makeChecked(slowFuture, e -> new DataValidationFailedException(YangInstanceIdentifier.class,
+            SHARD_ROOT, e.getMessage()))).when(slow).canCommit(any(), any(Collection.class), any());
+
+        final DOMDataTreeIdentifier path = new DOMDataTreeIdentifier(LogicalDatastoreType.OPERATIONAL, SHARD_ROOT);
+        registry.registerCommitCohort(path, failing);
+        registry.registerCommitCohort(path, slow);
+
+        try {
+            registry.canCommit("tx", candidate);
+            fail("Commit should have been rejected");
+        } catch (TransactionCommitFailedException e) {
+            assertEquals(DataValidationFailedException.class, e.getCause().getClass());
+        }
+
+        // The slow cohort accepts the candidate only after the commit has failed, and has to be aborted
+        final PostCanCommitStep step = mock(PostCanCommitStep.class);
+        doReturn(Futures.immediateFuture(null)).when(step).abort();
+        slowFuture.set(step);
+        verify(step).abort();
+    }
+}
@@ -9,7 +9,10 @@ package org.opendaylight.mdsal.dom.store.inmemory;
 
 import static org.junit.Assert.assertEquals;
 import static org.junit.Assert.assertFalse;
+import static org.junit.Assert.assertNotNull;
+import static org.junit.Assert.assertNull;
 import static org.junit.Assert.assertTrue;
+import static org.junit.Assert.fail;
 import static org.mockito.Matchers.any;
 import static org.mockito.Mockito.atLeastOnce;
 import static org.mockito.Mockito.doNothing;
@@ -26,13 +29,20 @@ import com.google.common.util.concurrent.MoreExecutors;
 import java.util.Collection;
 import org.junit.After;
 import org.junit.Test;
+import org.opendaylight.controller.md.sal.dom.store.impl.TestModel;
 import org.opendaylight.mdsal.common.api.LogicalDatastoreType;
 import org.opendaylight.mdsal.dom.api.DOMDataTreeChangeListener;
 import org.opendaylight.mdsal.dom.api.DOMDataTreeIdentifier;
+import org.opendaylight.mdsal.dom.api.DOMDataTreeWriteCursor;
 import org.opendaylight.mdsal.dom.spi.shard.ReadableWriteableDOMDataTreeShard;
+import org.opendaylight.mdsal.dom.spi.store.SnapshotBackedReadCursor;
 import org.opendaylight.yangtools.concepts.ListenerRegistration;
 import org.opendaylight.yangtools.yang.common.QName;
 import org.opendaylight.yangtools.yang.data.api.YangInstanceIdentifier;
+import org.opendaylight.yangtools.yang.data.api.YangInstanceIdentifier.NodeIdentifier;
+import org.opendaylight.yangtools.yang.data.api.YangInstanceIdentifier.NodeIdentifierWithPredicates;
+import org.opendaylight.yangtools.yang.data.api.schema.MapEntryNode;
+import org.opendaylight.yangtools.yang.data.impl.schema.ImmutableNodes;
 import org.opendaylight.yangtools.yang.data.api.schema.tree.CursorAwareDataTreeModification;
 import org.opendaylight.yangtools.yang.data.api.schema.tree.CursorAwareDataTreeSnapshot;
 
@@ -101,6 +111,58 @@ public class InMemoryDOMDataTreeShardTest {
         inMemoryDOMDataTreeShard.createTransaction("", mockProducer, mock(CursorAwareDataTreeSnapshot.class));
     }
 
+    @Test
+    public void createReadCursorTest() throws Exception {
+        final DOMDataTreeIdentifier shardRoot =
+                new DOMDataTreeIdentifier(LogicalDatastoreType.CONFIGURATION, TestModel.TEST_PATH);
+        final InMemoryDOMDataTreeShard inMemoryDOMDataTreeShard =
+                InMemoryDOMDataTreeShard.create(shardRoot, MoreExecutors.directExecutor(), 1);
+        inMemoryDOMDataTreeShard.onGlobalContextUpdated(createTestContext());
+
+        final MapEntryNode entry = ImmutableNodes.mapEntry(TestModel.OUTER_LIST_QNAME, TestModel.ID_QNAME, 1);
+        final InMemoryDOMDataTreeShardProducer producer =
+                inMemoryDOMDataTreeShard.createProducer(ImmutableList.of(shardRoot));
+        final InmemoryDOMDataTreeShardWriteTransaction tx = producer.createTransaction();
+        final DOMDataTreeWriteCursor writeCursor = tx.createCursor(shardRoot);
+        writeCursor.write(new NodeIdentifier(TestModel.OUTER_LIST_QNAME),
+            ImmutableNodes.mapNodeBuilder(TestModel.OUTER_LIST_QNAME).withChild(entry).build());
+        writeCursor.close();
+        tx.ready();
+        tx.submit().get();
+
+        // Cursor anchored at the shard root
+        try (SnapshotBackedReadCursor cursor = inMemoryDOMDataTreeShard.createReadCursor(shardRoot)) {
+            assertNotNull(cursor);
+            assertTrue(cursor.exists(new NodeIdentifier(TestModel.OUTER_LIST_QNAME)).checkedGet());
+        }
+
+        // Cursor anchored below the shard root, the path has to be resolved relative to the shard
+        try (SnapshotBackedReadCursor cursor = inMemoryDOMDataTreeShard.createReadCursor(
+                new DOMDataTreeIdentifier(LogicalDatastoreType.CONFIGURATION, TestModel.OUTER_LIST_PATH))) {
+            assertNotNull(cursor);
+            assertEquals(entry, cursor.readNode(entry.getIdentifier()).checkedGet().get());
+        }
+
+        final NodeIdentifierWithPredicates missing =
+                new NodeIdentifierWithPredicates(TestModel.OUTER_LIST_QNAME, TestModel.ID_QNAME, 2);
+        assertNull(inMemoryDOMDataTreeShard.createReadCursor(new DOMDataTreeIdentifier(
+            LogicalDatastoreType.CONFIGURATION, TestModel.OUTER_LIST_PATH.node(missing))));
+
+        assertCursorRejected(inMemoryDOMDataTreeShard,
+            new DOMDataTreeIdentifier(LogicalDatastoreType.CONFIGURATION, YangInstanceIdentifier.EMPTY));
+        assertCursorRejected(inMemoryDOMDataTreeShard,
+            new DOMDataTreeIdentifier(LogicalDatastoreType.OPERATIONAL, TestModel.TEST_PATH));
+    }
+
+    private static void assertCursorRejected(final InMemoryDOMDataTreeShard shard, final DOMDataTreeIdentifier path) {
+        try {
+            shard.createReadCursor(path);
+            fail("Cursor outside of the shard should not be created for " + path);
+        } catch (IllegalArgumentException e) {
+            // Expected
+        }
+    }
+
     @After
     public void reset() {
         resetMocks();
@@ -45,7 +45,9 @@ public class InMemoryDOMDataTreeShardThreePhaseCommitCohortTest {
     private static final InMemoryDOMDataTreeShardThreePhaseCommitCohort
             IN_MEMORY_DOM_DATA_TREE_SHARD_THREE_PHASE_COMMIT_COHORT =
                 new InMemoryDOMDataTreeShardThreePhaseCommitCohort(DATA_TREE, DATA_TREE_MODIFICATION,
-                        IN_MEMORY_DOM_DATA_TREE_SHARD_CHANGE_PUBLISHER);
+                        IN_MEMORY_DOM_DATA_TREE_SHARD_CHANGE_PUBLISHER,
+                        new InMemoryDOMDataTreeCommitCohortRegistry(YangInstanceIdentifier.EMPTY,
+                            MoreExecutors.directExecutor()), "test-tx");
 
     @Before
     public void setUp() throws Exception {
@@ -93,6 +93,8 @@ public class InmemoryDOMDataTreeShardWriteTransactionTest {
         inmemoryDOMDataTreeShardWriteTransaction =
                 new InmemoryDOMDataTreeShardWriteTransaction(mockProducer, shardDataModification, DATA_TREE,
                         inMemoryDOMDataTreeShardChangePublisher,
+                        new InMemoryDOMDataTreeCommitCohortRegistry(YANG_INSTANCE_IDENTIFIER,
+                            MoreExecutors.directExecutor()),
                         MoreExecutors.listeningDecorator(Executors.newSingleThreadExecutor()));
     }
 
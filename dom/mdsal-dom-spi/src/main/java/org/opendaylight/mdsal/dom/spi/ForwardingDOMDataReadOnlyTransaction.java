@@ -10,6 +10,8 @@ package org.opendaylight.mdsal.dom.spi;
 import com.google.common.base.Optional;
 import com.google.common.collect.ForwardingObject;
 import com.google.common.util.concurrent.CheckedFuture;
+import java.util.Collection;
+import java.util.Map;
 import javax.annotation.Nonnull;
 import org.opendaylight.mdsal.common.api.LogicalDatastoreType;
 import org.opendaylight.mdsal.common.api.ReadFailedException;
@@ -39,6 +41,12 @@ public abstract class ForwardingDOMDataReadOnlyTransaction extends ForwardingObj
         return delegate().exists(store, path);
     }
 
+    @Override
+    public CheckedFuture<Map<YangInstanceIdentifier, Optional<NormalizedNode<?, ?>>>, ReadFailedException> readAll(
+            final LogicalDatastoreType store, final Collection<YangInstanceIdentifier> paths) {
+        return delegate().readAll(store, paths);
+    }
+
     @Override
     public Object getIdentifier() {
         return delegate().getIdentifier();
@@ -9,6 +9,8 @@ package org.opendaylight.mdsal.dom.spi.store;
 
 import com.google.common.base.Optional;
 import com.google.common.util.concurrent.CheckedFuture;
+import java.util.Collection;
+import java.util.Map;
 import org.opendaylight.mdsal.common.api.ReadFailedException;
 import org.opendaylight.yangtools.yang.data.api.YangInstanceIdentifier;
 import org.opendaylight.yangtools.yang.data.api.schema.NormalizedNode;
@@ -55,4 +57,24 @@ public interface DOMStoreReadTransaction extends DOMStoreTransaction {
      *         </ul>
      */
     CheckedFuture<Boolean, ReadFailedException> exists(YangInstanceIdentifier path);
+
+    /**
+     * Reads data located at each of the provided paths. This is semantically equivalent to invoking
+     * {@link #read(YangInstanceIdentifier)} for each path, but allows implementations to resolve all paths against
+     * the same state in one operation.
+     *
+     * <p>
+     * The default implementation issues individual reads and aggregates their results.
+     *
+     * @param paths
+     *            Paths which uniquely identify subtrees which client want to
+     *            read
+     * @return a CheckFuture containing a map of each requested path to the result of its read, in iteration order
+     *         of paths. If the read of any path fails, the Future will fail with a {@link ReadFailedException}
+     *         or an exception derived from ReadFailedException.
+     */
+    default CheckedFuture<Map<YangInstanceIdentifier, Optional<NormalizedNode<?, ?>>>, ReadFailedException> readAll(
+            final Collection<YangInstanceIdentifier> paths) {
+        return ReadAllSupport.readAll(paths, path -> read(path));
+    }
 }
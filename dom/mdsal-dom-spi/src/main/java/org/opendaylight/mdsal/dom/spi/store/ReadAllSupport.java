@@ -0,0 +1,61 @@
+/*
+ * Copyright (c) 2017 Pantheon Technologies, s.r.o. and others.  All rights reserved.
+ *
+ * This program and the accompanying materials are made available under the
+ * terms of the Eclipse Public License v1.0 which accompanies this distribution,
+ * and is available at http://www.eclipse.org/legal/epl-v10.html
+ */
+package org.opendaylight.mdsal.dom.spi.store;
+
+import com.google.common.base.Function;
+import com.google.common.base.Optional;
+import com.google.common.collect.ImmutableMap;
+import com.google.common.collect.ImmutableSet;
+import com.google.common.util.concurrent.CheckedFuture;
+import com.google.common.util.concurrent.Futures;
+import com.google.common.util.concurrent.ListenableFuture;
+import java.util.ArrayList;
+import java.util.Collection;
+import java.util.List;
+import java.util.Map;
+import javax.annotation.Nonnull;
+import org.opendaylight.mdsal.common.api.ReadFailedException;
+
+/**
+ * Implementation of the default {@link DOMStoreReadTransaction#readAll} method on top of single-path reads.
+ */
+final class ReadAllSupport {
+    private ReadAllSupport() {
+        throw new UnsupportedOperationException("Utility class");
+    }
+
+    /**
+     * Read each of the provided paths using specified function and aggregate the results into a single future.
+     * Duplicate paths are read only once.
+     *
+     * @param paths Paths to read
+     * @param read Function issuing a read of a single path
+     * @param <P> path type
+     * @param <D> data type
+     * @return A future map of each path to its read result, in iteration order of paths. It fails with
+     *         a {@link ReadFailedException} if any of the reads fails.
+     */
+    static <P, D> CheckedFuture<Map<P, Optional<D>>, ReadFailedException> readAll(
+            @Nonnull final Collection<P> paths,
+            @Nonnull final Function<? super P, ? extends ListenableFuture<Optional<D>>> read) {
+        final List<P> keys = ImmutableSet.copyOf(paths).asList();
+        final List<ListenableFuture<Optional<D>>> futures = new ArrayList<>(keys.size());
+        for (P path : keys) {
+            futures.add(read.apply(path));
+        }
+
+        final Function<List<Optional<D>>, Map<P, Optional<D>>> toMap = results -> {
+            final ImmutableMap.Builder<P, Optional<D>> builder = ImmutableMap.builder();
+            for (int i = 0; i < keys.size(); ++i) {
+                builder.put(keys.get(i), results.get(i));
+            }
+            return builder.build();
+        };
+        return Futures.makeChecked(Futures.transform(Futures.allAsList(futures), toMap), ReadFailedException.MAPPER);
+    }
+}
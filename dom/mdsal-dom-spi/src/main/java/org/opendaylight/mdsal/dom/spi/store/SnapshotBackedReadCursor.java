@@ -0,0 +1,188 @@
+/*
+ * Copyright (c) 2017 Pantheon Technologies, s.r.o. and others.  All rights reserved.
+ *
+ * This program and the accompanying materials are made available under the
+ * terms of the Eclipse Public License v1.0 which accompanies this distribution,
+ * and is available at http://www.eclipse.org/legal/epl-v10.html
+ */
+package org.opendaylight.mdsal.dom.spi.store;
+
+import com.google.common.annotations.Beta;
+import com.google.common.base.Optional;
+import com.google.common.base.Preconditions;
+import com.google.common.collect.ImmutableList;
+import com.google.common.collect.Iterables;
+import com.google.common.util.concurrent.CheckedFuture;
+import com.google.common.util.concurrent.Futures;
+import java.io.IOException;
+import java.util.ArrayDeque;
+import java.util.Deque;
+import javax.annotation.Nonnull;
+import javax.annotation.Nullable;
+import org.opendaylight.mdsal.common.api.ReadFailedException;
+import org.opendaylight.mdsal.dom.api.DOMDataTreeReadCursor;
+import org.opendaylight.yangtools.yang.data.api.YangInstanceIdentifier;
+import org.opendaylight.yangtools.yang.data.api.YangInstanceIdentifier.PathArgument;
+import org.opendaylight.yangtools.yang.data.api.schema.MapEntryNode;
+import org.opendaylight.yangtools.yang.data.api.schema.MapNode;
+import org.opendaylight.yangtools.yang.data.api.schema.NormalizedNode;
+import org.opendaylight.yangtools.yang.data.api.schema.NormalizedNodeContainer;
+import org.opendaylight.yangtools.yang.data.api.schema.stream.NormalizedNodeStreamWriter;
+import org.opendaylight.yangtools.yang.data.api.schema.stream.NormalizedNodeWriter;
+import org.opendaylight.yangtools.yang.data.api.schema.tree.DataTreeSnapshot;
+
+/**
+ * {@link DOMDataTreeReadCursor} backed by the state of a {@link DataTreeSnapshot}. The cursor walks the snapshot's
+ * immutable nodes in place, hence it never copies data and large subtrees can be navigated, paged through and
+ * streamed using constant memory.
+ */
+@Beta
+public final class SnapshotBackedReadCursor implements DOMDataTreeReadCursor {
+    private final Deque<NormalizedNodeContainer<?, PathArgument, ?>> stack = new ArrayDeque<>();
+
+    private SnapshotBackedReadCursor(final NormalizedNodeContainer<?, PathArgument, ?> root) {
+        stack.push(root);
+    }
+
+    /**
+     * Create a new cursor anchored at specified path of a snapshot.
+     *
+     * @param snapshot Snapshot to read
+     * @param path Path at which the cursor is to be anchored
+     * @return A new cursor, or null if the path does not exist
+     * @throws IllegalArgumentException if the node at specified path is not a {@link NormalizedNodeContainer}
+     */
+    @Nullable
+    public static SnapshotBackedReadCursor create(@Nonnull final DataTreeSnapshot snapshot,
+            @Nonnull final YangInstanceIdentifier path) {
+        return create(snapshot.readNode(path));
+    }
+
+    @SuppressWarnings("unchecked")
+    @Nullable
+    static SnapshotBackedReadCursor create(final Optional<NormalizedNode<?, ?>> node) {
+        if (!node.isPresent()) {
+            return null;
+        }
+        Preconditions.checkArgument(node.get() instanceof NormalizedNodeContainer, "Node %s is not a container",
+            node.get().getIdentifier());
+        return new SnapshotBackedReadCursor((NormalizedNodeContainer<?, PathArgument, ?>) node.get());
+    }
+
+    private NormalizedNodeContainer<?, PathArgument, ?> current() {
+        final NormalizedNodeContainer<?, PathArgument, ?> ret = stack.peek();
+        Preconditions.checkState(ret != null, "Cursor has been closed");
+        return ret;
+    }
+
+    @SuppressWarnings("unchecked")
+    private static Optional<NormalizedNode<?, ?>> childOf(final NormalizedNodeContainer<?, PathArgument, ?> parent,
+            final PathArgument child) {
+        return (Optional<NormalizedNode<?, ?>>) parent.getChild(child);
+    }
+
+    @SuppressWarnings("unchecked")
+    @Override
+    public void enter(@Nonnull final PathArgument child) {
+        final Optional<NormalizedNode<?, ?>> node = childOf(current(), child);
+        Preconditions.checkArgument(node.isPresent(), "Child %s not found", child);
+        Preconditions.checkArgument(node.get() instanceof NormalizedNodeContainer, "Child %s is not a container",
+            child);
+        stack.push((NormalizedNodeContainer<?, PathArgument, ?>) node.get());
+    }
+
+    @Override
+    public void enter(@Nonnull final Iterable<PathArgument> path) {
+        int entered = 0;
+        try {
+            for (PathArgument arg : path) {
+                enter(arg);
+                entered++;
+            }
+        } catch (IllegalArgumentException e) {
+            // Restore the original position, as the operation has to appear atomic
+            for (int i = 0; i < entered; ++i) {
+                stack.pop();
+            }
+            throw e;
+        }
+    }
+
+    @Override
+    public void exit() {
+        exit(1);
+    }
+
+    @Override
+    public void exit(final int depth) {
+        Preconditions.checkArgument(depth >= 0, "Depth must be non-negative, %s supplied", depth);
+        Preconditions.checkState(depth < stack.size(), "Cannot exit %s levels, only %s entered", depth,
+            stack.size() - 1);
+        for (int i = 0; i < depth; ++i) {
+            stack.pop();
+        }
+    }
+
+    @Override
+    public CheckedFuture<Optional<NormalizedNode<?, ?>>, ReadFailedException> readNode(
+            @Nonnull final PathArgument child) {
+        return Futures.immediateCheckedFuture(childOf(current(), child));
+    }
+
+    @Override
+    public CheckedFuture<Boolean, ReadFailedException> exists(@Nonnull final PathArgument child) {
+        return Futures.immediateCheckedFuture(childOf(current(), child).isPresent());
+    }
+
+    /**
+     * Return a bounded range of entries of a list which is a child of the current position. Entries are returned
+     * in the list's iteration order and are not copied, so iterating over the result does not allocate memory
+     * proportional to the size of the list.
+     *
+     * @param child List identifier
+     * @param offset Number of entries to skip
+     * @param limit Maximum number of entries to return
+     * @return Entries in specified range, empty if the list does not exist or the range is beyond its end
+     * @throws IllegalArgumentException if the child is not a list, or if offset or limit are negative
+     */
+    @Nonnull
+    public Iterable<MapEntryNode> readEntries(@Nonnull final PathArgument child, final int offset,
+            final int limit) {
+        Preconditions.checkArgument(offset >= 0, "Offset must be non-negative, %s supplied", offset);
+        Preconditions.checkArgument(limit >= 0, "Limit must be non-negative, %s supplied", limit);
+
+        final Optional<NormalizedNode<?, ?>> node = childOf(current(), child);
+        if (!node.isPresent()) {
+            return ImmutableList.of();
+        }
+        Preconditions.checkArgument(node.get() instanceof MapNode, "Child %s is not a list", child);
+        return Iterables.limit(Iterables.skip(((MapNode) node.get()).getValue(), offset), limit);
+    }
+
+    /**
+     * Emit a child of the current position into a {@link NormalizedNodeStreamWriter}. The child is streamed directly
+     * from the snapshot, without being copied.
+     *
+     * @param child Child identifier
+     * @param writer Writer to receive events
+     * @return True if the child exists and has been streamed, false otherwise
+     * @throws IOException if the writer fails
+     */
+    public boolean streamNode(@Nonnull final PathArgument child, @Nonnull final NormalizedNodeStreamWriter writer)
+            throws IOException {
+        final Optional<NormalizedNode<?, ?>> node = childOf(current(), child);
+        if (!node.isPresent()) {
+            return false;
+        }
+
+        // Do not close the NormalizedNodeWriter, as that would close the user's writer
+        NormalizedNodeWriter.forStreamWriter(writer).write(node.get());
+        writer.flush();
+        return true;
+    }
+
+    @Override
+    public void close() {
+        stack.clear();
+    }
+}
@@ -14,6 +14,10 @@ import com.google.common.base.Optional;
 import com.google.common.base.Preconditions;
 import com.google.common.util.concurrent.CheckedFuture;
 import com.google.common.util.concurrent.Futures;
+import java.util.Collection;
+import java.util.Map;
+import javax.annotation.Nonnull;
+import javax.annotation.Nullable;
 import org.opendaylight.mdsal.common.api.ReadFailedException;
 import org.opendaylight.yangtools.yang.data.api.YangInstanceIdentifier;
 import org.opendaylight.yangtools.yang.data.api.schema.NormalizedNode;
@@ -72,6 +76,42 @@ public final class SnapshotBackedReadTransaction<T> extends
         }
     }
 
+    /**
+     * {@inheritDoc}
+     *
+     * <p>
+     * All paths are resolved against this transaction's snapshot in a single pass, yielding an already-completed
+     * future.
+     */
+    @Override
+    public CheckedFuture<Map<YangInstanceIdentifier, Optional<NormalizedNode<?, ?>>>, ReadFailedException> readAll(
+            final Collection<YangInstanceIdentifier> paths) {
+        LOG.debug("Tx: {} Read: {}", getIdentifier(), paths);
+        checkNotNull(paths, "Paths must not be null.");
+
+        final DataTreeSnapshot snapshot = stableSnapshot;
+        if (snapshot == null) {
+            return Futures.immediateFailedCheckedFuture(new ReadFailedException("Transaction is closed"));
+        }
+
+        return SnapshotBackedTransactions.readAll(this, paths, snapshot::readNode);
+    }
+
+    /**
+     * Create a new read cursor anchored at specified path of this transaction's snapshot.
+     *
+     * @param path Path at which the cursor is to be anchored
+     * @return A new cursor, or null if the path does not exist
+     * @throws IllegalStateException if this transaction is closed
+     */
+    @Nullable
+    public SnapshotBackedReadCursor createCursor(@Nonnull final YangInstanceIdentifier path) {
+        checkNotNull(path, "Path must not be null.");
+        final DataTreeSnapshot snapshot = stableSnapshot;
+        Preconditions.checkState(snapshot != null, "Transaction is closed");
+        return SnapshotBackedReadCursor.create(snapshot, path);
+    }
+
     @Override
     public CheckedFuture<Boolean, ReadFailedException> exists(final YangInstanceIdentifier path) {
         LOG.debug("Tx: {} Exists: {}", getIdentifier(), path);
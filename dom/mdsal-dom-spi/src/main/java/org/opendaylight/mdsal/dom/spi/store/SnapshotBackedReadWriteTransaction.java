@@ -11,8 +11,13 @@ import static com.google.common.base.Preconditions.checkNotNull;
 
 import com.google.common.annotations.Beta;
 import com.google.common.base.Optional;
+import com.google.common.base.Preconditions;
 import com.google.common.util.concurrent.CheckedFuture;
 import com.google.common.util.concurrent.Futures;
+import java.util.Collection;
+import java.util.Map;
+import javax.annotation.Nonnull;
+import javax.annotation.Nullable;
 import org.opendaylight.mdsal.common.api.ReadFailedException;
 import org.opendaylight.mdsal.dom.spi.store.SnapshotBackedWriteTransaction.TransactionReadyPrototype;
 import org.opendaylight.yangtools.yang.data.api.YangInstanceIdentifier;
@@ -59,6 +64,38 @@ public final class SnapshotBackedReadWriteTransaction<T> extends
         }
     }
 
+    /**
+     * {@inheritDoc}
+     *
+     * <p>
+     * All paths are resolved against the state of this transaction in a single pass, yielding an already-completed
+     * future.
+     */
+    @Override
+    public CheckedFuture<Map<YangInstanceIdentifier, Optional<NormalizedNode<?, ?>>>, ReadFailedException> readAll(
+            final Collection<YangInstanceIdentifier> paths) {
+        LOG.debug("Tx: {} Read: {}", getIdentifier(), paths);
+        checkNotNull(paths, "Paths must not be null.");
+
+        return SnapshotBackedTransactions.readAll(this, paths, this::readSnapshotNode);
+    }
+
+    /**
+     * Create a new read cursor anchored at specified path. The cursor observes the state of this transaction,
+     * including its modifications, at the time the cursor was created.
+     *
+     * @param path Path at which the cursor is to be anchored
+     * @return A new cursor, or null if the path does not exist
+     * @throws IllegalStateException if this transaction is ready or closed
+     */
+    @Nullable
+    public SnapshotBackedReadCursor createCursor(@Nonnull final YangInstanceIdentifier path) {
+        checkNotNull(path, "Path must not be null.");
+        final Optional<NormalizedNode<?, ?>> node = readSnapshotNode(path);
+        Preconditions.checkState(node != null, "Transaction is closed");
+        return SnapshotBackedReadCursor.create(node);
+    }
+
     @SuppressWarnings("checkstyle:IllegalCatch")
     @Override
     public CheckedFuture<Boolean, ReadFailedException> exists(final YangInstanceIdentifier path) {
@@ -8,14 +8,29 @@
 package org.opendaylight.mdsal.dom.spi.store;
 
 import com.google.common.annotations.Beta;
+import com.google.common.base.Optional;
+import com.google.common.collect.ImmutableMap;
+import com.google.common.collect.ImmutableSet;
+import com.google.common.util.concurrent.CheckedFuture;
+import com.google.common.util.concurrent.Futures;
+import java.util.Collection;
+import java.util.Map;
+import java.util.function.Function;
+import org.opendaylight.mdsal.common.api.ReadFailedException;
 import org.opendaylight.mdsal.dom.spi.store.SnapshotBackedWriteTransaction.TransactionReadyPrototype;
+import org.opendaylight.yangtools.yang.data.api.YangInstanceIdentifier;
+import org.opendaylight.yangtools.yang.data.api.schema.NormalizedNode;
 import org.opendaylight.yangtools.yang.data.api.schema.tree.DataTreeSnapshot;
+import org.slf4j.Logger;
+import org.slf4j.LoggerFactory;
 
 /**
  * Public utility class for instantiating snapshot-backed transactions.
  */
 @Beta
 public final class SnapshotBackedTransactions {
+    private static final Logger LOG = LoggerFactory.getLogger(SnapshotBackedTransactions.class);
+
     private SnapshotBackedTransactions() {
         throw new UnsupportedOperationException("Utility class");
     }
@@ -56,4 +71,35 @@ public final class SnapshotBackedTransactions {
             final boolean debug, final DataTreeSnapshot snapshot, final TransactionReadyPrototype<T> readyImpl) {
         return new SnapshotBackedWriteTransaction<>(identifier, debug, snapshot, readyImpl);
     }
+
+    /**
+     * Resolve all paths of a multi-path read of a snapshot-backed transaction in a single pass.
+     *
+     * @param tx Transaction performing the read
+     * @param paths Paths to read
+     * @param reader Function reading a single path, returning null if the transaction is closed
+     * @return An already-completed future
+     */
+    @SuppressWarnings("checkstyle:IllegalCatch")
+    static CheckedFuture<Map<YangInstanceIdentifier, Optional<NormalizedNode<?, ?>>>, ReadFailedException> readAll(
+            final AbstractDOMStoreTransaction<?> tx, final Collection<YangInstanceIdentifier> paths,
+            final Function<YangInstanceIdentifier, Optional<NormalizedNode<?, ?>>> reader) {
+        final ImmutableMap.Builder<YangInstanceIdentifier, Optional<NormalizedNode<?, ?>>> builder =
+                ImmutableMap.builder();
+        for (YangInstanceIdentifier path : ImmutableSet.copyOf(paths)) {
+            final Optional<NormalizedNode<?, ?>> result;
+            try {
+                result = reader.apply(path);
+            } catch (Exception e) {
+                LOG.error("Tx: {} Failed Read of {}", tx.getIdentifier(), path, e);
+                return Futures.immediateFailedCheckedFuture(new ReadFailedException("Read failed", e));
+            }
+
+            if (result == null) {
+                return Futures.immediateFailedCheckedFuture(new ReadFailedException("Transaction is closed"));
+            }
+            builder.put(path, result);
+        }
+        return Futures.immediateCheckedFuture(builder.build());
+    }
 }
@@ -0,0 +1,34 @@
+/*
+ * Copyright (c) 2017 Pantheon Technologies, s.r.o. and others.  All rights reserved.
+ *
+ * This program and the accompanying materials are made available under the
+ * terms of the Eclipse Public License v1.0 which accompanies this distribution,
+ * and is available at http://www.eclipse.org/legal/epl-v10.html
+ */
+package org.opendaylight.mdsal.eos.dom.api;
+
+import com.google.common.annotations.Beta;
+import java.util.Collection;
+import javax.annotation.Nonnull;
+
+/**
+ * A {@link DOMEntityOwnershipListener} which can receive multiple ownership changes in a single callback. Services
+ * which support it coalesce changes occurring at the same time, such as those resulting from
+ * {@link DOMEntityOwnershipService#registerCandidates(Collection)} or the initial notification upon listener
+ * registration, into a single invocation of {@link #ownershipChanged(Collection)}.
+ */
+@Beta
+public interface DOMEntityOwnershipBatchListener extends DOMEntityOwnershipListener {
+    /**
+     * A notification that is generated when the ownership status of a number of entities changes. Changes are
+     * reported in the order in which they occurred. The default implementation invokes
+     * {@link #ownershipChanged(DOMEntityOwnershipChange)} for each change.
+     *
+     * @param ownershipChanges the changes in ownership status, guaranteed to be non-empty
+     */
+    default void ownershipChanged(@Nonnull final Collection<DOMEntityOwnershipChange> ownershipChanges) {
+        for (DOMEntityOwnershipChange change : ownershipChanges) {
+            ownershipChanged(change);
+        }
+    }
+}
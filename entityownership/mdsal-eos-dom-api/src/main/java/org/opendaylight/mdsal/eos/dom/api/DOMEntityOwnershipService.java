@@ -9,6 +9,11 @@ package org.opendaylight.mdsal.eos.dom.api;
 
 import com.google.common.annotations.Beta;
 import com.google.common.base.Optional;
+import com.google.common.collect.ImmutableList;
+import com.google.common.collect.ImmutableSet;
+import java.util.ArrayList;
+import java.util.Collection;
+import java.util.List;
 import javax.annotation.Nonnull;
 import org.opendaylight.mdsal.eos.common.api.CandidateAlreadyRegisteredException;
 import org.opendaylight.mdsal.eos.common.api.EntityOwnershipState;
@@ -29,11 +34,62 @@ public interface DOMEntityOwnershipService extends
     DOMEntityOwnershipCandidateRegistration registerCandidate(@Nonnull DOMEntity entity)
             throws CandidateAlreadyRegisteredException;
 
+    /**
+     * Registers a candidate for ownership of each of the given entities. This is equivalent to invoking
+     * {@link #registerCandidate(DOMEntity)} for each entity, except implementations may process the entities
+     * as a single batch and report resulting ownership changes to {@link DOMEntityOwnershipBatchListener}s in
+     * a single notification. Registration is atomic: if it fails for any entity, no candidate is registered.
+     *
+     * <p>
+     * The default implementation registers candidates one by one, unregistering those already registered if
+     * a registration fails.
+     *
+     * @param entities the entities which the Candidate wants to own
+     * @return registration objects, in the iteration order of entities
+     * @throws CandidateAlreadyRegisteredException if a candidate was already registered for any of the entities
+     */
+    default List<DOMEntityOwnershipCandidateRegistration> registerCandidates(
+            @Nonnull final Collection<DOMEntity> entities) throws CandidateAlreadyRegisteredException {
+        final List<DOMEntityOwnershipCandidateRegistration> regs = new ArrayList<>(entities.size());
+        try {
+            for (DOMEntity entity : entities) {
+                regs.add(registerCandidate(entity));
+            }
+        } catch (CandidateAlreadyRegisteredException e) {
+            for (DOMEntityOwnershipCandidateRegistration reg : regs) {
+                reg.close();
+            }
+            throw e;
+        }
+        return ImmutableList.copyOf(regs);
+    }
 
     @Override
     DOMEntityOwnershipListenerRegistration registerListener(@Nonnull String entityType,
             @Nonnull DOMEntityOwnershipListener listener);
 
+    /**
+     * Registers a listener that is interested in ownership changes for entities of each of the given types. This is
+     * equivalent to invoking {@link #registerListener(String, DOMEntityOwnershipListener)} for each distinct type,
+     * except implementations may capture current candidates of all types at once and report them to
+     * a {@link DOMEntityOwnershipBatchListener} in a single initial notification.
+     *
+     * <p>
+     * The default implementation registers the listener for each type one by one.
+     *
+     * @param entityTypes the types of entities to listen to
+     * @param listener the listener that is interested in the entities
+     * @return registration objects, in the iteration order of distinct entity types
+     */
+    default List<DOMEntityOwnershipListenerRegistration> registerListeners(
+            @Nonnull final Collection<String> entityTypes, @Nonnull final DOMEntityOwnershipListener listener) {
+        final ImmutableList.Builder<DOMEntityOwnershipListenerRegistration> regs = ImmutableList.builder();
+        for (String entityType : ImmutableSet.copyOf(entityTypes)) {
+            regs.add(registerListener(entityType, listener));
+        }
+        return regs.build();
+    }
+
 
     @Override
     Optional<EntityOwnershipState> getOwnershipState(@Nonnull DOMEntity forEntity);
@@ -12,22 +12,41 @@ import static org.opendaylight.mdsal.eos.common.api.EntityOwnershipChangeState.L
 
 import com.google.common.annotations.VisibleForTesting;
 import com.google.common.base.MoreObjects;
-import com.google.common.base.MoreObjects.ToStringHelper;
 import com.google.common.base.Optional;
 import com.google.common.base.Preconditions;
-import com.google.common.collect.ArrayListMultimap;
-import com.google.common.collect.HashBasedTable;
 import com.google.common.collect.ImmutableList;
-import com.google.common.collect.Multimap;
-import com.google.common.collect.Table;
+import com.google.common.collect.ImmutableSet;
+import com.google.common.util.concurrent.ThreadFactoryBuilder;
+import java.util.ArrayList;
 import java.util.Collection;
+import java.util.Collections;
+import java.util.Iterator;
+import java.util.LinkedHashMap;
+import java.util.List;
+import java.util.Map;
+import java.util.Map.Entry;
+import java.util.Queue;
+import java.util.Set;
+import java.util.TreeSet;
 import java.util.UUID;
-import javax.annotation.concurrent.GuardedBy;
+import java.util.concurrent.ConcurrentHashMap;
+import java.util.concurrent.ConcurrentLinkedQueue;
+import java.util.concurrent.ConcurrentMap;
+import java.util.concurrent.CopyOnWriteArrayList;
+import java.util.concurrent.Executor;
+import java.util.concurrent.LinkedBlockingQueue;
+import java.util.concurrent.ThreadFactory;
+import java.util.concurrent.ThreadPoolExecutor;
+import java.util.concurrent.TimeUnit;
+import java.util.concurrent.atomic.AtomicBoolean;
+import java.util.concurrent.atomic.AtomicInteger;
+import java.util.stream.Collectors;
+import javax.annotation.Nonnull;
 import org.kohsuke.MetaInfServices;
 import org.opendaylight.mdsal.eos.common.api.CandidateAlreadyRegisteredException;
-import org.opendaylight.mdsal.eos.common.api.EntityOwnershipChangeState;
 import org.opendaylight.mdsal.eos.common.api.EntityOwnershipState;
 import org.opendaylight.mdsal.eos.dom.api.DOMEntity;
+import org.opendaylight.mdsal.eos.dom.api.DOMEntityOwnershipBatchListener;
 import org.opendaylight.mdsal.eos.dom.api.DOMEntityOwnershipCandidateRegistration;
 import org.opendaylight.mdsal.eos.dom.api.DOMEntityOwnershipChange;
 import org.opendaylight.mdsal.eos.dom.api.DOMEntityOwnershipListener;
@@ -42,65 +61,185 @@ import org.slf4j.LoggerFactory;
  * Simple {@link DOMEntityOwnershipService} operating as an isolated island. It has no awareness of the world outside
  * of itself.
  *
+ * <p>
+ * Candidates and listeners are indexed by entity type in concurrent maps, so that operations on different entity
+ * types do not contend with each other. Listeners are kept in copy-on-write lists, which allows notifications to be
+ * delivered without taking a snapshot of the listener set. Updates within a single entity type are serialized on that
+ * type's candidate map, so that a new listener observes each candidate either in its initial state or through
+ * a subsequent notification, but never both.
+ *
+ * <p>
+ * Ownership changes are not delivered on the thread which caused them. Each listener has its own queue of pending
+ * changes, which is drained in order on a shared {@link Executor}, so that a slow listener delays only its own
+ * notifications. Delivery lag of each listener is tracked and can be inspected via {@link #getListenerStats()}.
+ *
  * @author Robert Varga
  */
 @MetaInfServices
 public final class SimpleDOMEntityOwnershipService implements DOMEntityOwnershipService {
     private static final Logger LOG = LoggerFactory.getLogger(SimpleDOMEntityOwnershipService.class);
+    private static final ThreadFactory THREAD_FACTORY = new ThreadFactoryBuilder().setNameFormat(
+            "SimpleDOMEntityOwnershipService-listener-%s").setDaemon(true).build();
+    private static final int DEFAULT_MAX_THREADS = Math.max(2, Runtime.getRuntime().availableProcessors());
+    private static final long DEFAULT_KEEPALIVE_SECONDS = 60;
+    private static final Executor DEFAULT_EXECUTOR = newDefaultExecutor();
 
-    @GuardedBy("entities")
-    private final Table<String, YangInstanceIdentifier, DOMEntity> entities = HashBasedTable.create();
+    private final ConcurrentMap<String, ConcurrentMap<YangInstanceIdentifier, DOMEntity>> entities =
+            new ConcurrentHashMap<>();
 
-    @GuardedBy("listeners")
-    private final Multimap<String, DOMEntityOwnershipListener> listeners = ArrayListMultimap.create(0, 1);
+    private final ConcurrentMap<String, CopyOnWriteArrayList<ListenerRegistration>> listeners =
+            new ConcurrentHashMap<>();
 
+    private final Executor executor;
     private final UUID uuid;
 
     @VisibleForTesting
-    SimpleDOMEntityOwnershipService(final UUID uuid) {
+    SimpleDOMEntityOwnershipService(final UUID uuid, final Executor executor) {
         this.uuid = Preconditions.checkNotNull(uuid);
+        this.executor = Preconditions.checkNotNull(executor);
+    }
+
+    @VisibleForTesting
+    SimpleDOMEntityOwnershipService(final UUID uuid) {
+        this(uuid, DEFAULT_EXECUTOR);
+    }
+
+    /**
+     * Create a new service delivering ownership changes on specified executor.
+     *
+     * @param executor Executor on which listeners are notified
+     */
+    public SimpleDOMEntityOwnershipService(final Executor executor) {
+        this(UUID.randomUUID(), executor);
     }
 
     public SimpleDOMEntityOwnershipService() {
         this(UUID.randomUUID());
     }
 
+    /*
+     * Each listener has at most one delivery task outstanding, hence the queue is bounded by the number of listeners,
+     * while the number of threads is bounded regardless of how many listeners there are. Idle threads are reclaimed.
+     */
+    private static Executor newDefaultExecutor() {
+        final ThreadPoolExecutor ret = new ThreadPoolExecutor(DEFAULT_MAX_THREADS, DEFAULT_MAX_THREADS,
+            DEFAULT_KEEPALIVE_SECONDS, TimeUnit.SECONDS, new LinkedBlockingQueue<>(), THREAD_FACTORY);
+        ret.allowCoreThreadTimeOut(true);
+        return ret;
+    }
+
     @Override
     public DOMEntityOwnershipCandidateRegistration registerCandidate(final DOMEntity entity)
             throws CandidateAlreadyRegisteredException {
-        synchronized (entities) {
-            final DOMEntity prev = entities.get(entity.getType(), entity.getIdentifier());
-            if (prev != null) {
-                throw new CandidateAlreadyRegisteredException(prev);
+        synchronized (entitiesOf(entity.getType())) {
+            addEntity(entity);
+            notifyListeners(entity.getType(), ImmutableList.of(new DOMEntityOwnershipChange(entity,
+                LOCAL_OWNERSHIP_GRANTED)));
+        }
+        return new EntityRegistration(entity);
+    }
+
+    @Override
+    public List<DOMEntityOwnershipCandidateRegistration> registerCandidates(final Collection<DOMEntity> candidates)
+            throws CandidateAlreadyRegisteredException {
+        // Lock all affected types in a consistent order to prevent deadlocks with concurrent bulk registrations
+        final Iterator<String> types = candidates.stream().map(DOMEntity::getType)
+                .collect(Collectors.toCollection(TreeSet::new)).iterator();
+        return registerCandidates(types, candidates);
+    }
+
+    private List<DOMEntityOwnershipCandidateRegistration> registerCandidates(final Iterator<String> types,
+            final Collection<DOMEntity> candidates) throws CandidateAlreadyRegisteredException {
+        if (types.hasNext()) {
+            synchronized (entitiesOf(types.next())) {
+                return registerCandidates(types, candidates);
+            }
+        }
+
+        final List<DOMEntity> added = new ArrayList<>(candidates.size());
+        try {
+            for (DOMEntity entity : candidates) {
+                addEntity(entity);
+                added.add(entity);
+            }
+        } catch (CandidateAlreadyRegisteredException e) {
+            // We are holding the locks of all affected types, hence neither existing nor new listeners have observed
+            // the entities we have added and we can just quietly remove them
+            for (DOMEntity entity : added) {
+                entitiesOf(entity.getType()).remove(entity.getIdentifier(), entity);
             }
+            LOG.debug("{}: rolled back registration of candidates {}", uuid, added);
+            throw e;
+        }
 
-            entities.put(entity.getType(), entity.getIdentifier(), entity);
-            LOG.debug("{}: registered candidate {}", uuid, entity);
+        // Coalesce notifications by entity type, preserving registration order
+        final Map<String, List<DOMEntityOwnershipChange>> changes = new LinkedHashMap<>();
+        final ImmutableList.Builder<DOMEntityOwnershipCandidateRegistration> regs = ImmutableList.builder();
+        for (DOMEntity entity : added) {
+            changes.computeIfAbsent(entity.getType(), k -> new ArrayList<>()).add(
+                new DOMEntityOwnershipChange(entity, LOCAL_OWNERSHIP_GRANTED));
+            regs.add(new EntityRegistration(entity));
+        }
+        for (Entry<String, List<DOMEntityOwnershipChange>> e : changes.entrySet()) {
+            notifyListeners(e.getKey(), e.getValue());
         }
 
-        notifyListeners(entity, LOCAL_OWNERSHIP_GRANTED);
-        return new EntityRegistration(entity);
+        return regs.build();
     }
 
     @Override
     public DOMEntityOwnershipListenerRegistration registerListener(final String entityType,
             final DOMEntityOwnershipListener listener) {
+        synchronized (entitiesOf(entityType)) {
+            return addListener(ImmutableList.of(entityType), listener).get(0);
+        }
+    }
 
-        final Collection<DOMEntity> owned;
-        synchronized (entities) {
-            owned = ImmutableList.copyOf(entities.row(entityType).values());
-            LOG.trace("{}: acquired candidates {} for new listener {}", uuid, owned, listener);
+    @Override
+    public List<DOMEntityOwnershipListenerRegistration> registerListeners(final Collection<String> entityTypes,
+            final DOMEntityOwnershipListener listener) {
+        // Lock all affected types in the same order as registerCandidates() does
+        final Iterator<String> types = new TreeSet<>(entityTypes).iterator();
+        return registerListeners(types, ImmutableSet.copyOf(entityTypes).asList(), listener);
+    }
+
+    private List<DOMEntityOwnershipListenerRegistration> registerListeners(final Iterator<String> types,
+            final List<String> entityTypes, final DOMEntityOwnershipListener listener) {
+        if (types.hasNext()) {
+            synchronized (entitiesOf(types.next())) {
+                return registerListeners(types, entityTypes, listener);
+            }
         }
+        return addListener(entityTypes, listener);
+    }
 
-        synchronized (listeners) {
-            listeners.put(entityType, listener);
+    /*
+     * Register a listener for each of the types, reporting current candidates of all of them in a single notification.
+     * The registrations share a delivery queue, hence that notification is delivered before any subsequent change
+     * of any of the types. Caller must hold the locks of all the types.
+     */
+    private List<DOMEntityOwnershipListenerRegistration> addListener(final List<String> entityTypes,
+            final DOMEntityOwnershipListener listener) {
+        final ListenerQueue queue = new ListenerQueue(listener);
+        final List<DOMEntityOwnershipChange> changes = new ArrayList<>();
+        final ImmutableList.Builder<DOMEntityOwnershipListenerRegistration> regs = ImmutableList.builder();
+        for (String entityType : entityTypes) {
+            final Collection<DOMEntity> owned = entitiesOf(entityType).values();
+            LOG.trace("{}: acquired candidates {} for new listener {}", uuid, owned, listener);
+            for (DOMEntity entity : owned) {
+                changes.add(new DOMEntityOwnershipChange(entity, LOCAL_OWNERSHIP_GRANTED));
+            }
+
+            final ListenerRegistration reg = new ListenerRegistration(entityType, queue);
+            listeners.computeIfAbsent(entityType, k -> new CopyOnWriteArrayList<>()).add(reg);
+            regs.add(reg);
         }
 
-        for (DOMEntity entity : owned) {
-            notifyListener(listener, new DOMEntityOwnershipChange(entity, LOCAL_OWNERSHIP_GRANTED));
+        if (!changes.isEmpty()) {
+            queue.enqueue(changes);
         }
-        LOG.debug("{}: registered listener {}", uuid, listener);
-        return new ListenerRegistration(entityType, listener);
+        LOG.debug("{}: registered listener {} for types {}", uuid, listener, entityTypes);
+        return regs.build();
     }
 
     @Override
@@ -110,63 +249,109 @@ public final class SimpleDOMEntityOwnershipService implements DOMEntityOwnership
 
     @Override
     public boolean isCandidateRegistered(final DOMEntity forEntity) {
-        synchronized (entities) {
-            return entities.contains(forEntity.getType(), forEntity.getIdentifier());
+        final Map<YangInstanceIdentifier, DOMEntity> typeEntities = entities.get(forEntity.getType());
+        return typeEntities != null && typeEntities.containsKey(forEntity.getIdentifier());
+    }
+
+    private ConcurrentMap<YangInstanceIdentifier, DOMEntity> entitiesOf(final String entityType) {
+        return entities.computeIfAbsent(entityType, k -> new ConcurrentHashMap<>());
+    }
+
+    private void addEntity(final DOMEntity entity) throws CandidateAlreadyRegisteredException {
+        final DOMEntity prev = entitiesOf(entity.getType()).putIfAbsent(entity.getIdentifier(), entity);
+        if (prev != null) {
+            throw new CandidateAlreadyRegisteredException(prev);
         }
+        LOG.debug("{}: registered candidate {}", uuid, entity);
     }
 
     private void removeEntity(final DOMEntity entity) {
-        synchronized (entities) {
-            entities.remove(entity.getType(), entity.getIdentifier());
+        final ConcurrentMap<YangInstanceIdentifier, DOMEntity> typeEntities = entitiesOf(entity.getType());
+        synchronized (typeEntities) {
+            typeEntities.remove(entity.getIdentifier(), entity);
             LOG.debug("{}: unregistered candidate {}", uuid, entity);
-        }
 
-        notifyListeners(entity, LOCAL_OWNERSHIP_LOST_NO_OWNER);
+            notifyListeners(entity.getType(), ImmutableList.of(new DOMEntityOwnershipChange(entity,
+                LOCAL_OWNERSHIP_LOST_NO_OWNER)));
+        }
     }
 
     @SuppressWarnings("checkstyle:illegalCatch")
-    private void notifyListener(final DOMEntityOwnershipListener listener, final DOMEntityOwnershipChange change) {
-        try {
-            LOG.trace("{} notifying listener {} change {}", uuid, listener, change);
-            listener.ownershipChanged(change);
-        } catch (RuntimeException e) {
-            LOG.warn("{}: Listener {} change {} failed", uuid, listener, change, e);
+    private void notifyListener(final DOMEntityOwnershipListener listener,
+            final List<DOMEntityOwnershipChange> changes) {
+        if (listener instanceof DOMEntityOwnershipBatchListener) {
+            try {
+                LOG.trace("{} notifying listener {} changes {}", uuid, listener, changes);
+                ((DOMEntityOwnershipBatchListener) listener).ownershipChanged(Collections.unmodifiableList(changes));
+            } catch (RuntimeException e) {
+                LOG.warn("{}: Listener {} changes {} failed", uuid, listener, changes, e);
+            }
+            return;
         }
-    }
-
-    private void notifyListeners(final DOMEntity entity, final EntityOwnershipChangeState state) {
-        final DOMEntityOwnershipChange change = new DOMEntityOwnershipChange(entity, state);
 
-        final Collection<DOMEntityOwnershipListener> snap;
-
-        synchronized (listeners) {
-            snap = ImmutableList.copyOf(listeners.get(entity.getType()));
+        for (DOMEntityOwnershipChange change : changes) {
+            try {
+                LOG.trace("{} notifying listener {} change {}", uuid, listener, change);
+                listener.ownershipChanged(change);
+            } catch (RuntimeException e) {
+                LOG.warn("{}: Listener {} change {} failed", uuid, listener, change, e);
+            }
         }
+    }
 
-        for (DOMEntityOwnershipListener listener : snap) {
-            notifyListener(listener, change);
+    private void notifyListeners(final String entityType, final List<DOMEntityOwnershipChange> changes) {
+        final Collection<ListenerRegistration> typeListeners = listeners.get(entityType);
+        if (typeListeners != null) {
+            // Copy-on-write iteration operates on a stable snapshot
+            for (ListenerRegistration reg : typeListeners) {
+                reg.enqueue(changes);
+            }
         }
     }
 
     void unregisterListener(final ListenerRegistration reg) {
-        synchronized (listeners) {
-            listeners.remove(reg.getEntityType(), reg.getInstance());
-            LOG.debug("{}: unregistered listener {}", uuid, reg.getInstance());
+        final Collection<ListenerRegistration> typeListeners = listeners.get(reg.getEntityType());
+        if (typeListeners != null) {
+            typeListeners.remove(reg);
+        }
+        LOG.debug("{}: unregistered listener {}", uuid, reg.getInstance());
+    }
+
+    /**
+     * Return delivery statistics of all currently-registered listeners.
+     *
+     * @return List of per-listener statistics
+     */
+    @Nonnull
+    public List<ListenerStats> getListenerStats() {
+        final ImmutableList.Builder<ListenerStats> builder = ImmutableList.builder();
+        for (Collection<ListenerRegistration> typeListeners : listeners.values()) {
+            for (ListenerRegistration reg : typeListeners) {
+                builder.add(reg.getStats());
+            }
         }
+        return builder.build();
     }
 
     @Override
     public String toString() {
-        final ToStringHelper h = MoreObjects.toStringHelper(SimpleDOMEntityOwnershipService.class).add("uuid", uuid);
-
-        synchronized (entities) {
-            h.add("entities", entities);
-        }
-        synchronized (listeners) {
-            h.add("listeners", listeners);
-        }
+        // Do not report types which have no entities or listeners
+        final Map<String, Collection<DOMEntity>> entitiesView = new LinkedHashMap<>();
+        entities.forEach((type, map) -> {
+            if (!map.isEmpty()) {
+                entitiesView.put(type, map.values());
+            }
+        });
+        final Map<String, List<DOMEntityOwnershipListener>> listenersView = new LinkedHashMap<>();
+        listeners.forEach((type, list) -> {
+            if (!list.isEmpty()) {
+                listenersView.put(type, list.stream().map(ListenerRegistration::getInstance)
+                    .collect(Collectors.toList()));
+            }
+        });
 
-        return h.toString();
+        return MoreObjects.toStringHelper(SimpleDOMEntityOwnershipService.class).add("uuid", uuid)
+                .add("entities", entitiesView).add("listeners", listenersView).toString();
     }
 
     private final class EntityRegistration extends AbstractObjectRegistration<DOMEntity> implements
@@ -181,13 +366,169 @@ public final class SimpleDOMEntityOwnershipService implements DOMEntityOwnership
         }
     }
 
+    /**
+     * Delivery statistics of a single listener. Lag is measured from the time a change was enqueued to the time
+     * the listener was invoked.
+     */
+    public static final class ListenerStats {
+        private final String entityType;
+        private final DOMEntityOwnershipListener listener;
+        private final int pendingBatches;
+        private final long deliveredChanges;
+        private final long lastLagNanos;
+        private final long maxLagNanos;
+
+        ListenerStats(final String entityType, final DOMEntityOwnershipListener listener, final int pendingBatches,
+                final long deliveredChanges, final long lastLagNanos, final long maxLagNanos) {
+            this.entityType = entityType;
+            this.listener = listener;
+            this.pendingBatches = pendingBatches;
+            this.deliveredChanges = deliveredChanges;
+            this.lastLagNanos = lastLagNanos;
+            this.maxLagNanos = maxLagNanos;
+        }
+
+        public String getEntityType() {
+            return entityType;
+        }
+
+        public DOMEntityOwnershipListener getListener() {
+            return listener;
+        }
+
+        /**
+         * Return the number of notifications enqueued, but not yet delivered to the listener.
+         *
+         * @return Number of pending notifications
+         */
+        public int getPendingBatches() {
+            return pendingBatches;
+        }
+
+        /**
+         * Return the number of ownership changes delivered to the listener.
+         *
+         * @return Number of delivered changes
+         */
+        public long getDeliveredChanges() {
+            return deliveredChanges;
+        }
+
+        public long getLastLagNanos() {
+            return lastLagNanos;
+        }
+
+        public long getMaxLagNanos() {
+            return maxLagNanos;
+        }
+
+        @Override
+        public String toString() {
+            return MoreObjects.toStringHelper(this).add("entityType", entityType).add("listener", listener)
+                    .add("pendingBatches", pendingBatches).add("deliveredChanges", deliveredChanges)
+                    .add("lastLagNanos", lastLagNanos).add("maxLagNanos", maxLagNanos).toString();
+        }
+    }
+
+    private static final class PendingDelivery {
+        final List<DOMEntityOwnershipChange> changes;
+        final long enqueuedNanos;
+
+        PendingDelivery(final List<DOMEntityOwnershipChange> changes) {
+            this.changes = changes;
+            this.enqueuedNanos = System.nanoTime();
+        }
+    }
+
+    /**
+     * Queue of changes pending delivery to a single listener. It is shared by all registrations created together by
+     * {@link SimpleDOMEntityOwnershipService#registerListeners(Collection, DOMEntityOwnershipListener)}, so that
+     * changes of all their types are delivered in order. Changes of types whose registration has been closed are
+     * not delivered.
+     */
+    private final class ListenerQueue {
+        private final Queue<PendingDelivery> pending = new ConcurrentLinkedQueue<>();
+        private final AtomicInteger pendingCount = new AtomicInteger();
+        private final AtomicBoolean scheduled = new AtomicBoolean();
+        private final Set<String> closedTypes = ConcurrentHashMap.newKeySet();
+        private final DOMEntityOwnershipListener listener;
+
+        // Written only by the delivery task, which is guaranteed to run at most once at any given time
+        private volatile long deliveredChanges;
+        private volatile long lastLagNanos;
+        private volatile long maxLagNanos;
+
+        ListenerQueue(final DOMEntityOwnershipListener listener) {
+            this.listener = Preconditions.checkNotNull(listener);
+        }
+
+        void enqueue(final List<DOMEntityOwnershipChange> changes) {
+            pending.add(new PendingDelivery(changes));
+            pendingCount.incrementAndGet();
+            scheduleDelivery();
+        }
+
+        void close(final String entityType) {
+            closedTypes.add(entityType);
+        }
+
+        private void scheduleDelivery() {
+            if (scheduled.compareAndSet(false, true)) {
+                executor.execute(this::deliverChanges);
+            }
+        }
+
+        private void deliverChanges() {
+            PendingDelivery delivery;
+            while ((delivery = pending.poll()) != null) {
+                pendingCount.decrementAndGet();
+                final List<DOMEntityOwnershipChange> changes = openChanges(delivery.changes);
+                if (changes.isEmpty()) {
+                    continue;
+                }
+
+                final long lag = System.nanoTime() - delivery.enqueuedNanos;
+                lastLagNanos = lag;
+                if (lag > maxLagNanos) {
+                    maxLagNanos = lag;
+                }
+
+                notifyListener(listener, changes);
+                deliveredChanges += changes.size();
+            }
+
+            // Changes enqueued after our last poll but before the flag is cleared need to be picked up by a new task
+            scheduled.set(false);
+            if (!pending.isEmpty()) {
+                scheduleDelivery();
+            }
+        }
+
+        private List<DOMEntityOwnershipChange> openChanges(final List<DOMEntityOwnershipChange> changes) {
+            if (closedTypes.isEmpty()) {
+                return changes;
+            }
+            return changes.stream().filter(change -> !closedTypes.contains(change.getEntity().getType()))
+                    .collect(Collectors.toList());
+        }
+
+        ListenerStats getStats(final String entityType) {
+            return new ListenerStats(entityType, listener, pendingCount.get(), deliveredChanges, lastLagNanos,
+                maxLagNanos);
+        }
+    }
+
     private final class ListenerRegistration extends AbstractObjectRegistration<DOMEntityOwnershipListener>
             implements DOMEntityOwnershipListenerRegistration {
+        private final ListenerQueue queue;
         private final String entityType;
 
-        ListenerRegistration(final String entityType, final DOMEntityOwnershipListener listener) {
-            super(listener);
+        private volatile boolean closed;
+
+        ListenerRegistration(final String entityType, final ListenerQueue queue) {
+            super(queue.listener);
             this.entityType = Preconditions.checkNotNull(entityType);
+            this.queue = queue;
         }
 
         @Override
@@ -195,8 +536,20 @@ public final class SimpleDOMEntityOwnershipService implements DOMEntityOwnership
             return entityType;
         }
 
+        void enqueue(final List<DOMEntityOwnershipChange> changes) {
+            if (!closed) {
+                queue.enqueue(changes);
+            }
+        }
+
+        ListenerStats getStats() {
+            return queue.getStats(entityType);
+        }
+
         @Override
         protected void removeRegistration() {
+            closed = true;
+            queue.close(entityType);
             unregisterListener(this);
         }
     }
@@ -11,15 +11,25 @@ import static org.junit.Assert.assertEquals;
 import static org.junit.Assert.assertFalse;
 import static org.junit.Assert.assertNotNull;
 import static org.junit.Assert.assertTrue;
+import static org.junit.Assert.fail;
 import static org.mockito.Matchers.any;
+import static org.mockito.Mockito.doAnswer;
 import static org.mockito.Mockito.doNothing;
 import static org.mockito.Mockito.mock;
+import static org.mockito.Mockito.never;
 import static org.mockito.Mockito.reset;
+import static org.mockito.Mockito.timeout;
 import static org.mockito.Mockito.verify;
 import static org.mockito.Mockito.verifyZeroInteractions;
 
 import com.google.common.base.Optional;
+import com.google.common.collect.ImmutableList;
+import com.google.common.util.concurrent.MoreExecutors;
+import java.util.Collection;
+import java.util.List;
 import java.util.UUID;
+import java.util.concurrent.CountDownLatch;
+import java.util.concurrent.TimeUnit;
 import org.junit.Before;
 import org.junit.Test;
 import org.mockito.ArgumentCaptor;
@@ -27,6 +37,7 @@ import org.opendaylight.mdsal.eos.common.api.CandidateAlreadyRegisteredException
 import org.opendaylight.mdsal.eos.common.api.EntityOwnershipChangeState;
 import org.opendaylight.mdsal.eos.common.api.EntityOwnershipState;
 import org.opendaylight.mdsal.eos.dom.api.DOMEntity;
+import org.opendaylight.mdsal.eos.dom.api.DOMEntityOwnershipBatchListener;
 import org.opendaylight.mdsal.eos.dom.api.DOMEntityOwnershipCandidateRegistration;
 import org.opendaylight.mdsal.eos.dom.api.DOMEntityOwnershipChange;
 import org.opendaylight.mdsal.eos.dom.api.DOMEntityOwnershipListener;
@@ -39,12 +50,13 @@ public class SimpleDOMEntityOwnershipServiceTest {
 
     private static final DOMEntity FOO_FOO_ENTITY = new DOMEntity(FOO_TYPE, "foo");
     private static final DOMEntity FOO_BAR_ENTITY = new DOMEntity(FOO_TYPE, "bar");
+    private static final DOMEntity BAR_FOO_ENTITY = new DOMEntity(BAR_TYPE, "foo");
 
     private DOMEntityOwnershipService service;
 
     @Before
     public void setUp() {
-        service = new SimpleDOMEntityOwnershipService();
+        service = new SimpleDOMEntityOwnershipService(MoreExecutors.directExecutor());
     }
 
     @Test
@@ -117,6 +129,174 @@ public class SimpleDOMEntityOwnershipServiceTest {
         barReg.close();
     }
 
+    @SuppressWarnings({ "unchecked", "rawtypes" })
+    @Test
+    public void testBulkRegistration() throws CandidateAlreadyRegisteredException {
+        final DOMEntityOwnershipBatchListener fooListener = mock(DOMEntityOwnershipBatchListener.class);
+        doNothing().when(fooListener).ownershipChanged(any(Collection.class));
+        final DOMEntityOwnershipListenerRegistration fooReg = service.registerListener(FOO_TYPE, fooListener);
+        verifyZeroInteractions(fooListener);
+
+        final List<DOMEntityOwnershipCandidateRegistration> regs = service.registerCandidates(
+            ImmutableList.of(FOO_FOO_ENTITY, BAR_FOO_ENTITY, FOO_BAR_ENTITY));
+        assertEquals(3, regs.size());
+        assertTrue(service.isCandidateRegistered(FOO_FOO_ENTITY));
+        assertTrue(service.isCandidateRegistered(FOO_BAR_ENTITY));
+        assertTrue(service.isCandidateRegistered(BAR_FOO_ENTITY));
+
+        // Both foo entities should be reported in a single batch, in registration order
+        final ArgumentCaptor<Collection> captor = ArgumentCaptor.forClass(Collection.class);
+        verify(fooListener).ownershipChanged(captor.capture());
+        verify(fooListener, never()).ownershipChanged(any(DOMEntityOwnershipChange.class));
+        final List<DOMEntityOwnershipChange> changes = ImmutableList.copyOf(
+            (Collection<DOMEntityOwnershipChange>) captor.getValue());
+        assertEquals(2, changes.size());
+        assertEquals(FOO_FOO_ENTITY, changes.get(0).getEntity());
+        assertEquals(FOO_BAR_ENTITY, changes.get(1).getEntity());
+        assertEquals(EntityOwnershipChangeState.LOCAL_OWNERSHIP_GRANTED, changes.get(0).getState());
+
+        // A new listener should receive current state as a single batch, too
+        final DOMEntityOwnershipBatchListener otherListener = mock(DOMEntityOwnershipBatchListener.class);
+        doNothing().when(otherListener).ownershipChanged(any(Collection.class));
+        final DOMEntityOwnershipListenerRegistration otherReg = service.registerListener(FOO_TYPE, otherListener);
+        verify(otherListener).ownershipChanged(captor.capture());
+        assertEquals(2, captor.getValue().size());
+
+        for (DOMEntityOwnershipCandidateRegistration reg : regs) {
+            reg.close();
+        }
+        assertFalse(service.isCandidateRegistered(FOO_FOO_ENTITY));
+        assertFalse(service.isCandidateRegistered(BAR_FOO_ENTITY));
+
+        fooReg.close();
+        otherReg.close();
+    }
+
+    @Test
+    public void testBulkRegistrationConflict() throws CandidateAlreadyRegisteredException {
+        final DOMEntityOwnershipCandidateRegistration reg = service.registerCandidate(FOO_BAR_ENTITY);
+
+        final DOMEntityOwnershipListener fooListener = mock(DOMEntityOwnershipListener.class);
+        final DOMEntityOwnershipListenerRegistration fooReg = service.registerListener(FOO_TYPE, fooListener);
+        reset(fooListener);
+
+        try {
+            service.registerCandidates(ImmutableList.of(FOO_FOO_ENTITY, FOO_BAR_ENTITY));
+            fail("Registration should have failed");
+        } catch (CandidateAlreadyRegisteredException e) {
+            assertEquals(FOO_BAR_ENTITY, e.getEntity());
+        }
+
+        // The registration should have been rolled back without any notifications
+        assertFalse(service.isCandidateRegistered(FOO_FOO_ENTITY));
+        assertTrue(service.isCandidateRegistered(FOO_BAR_ENTITY));
+        verifyZeroInteractions(fooListener);
+
+        fooReg.close();
+        reg.close();
+    }
+
+    @SuppressWarnings({ "unchecked", "rawtypes" })
+    @Test
+    public void testBulkListenerRegistration() throws CandidateAlreadyRegisteredException {
+        final List<DOMEntityOwnershipCandidateRegistration> candidateRegs = service.registerCandidates(
+            ImmutableList.of(FOO_FOO_ENTITY, BAR_FOO_ENTITY));
+
+        // Current candidates of both types should be reported in a single batch
+        final DOMEntityOwnershipBatchListener listener = mock(DOMEntityOwnershipBatchListener.class);
+        doNothing().when(listener).ownershipChanged(any(Collection.class));
+        final List<DOMEntityOwnershipListenerRegistration> regs = service.registerListeners(
+            ImmutableList.of(FOO_TYPE, BAR_TYPE, FOO_TYPE), listener);
+        assertEquals(2, regs.size());
+        assertEquals(FOO_TYPE, regs.get(0).getEntityType());
+        assertEquals(BAR_TYPE, regs.get(1).getEntityType());
+
+        final ArgumentCaptor<Collection> captor = ArgumentCaptor.forClass(Collection.class);
+        verify(listener).ownershipChanged(captor.capture());
+        final List<DOMEntityOwnershipChange> changes = ImmutableList.copyOf(
+            (Collection<DOMEntityOwnershipChange>) captor.getValue());
+        assertEquals(2, changes.size());
+        assertEquals(FOO_FOO_ENTITY, changes.get(0).getEntity());
+        assertEquals(BAR_FOO_ENTITY, changes.get(1).getEntity());
+
+        // Closing one registration should not affect the other type
+        regs.get(1).close();
+        reset(listener);
+        doNothing().when(listener).ownershipChanged(any(Collection.class));
+        candidateRegs.get(1).close();
+        verifyZeroInteractions(listener);
+
+        candidateRegs.get(0).close();
+        verify(listener).ownershipChanged(captor.capture());
+        final DOMEntityOwnershipChange change = (DOMEntityOwnershipChange) captor.getValue().iterator().next();
+        assertEquals(FOO_FOO_ENTITY, change.getEntity());
+        assertEquals(EntityOwnershipChangeState.LOCAL_OWNERSHIP_LOST_NO_OWNER, change.getState());
+
+        regs.get(0).close();
+    }
+
+    @Test
+    public void testAsyncDelivery() throws Exception {
+        final SimpleDOMEntityOwnershipService asyncService = new SimpleDOMEntityOwnershipService();
+
+        // A listener which blocks until released
+        final CountDownLatch release = new CountDownLatch(1);
+        final DOMEntityOwnershipListener slowListener = mock(DOMEntityOwnershipListener.class);
+        doAnswer(invocation -> {
+            release.await(5, TimeUnit.SECONDS);
+            return null;
+        }).when(slowListener).ownershipChanged(any(DOMEntityOwnershipChange.class));
+        final DOMEntityOwnershipListenerRegistration slowReg = asyncService.registerListener(FOO_TYPE, slowListener);
+
+        final DOMEntityOwnershipListener fastListener = mock(DOMEntityOwnershipListener.class);
+        final DOMEntityOwnershipListenerRegistration fastReg = asyncService.registerListener(FOO_TYPE, fastListener);
+
+        // Registration must not wait for the slow listener, nor should the fast listener
+        final DOMEntityOwnershipCandidateRegistration reg = asyncService.registerCandidate(FOO_FOO_ENTITY);
+        reg.close();
+        verify(fastListener, timeout(5000).times(2)).ownershipChanged(any(DOMEntityOwnershipChange.class));
+
+        // The slow listener is stuck in the first change, the second one is still pending
+        verify(slowListener, timeout(5000)).ownershipChanged(any(DOMEntityOwnershipChange.class));
+        final SimpleDOMEntityOwnershipService.ListenerStats slowStats = statsOf(asyncService, slowListener);
+        assertEquals(1, slowStats.getPendingBatches());
+        assertEquals(0, slowStats.getDeliveredChanges());
+
+        // The slow listener should observe changes in order once released
+        release.countDown();
+        final ArgumentCaptor<DOMEntityOwnershipChange> captor = ArgumentCaptor.forClass(
+            DOMEntityOwnershipChange.class);
+        verify(slowListener, timeout(5000).times(2)).ownershipChanged(captor.capture());
+        assertEquals(EntityOwnershipChangeState.LOCAL_OWNERSHIP_GRANTED, captor.getAllValues().get(0).getState());
+        assertEquals(EntityOwnershipChangeState.LOCAL_OWNERSHIP_LOST_NO_OWNER,
+            captor.getAllValues().get(1).getState());
+
+        // Statistics are updated once the listener returns, hence they may lag behind the invocations we have seen
+        final long deadline = System.nanoTime() + TimeUnit.SECONDS.toNanos(5);
+        while (!asyncService.getListenerStats().stream().allMatch(stat -> stat.getDeliveredChanges() == 2)) {
+            assertTrue("Timed out waiting for delivery statistics", System.nanoTime() < deadline);
+            Thread.sleep(10);
+        }
+
+        final List<SimpleDOMEntityOwnershipService.ListenerStats> stats = asyncService.getListenerStats();
+        assertEquals(2, stats.size());
+        for (SimpleDOMEntityOwnershipService.ListenerStats stat : stats) {
+            assertEquals(FOO_TYPE, stat.getEntityType());
+            assertEquals(0, stat.getPendingBatches());
+            assertEquals(2, stat.getDeliveredChanges());
+            assertTrue(stat.getMaxLagNanos() >= stat.getLastLagNanos());
+        }
+
+        slowReg.close();
+        fastReg.close();
+        assertTrue(asyncService.getListenerStats().isEmpty());
+    }
+
+    private static SimpleDOMEntityOwnershipService.ListenerStats statsOf(final SimpleDOMEntityOwnershipService service,
+            final DOMEntityOwnershipListener listener) {
+        return service.getListenerStats().stream().filter(stat -> stat.getListener() == listener).findFirst().get();
+    }
+
     @Test
     public void testToString() throws CandidateAlreadyRegisteredException {
         final UUID uuid = UUID.randomUUID();
@@ -13,10 +13,12 @@ import com.google.common.base.Strings;
 import com.google.common.util.concurrent.FutureCallback;
 import com.google.common.util.concurrent.Futures;
 import com.google.common.util.concurrent.ListenableFuture;
+import com.google.common.util.concurrent.MoreExecutors;
 import java.util.ArrayList;
 import java.util.List;
 import java.util.concurrent.ConcurrentHashMap;
 import java.util.concurrent.ConcurrentMap;
+import java.util.concurrent.Executor;
 import javax.annotation.CheckForNull;
 import javax.annotation.Nonnull;
 import javax.annotation.Nullable;
@@ -59,6 +61,7 @@ public abstract class AbstractClusterSingletonServiceProviderImpl<P extends Path
     private static final String CLOSE_SERVICE_ENTITY_TYPE = "org.opendaylight.mdsal.AsyncServiceCloseEntityType";
 
     private final S entityOwnershipService;
+    private final Executor executor;
     private final ConcurrentMap<String, ClusterSingletonServiceGroup<P, E, C>> serviceGroupMap =
             new ConcurrentHashMap<>();
 
@@ -72,7 +75,21 @@ public abstract class AbstractClusterSingletonServiceProviderImpl<P extends Path
      * @param entityOwnershipService relevant EOS
      */
     protected AbstractClusterSingletonServiceProviderImpl(@Nonnull final S entityOwnershipService) {
+        this(entityOwnershipService, MoreExecutors.directExecutor());
+    }
+
+    /**
+     * Class constructor.
+     *
+     * @param entityOwnershipService relevant EOS
+     * @param executor Executor on which {@link ClusterSingletonServiceGroup}s process ownership changes, service
+     *        instantiation and service closing. A small bounded pool allows groups to fail over in parallel without
+     *        tying up EOS notification threads.
+     */
+    protected AbstractClusterSingletonServiceProviderImpl(@Nonnull final S entityOwnershipService,
+            @Nonnull final Executor executor) {
         this.entityOwnershipService = Preconditions.checkNotNull(entityOwnershipService);
+        this.executor = Preconditions.checkNotNull(executor);
     }
 
     /**
@@ -100,7 +117,7 @@ public abstract class AbstractClusterSingletonServiceProviderImpl<P extends Path
             final E mainEntity = createEntity(SERVICE_ENTITY_TYPE, serviceIdentifier);
             final E closeEntity = createEntity(CLOSE_SERVICE_ENTITY_TYPE, serviceIdentifier);
             serviceGroup = new ClusterSingletonServiceGroupImpl<>(serviceIdentifier,
-                    mainEntity, closeEntity, entityOwnershipService, serviceGroupMap);
+                    mainEntity, closeEntity, entityOwnershipService, serviceGroupMap, executor);
             serviceGroupMap.put(service.getIdentifier().getValue(), serviceGroup);
             serviceGroup.initializationClusterSingletonGroup();
         }
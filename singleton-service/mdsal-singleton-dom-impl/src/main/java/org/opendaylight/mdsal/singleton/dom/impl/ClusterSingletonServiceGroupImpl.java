@@ -15,15 +15,21 @@ import com.google.common.base.Verify;
 import com.google.common.util.concurrent.FutureCallback;
 import com.google.common.util.concurrent.Futures;
 import com.google.common.util.concurrent.ListenableFuture;
+import com.google.common.util.concurrent.MoreExecutors;
+import com.google.common.util.concurrent.SettableFuture;
+import com.google.common.util.concurrent.Uninterruptibles;
 import java.util.ArrayList;
 import java.util.LinkedList;
 import java.util.List;
+import java.util.Queue;
+import java.util.concurrent.ConcurrentLinkedQueue;
 import java.util.concurrent.ConcurrentMap;
-import java.util.concurrent.Semaphore;
+import java.util.concurrent.CountDownLatch;
+import java.util.concurrent.ExecutionException;
+import java.util.concurrent.Executor;
 import java.util.concurrent.TimeUnit;
-import java.util.function.Consumer;
+import java.util.concurrent.atomic.AtomicBoolean;
 import javax.annotation.Nullable;
-import javax.annotation.concurrent.GuardedBy;
 import org.opendaylight.mdsal.eos.common.api.CandidateAlreadyRegisteredException;
 import org.opendaylight.mdsal.eos.common.api.EntityOwnershipChangeState;
 import org.opendaylight.mdsal.eos.common.api.GenericEntity;
@@ -40,6 +46,19 @@ import org.slf4j.LoggerFactory;
 /**
  * Implementation of {@link ClusterSingletonServiceGroup}.
  *
+ *<p>
+ * Service registration, unregistration and ownership changes are not processed by the calling thread directly, but
+ * are queued as events. Events are processed one at a time, in order, on the group's executor. Once an event
+ * initiates asynchronous closing of services, processing is suspended until the services have closed. EOS
+ * notification threads therefore never block on a group which is in the middle of a transition. When the executor
+ * is shared by multiple groups, transitions of different groups proceed in parallel, bounded by the executor's
+ * capacity.
+ *
+ *<p>
+ * Service registration waits for its event to be processed, so that a failure to instantiate the service is reported
+ * to the caller. Group close waits at most one second for pending events to be processed and then closes
+ * the group forcibly.
+ *
  * @param <P> the instance identifier path type
  * @param <E> the GenericEntity type
  * @param <C> the GenericEntityOwnershipChange type
@@ -53,11 +72,31 @@ final class ClusterSingletonServiceGroupImpl<P extends Path<P>, E extends Generi
                                              S extends GenericEntityOwnershipService<P, E, G>>
         implements ClusterSingletonServiceGroup<P, E, C> {
 
+    /**
+     * An event queued for processing.
+     */
+    @FunctionalInterface
+    private interface GroupEvent {
+        /**
+         * Process this event.
+         *
+         * @return Future which has to complete before next event is processed, or null if the event has been
+         *         processed completely.
+         */
+        @Nullable
+        ListenableFuture<?> process();
+    }
+
     private static final Logger LOG = LoggerFactory.getLogger(ClusterSingletonServiceGroupImpl.class.getName());
+    private static final long CLOSE_WAIT_SECONDS = 1;
 
     private final S entityOwnershipService;
     private final String clusterSingletonGroupIdentifier;
-    private final Semaphore clusterLock = new Semaphore(1, true);
+    private final Executor executor;
+
+    /* Event queue, processed by at most one thread at a time, as indicated by processingEvents */
+    private final Queue<GroupEvent> pendingEvents = new ConcurrentLinkedQueue<>();
+    private final AtomicBoolean processingEvents = new AtomicBoolean();
 
     /* Entity instances */
     private final E serviceEntity;
@@ -69,14 +108,13 @@ final class ClusterSingletonServiceGroupImpl<P extends Path<P>, E extends Generi
     // TRY_TO_TAKE_LEADERSHIP : guardCandidate is registered correctly
     // LEADER : both candidate have mastership from EOS
     // TERMINATED : service go down
-    @GuardedBy("clusterLock")
+    // Fields below are accessed only while processing events
     private boolean hasOwnership = false;
-    @GuardedBy("clusterLock")
     private final List<ClusterSingletonServiceRegistrationDelegator> serviceGroup = new LinkedList<>();
     private final ConcurrentMap<String, ClusterSingletonServiceGroup<P, E, C>> allServiceGroups;
 
     /* EOS Candidate Registrations */
-    private GenericEntityOwnershipCandidateRegistration<P, E> serviceEntityCandidateReg;
+    private volatile GenericEntityOwnershipCandidateRegistration<P, E> serviceEntityCandidateReg;
     private GenericEntityOwnershipCandidateRegistration<P, E> asyncCloseEntityCandidateReg;
 
     /**
@@ -91,6 +129,24 @@ final class ClusterSingletonServiceGroupImpl<P extends Path<P>, E extends Generi
     ClusterSingletonServiceGroupImpl(final String clusterSingletonServiceGroupIdentifier, final E mainEntity,
             final E closeEntity, final S entityOwnershipService,
             final ConcurrentMap<String, ClusterSingletonServiceGroup<P, E, C>> allServiceGroups) {
+        this(clusterSingletonServiceGroupIdentifier, mainEntity, closeEntity, entityOwnershipService,
+            allServiceGroups, MoreExecutors.directExecutor());
+    }
+
+    /**
+     * Class constructor.
+     *
+     * @param clusterSingletonServiceGroupIdentifier not empty string as identifier
+     * @param mainEntity as Entity instance
+     * @param closeEntity as Entity instance
+     * @param entityOwnershipService GenericEntityOwnershipService instance
+     * @param allServiceGroups concurrentMap of String and ClusterSingletonServiceGroup type
+     * @param executor Executor on which group events are processed
+     */
+    ClusterSingletonServiceGroupImpl(final String clusterSingletonServiceGroupIdentifier, final E mainEntity,
+            final E closeEntity, final S entityOwnershipService,
+            final ConcurrentMap<String, ClusterSingletonServiceGroup<P, E, C>> allServiceGroups,
+            final Executor executor) {
         LOG.debug("New Instance of ClusterSingletonServiceGroup {}", clusterSingletonServiceGroupIdentifier);
         Preconditions.checkArgument(!Strings.isNullOrEmpty(clusterSingletonServiceGroupIdentifier));
         this.clusterSingletonGroupIdentifier = clusterSingletonServiceGroupIdentifier;
@@ -98,62 +154,81 @@ final class ClusterSingletonServiceGroupImpl<P extends Path<P>, E extends Generi
         this.serviceEntity = Preconditions.checkNotNull(mainEntity);
         this.doubleCandidateEntity = Preconditions.checkNotNull(closeEntity);
         this.allServiceGroups = Preconditions.checkNotNull(allServiceGroups);
+        this.executor = Preconditions.checkNotNull(executor);
     }
 
-    @SuppressWarnings("checkstyle:IllegalCatch")
     @Override
     public ListenableFuture<List<Void>> closeClusterSingletonGroup() {
         LOG.debug("Close method for service Provider {}", clusterSingletonGroupIdentifier);
-        boolean needReleaseLock = false;
-        final ListenableFuture<List<Void>> destroyFuture;
+        final SettableFuture<List<Void>> ret = SettableFuture.create();
+        final AtomicBoolean closeStarted = new AtomicBoolean();
+        final CountDownLatch closeProcessed = new CountDownLatch(1);
+        enqueueEvent(() -> {
+            if (!closeStarted.compareAndSet(false, true)) {
+                LOG.debug("Service Provider {} has already been closed forcibly", clusterSingletonGroupIdentifier);
+                return null;
+            }
+            closeProcessed.countDown();
+            return closeGroup(ret);
+        });
+
+        boolean processed = false;
         try {
-            needReleaseLock = clusterLock.tryAcquire(1, TimeUnit.SECONDS);
-        } catch (final Exception e) {
+            processed = closeProcessed.await(CLOSE_WAIT_SECONDS, TimeUnit.SECONDS);
+        } catch (final InterruptedException e) {
             LOG.warn("Unexpected Exception for service Provider {} in closing phase.", clusterSingletonGroupIdentifier,
                     e);
-        } finally {
-            if (serviceEntityCandidateReg != null) {
-                serviceEntityCandidateReg.close();
-                serviceEntityCandidateReg = null;
+        }
+        if (!processed && closeStarted.compareAndSet(false, true)) {
+            LOG.warn("Service Provider {} did not process close within {} second(s), closing it forcibly",
+                    clusterSingletonGroupIdentifier, CLOSE_WAIT_SECONDS);
+            closeGroup(ret);
+        }
+        return ret;
+    }
+
+    /*
+     * Help method closing the main candidate registration and all services, reporting the outcome via specified
+     * future. Returns a future which completes once the guard candidate has been released.
+     */
+    private ListenableFuture<?> closeGroup(final SettableFuture<List<Void>> ret) {
+        if (serviceEntityCandidateReg != null) {
+            serviceEntityCandidateReg.close();
+            serviceEntityCandidateReg = null;
+        }
+
+        final ListenableFuture<List<Void>> destroyFuture = Futures.allAsList(closeServices());
+        Futures.addCallback(destroyFuture, new FutureCallback<List<Void>>() {
+            @Override
+            public void onSuccess(final List<Void> result) {
+                ret.set(result);
             }
-            final List<ListenableFuture<Void>> serviceCloseFutureList = new ArrayList<>();
-            if (hasOwnership) {
-                for (final ClusterSingletonServiceRegistrationDelegator service : serviceGroup) {
-                    try {
-                        serviceCloseFutureList.add(service.closeServiceInstance());
-                    } catch (final RuntimeException e) {
-                        LOG.warn("Unexpected exception while closing service: {}, resuming with next..",
-                                service.getIdentifier());
-                    }
-                }
-                hasOwnership = false;
+
+            @Override
+            public void onFailure(final Throwable throwable) {
+                ret.setException(throwable);
             }
-            destroyFuture = Futures.allAsList(serviceCloseFutureList);
-            final Semaphore finalRelease = needReleaseLock ? clusterLock : null;
-            Futures.addCallback(destroyFuture, newAsyncCloseCallback(finalRelease, true));
-        }
-        return destroyFuture;
+        });
+        return finishServiceClose(destroyFuture, true);
     }
 
     @SuppressWarnings("checkstyle:IllegalCatch")
     @Override
     public void initializationClusterSingletonGroup() {
         LOG.debug("Initialization ClusterSingletonGroup {}", clusterSingletonGroupIdentifier);
-        boolean needReleaseLock = false;
-        boolean needCloseProviderInstance = false;
+        // The group has just been created, hence no events can have been processed yet
+        Verify.verify(processingEvents.compareAndSet(false, true));
         try {
-            clusterLock.acquire();
-            needReleaseLock = true;
             Verify.verify(serviceGroup.isEmpty());
             Verify.verify(!hasOwnership);
             Verify.verify(serviceEntityCandidateReg == null);
             serviceEntityCandidateReg = entityOwnershipService.registerCandidate(serviceEntity);
-        } catch (final RuntimeException | InterruptedException | CandidateAlreadyRegisteredException e) {
+        } catch (final RuntimeException | CandidateAlreadyRegisteredException e) {
             LOG.debug("Unexpected error by registration service Provider {}", clusterSingletonGroupIdentifier, e);
-            needCloseProviderInstance = true;
+            closeResources();
             throw new RuntimeException(e);
         } finally {
-            closeResources(needReleaseLock, needCloseProviderInstance);
+            finishEvents();
         }
     }
 
@@ -162,38 +237,40 @@ final class ClusterSingletonServiceGroupImpl<P extends Path<P>, E extends Generi
     public ClusterSingletonServiceRegistration registerService(final ClusterSingletonService service) {
         LOG.debug("RegisterService method call for ClusterSingletonServiceGroup {}", clusterSingletonGroupIdentifier);
         Verify.verify(clusterSingletonGroupIdentifier.equals(service.getIdentifier().getValue()));
-        boolean needReleaseLock = false;
-        boolean needCloseProviderInstance = false;
-        ClusterSingletonServiceRegistrationDelegator reg = null;
-        try {
-            clusterLock.acquire();
-            needReleaseLock = true;
-            Verify.verify(serviceEntityCandidateReg != null);
-            reg = new ClusterSingletonServiceRegistrationDelegator(service, this);
-            serviceGroup.add(reg);
-            if (hasOwnership) {
-                service.instantiateServiceInstance();
+
+        final ClusterSingletonServiceRegistrationDelegator reg =
+                new ClusterSingletonServiceRegistrationDelegator(service, this);
+        final SettableFuture<Void> registered = SettableFuture.create();
+        enqueueEvent(() -> {
+            try {
+                Verify.verify(serviceEntityCandidateReg != null, "ClusterSingletonServiceGroup %s is not running",
+                    clusterSingletonGroupIdentifier);
+                serviceGroup.add(reg);
+                if (hasOwnership) {
+                    instantiateService(reg);
+                }
+                registered.set(null);
+            } catch (final RuntimeException e) {
+                LOG.debug("Unexpected error by registration service Provider {}", clusterSingletonGroupIdentifier, e);
+                closeResources();
+                registered.setException(e);
             }
-        } catch (final RuntimeException | InterruptedException e) {
-            LOG.debug("Unexpected error by registration service Provider {}", clusterSingletonGroupIdentifier, e);
-            needCloseProviderInstance = true;
-            throw new RuntimeException(e);
-        } finally {
-            closeResources(needReleaseLock, needCloseProviderInstance);
+            return null;
+        });
+
+        try {
+            Uninterruptibles.getUninterruptibly(registered);
+        } catch (final ExecutionException e) {
+            throw new RuntimeException(e.getCause());
         }
         return reg;
     }
 
-    @SuppressWarnings("checkstyle:IllegalCatch")
     @Override
     public void unregisterService(final ClusterSingletonService service) {
         LOG.debug("UnregisterService method call for ClusterSingletonServiceGroup {}", clusterSingletonGroupIdentifier);
         Verify.verify(clusterSingletonGroupIdentifier.equals(service.getIdentifier().getValue()));
-        boolean needReleaseLock = false;
-        boolean needCloseProviderInstance = false;
-        try {
-            clusterLock.acquire();
-            needReleaseLock = true;
+        enqueueEvent(() -> {
             if (serviceGroup.size() > 1) {
                 if (hasOwnership) {
                     service.closeServiceInstance();
@@ -201,27 +278,25 @@ final class ClusterSingletonServiceGroupImpl<P extends Path<P>, E extends Generi
                 serviceGroup.remove(service);
                 LOG.debug("Service {} was removed from group.", service.getIdentifier().getValue());
             } else {
-                needCloseProviderInstance = true;
+                closeResources();
             }
-        } catch (final RuntimeException | InterruptedException e) {
-            LOG.debug("Unexpected error by registration service Provider {}", clusterSingletonGroupIdentifier, e);
-            needCloseProviderInstance = true;
-            throw new RuntimeException(e);
-        } finally {
-            closeResources(needReleaseLock, needCloseProviderInstance);
-        }
+            return null;
+        });
     }
 
-    @SuppressWarnings("checkstyle:IllegalCatch")
     @Override
     public void ownershipChanged(final C ownershipChange) {
         LOG.debug("Ownership change {} for ClusterSingletonServiceGroup {}", ownershipChange,
                 clusterSingletonGroupIdentifier);
+        enqueueEvent(() -> processOwnershipChange(ownershipChange));
+    }
+
+    @SuppressWarnings("checkstyle:IllegalCatch")
+    private ListenableFuture<?> processOwnershipChange(final C ownershipChange) {
         try {
             if (ownershipChange.inJeopardy()) {
                 LOG.warn("Cluster Node lost connection to another cluster nodes {}", ownershipChange);
-                lostOwnership();
-                return;
+                return lostOwnership();
             }
             if (serviceEntity.equals(ownershipChange.getEntity())) {
                 if (EntityOwnershipChangeState.LOCAL_OWNERSHIP_GRANTED.equals(ownershipChange.getState())) {
@@ -235,7 +310,7 @@ final class ClusterSingletonServiceGroupImpl<P extends Path<P>, E extends Generi
                     /*
                      * MASTER to SLAVE : !ownershipChange.getState().isOwner() && ownershipChange.getState().wasOwner()
                      */
-                    lostOwnership();
+                    return lostOwnership();
                 } else {
                     /* Not needed notifications */
                     LOG.debug("Not processed entity OwnershipChange {} in service Provider {}", ownershipChange,
@@ -259,6 +334,7 @@ final class ClusterSingletonServiceGroupImpl<P extends Path<P>, E extends Generi
             LOG.error("Unexpected Exception for service Provider {}", clusterSingletonGroupIdentifier, e);
             // TODO : think about close ... is it necessary?
         }
+        return null;
     }
 
     /*
@@ -268,11 +344,7 @@ final class ClusterSingletonServiceGroupImpl<P extends Path<P>, E extends Generi
     @SuppressWarnings("checkstyle:IllegalCatch")
     private void tryToTakeOwnership() {
         LOG.debug("TryToTakeLeadership method for service Provider {}", clusterSingletonGroupIdentifier);
-        boolean needReleaseLock = false;
-        boolean needCloseProviderInstance = false;
         try {
-            clusterLock.acquire();
-            needReleaseLock = true;
             if (serviceEntityCandidateReg != null) {
                 Verify.verify(asyncCloseEntityCandidateReg == null);
                 asyncCloseEntityCandidateReg = entityOwnershipService.registerCandidate(doubleCandidateEntity);
@@ -282,9 +354,7 @@ final class ClusterSingletonServiceGroupImpl<P extends Path<P>, E extends Generi
         } catch (final Exception e) {
             LOG.error("Unexpected exception state for service Provider {} in TryToTakeLeadership",
                     clusterSingletonGroupIdentifier, e);
-            needCloseProviderInstance = true;
-        } finally {
-            closeResources(needReleaseLock, needCloseProviderInstance);
+            closeResources();
         }
     }
 
@@ -294,26 +364,20 @@ final class ClusterSingletonServiceGroupImpl<P extends Path<P>, E extends Generi
     @SuppressWarnings("checkstyle:IllegalCatch")
     private void takeOwnership() {
         LOG.debug("TakeLeadership method for service Provider {}", clusterSingletonGroupIdentifier);
-        boolean needReleaseLock = false;
-        boolean needCloseProviderInstance = false;
         try {
-            clusterLock.acquire();
-            needReleaseLock = true;
             if (serviceEntityCandidateReg != null) {
                 Verify.verify(asyncCloseEntityCandidateReg != null);
                 for (final ClusterSingletonServiceRegistrationDelegator service : serviceGroup) {
-                    service.instantiateServiceInstance();
+                    instantiateService(service);
                 }
                 hasOwnership = true;
             } else {
                 LOG.debug("Service {} is closed, so don't take leadership", clusterSingletonGroupIdentifier);
             }
-        } catch (final RuntimeException | InterruptedException e) {
+        } catch (final RuntimeException e) {
             LOG.error("Unexpected exception state for service Provider {} in TakeLeadership",
                     clusterSingletonGroupIdentifier, e);
-            needCloseProviderInstance = true;
-        } finally {
-            closeResources(needReleaseLock, needCloseProviderInstance);
+            closeResources();
         }
     }
 
@@ -322,110 +386,145 @@ final class ClusterSingletonServiceGroupImpl<P extends Path<P>, E extends Generi
      * The last async. step has to close DoubleCandidateRegistration reference what should initialize
      * new election for DoubleCandidateEntity.
      */
-    @SuppressWarnings("checkstyle:IllegalCatch")
-    private void lostOwnership() {
+    private ListenableFuture<?> lostOwnership() {
         LOG.debug("LostLeadership method for service Provider {}", clusterSingletonGroupIdentifier);
-        boolean needReleaseLock = false;
-        boolean needCloseProviderInstance = false;
-        try {
-            clusterLock.acquire();
-            needReleaseLock = true;
-            final List<ListenableFuture<Void>> serviceCloseFutureList = new ArrayList<>();
-            if (hasOwnership) {
-                Verify.verify(asyncCloseEntityCandidateReg != null);
-                for (final ClusterSingletonServiceRegistrationDelegator service : serviceGroup) {
-                    try {
-                        serviceCloseFutureList.add(service.closeServiceInstance());
-                    } catch (final RuntimeException e) {
-                        LOG.error("Unexpected exception while closing service: {}, resuming with next..",
-                                service.getIdentifier());
-                    }
-                }
-                hasOwnership = false;
-            }
+        if (hasOwnership) {
+            Verify.verify(asyncCloseEntityCandidateReg != null);
+        }
 
-            final ListenableFuture<List<Void>> destroyFuture = Futures.allAsList(serviceCloseFutureList);
-            if (serviceEntityCandidateReg != null) {
-                // we don't want to remove this instance from map
-                Futures.addCallback(destroyFuture, newAsyncCloseCallback(clusterLock, false));
-            } else {
-                // we have to remove this ClusterSingletonServiceGroup instance from map
-                Futures.addCallback(destroyFuture, newAsyncCloseCallback(clusterLock, true));
+        /*
+         * We wish to stop all possible EOS activities before we don't close
+         * a close candidate registration that acts as a guard. So we don't want
+         * to process any other event before we are not fully finished.
+         * Event processing resumes once a service instance has fully closed
+         * prior to relinquishing service ownership.
+         */
+        final ListenableFuture<List<Void>> destroyFuture = Futures.allAsList(closeServices());
+        // if the group is still running, we don't want to remove this instance from map
+        return finishServiceClose(destroyFuture, serviceEntityCandidateReg == null);
+    }
+
+    /*
+     * Help method to instantiate a service, logging a slow instantiation, as it delays processing of all events
+     * sharing the executor.
+     */
+    private void instantiateService(final ClusterSingletonService service) {
+        final long startTime = System.nanoTime();
+        service.instantiateServiceInstance();
+        LOG.debug("Service {} instantiated in {} us", service.getIdentifier(),
+            (System.nanoTime() - startTime) / 1000);
+    }
+
+    /*
+     * Help method to close all services if this group has ownership
+     */
+    @SuppressWarnings("checkstyle:IllegalCatch")
+    private List<ListenableFuture<Void>> closeServices() {
+        final List<ListenableFuture<Void>> serviceCloseFutureList = new ArrayList<>();
+        if (hasOwnership) {
+            for (final ClusterSingletonServiceRegistrationDelegator service : serviceGroup) {
+                try {
+                    serviceCloseFutureList.add(service.closeServiceInstance());
+                } catch (final RuntimeException e) {
+                    LOG.warn("Unexpected exception while closing service: {}, resuming with next..",
+                            service.getIdentifier(), e);
+                }
             }
-            /*
-             * We wish to stop all possible EOS activities before we don't close
-             * a close candidate registration that acts as a guard. So we don't want
-             * to release Semaphore (clusterLock) before we are not fully finished.
-             * Semaphore lock release has to be realized as FutureCallback after a service
-             * instance has fully closed prior to relinquishing service ownership.
-             */
-            needReleaseLock = false;
-        } catch (final InterruptedException e) {
-            LOG.error("Unexpected exception state for service Provider {} in LostLeadership",
-                    clusterSingletonGroupIdentifier, e);
-            needCloseProviderInstance = true;
-        } finally {
-            closeResources(needReleaseLock, needCloseProviderInstance);
+            hasOwnership = false;
         }
+        return serviceCloseFutureList;
     }
 
     /*
      * Help method for finalization every acquired functionality
      */
-    @GuardedBy("clusterLock")
-    private void closeResources(final boolean needReleaseLock, final boolean needCloseProvider) {
-        if (needCloseProvider) {
-            // The Game Over for this ClusterSingletonServiceGroup instance
-            if (serviceEntityCandidateReg != null) {
-                serviceEntityCandidateReg.close();
-                serviceEntityCandidateReg = null;
-            }
-            // Remove instance immediately because actual state is follower or initialization
-            if (asyncCloseEntityCandidateReg == null) {
-                allServiceGroups.remove(clusterSingletonGroupIdentifier, this);
-            }
+    private void closeResources() {
+        // The Game Over for this ClusterSingletonServiceGroup instance
+        if (serviceEntityCandidateReg != null) {
+            serviceEntityCandidateReg.close();
+            serviceEntityCandidateReg = null;
         }
-
-        if (needReleaseLock) {
-            clusterLock.release();
+        // Remove instance immediately because actual state is follower or initialization
+        if (asyncCloseEntityCandidateReg == null) {
+            allServiceGroups.remove(clusterSingletonGroupIdentifier, this);
         }
     }
 
     /*
-     * Help method creates FutureCallback for suspend Future
+     * Help method closing the guard candidate registration once services have closed. Returns a future which completes
+     * once that has happened.
      */
-    private FutureCallback<List<Void>> newAsyncCloseCallback(@Nullable final Semaphore semaphore,
+    private ListenableFuture<Void> finishServiceClose(final ListenableFuture<List<Void>> destroyFuture,
             final boolean isInCloseProcess) {
-        final Consumer<Throwable> closeEntityCandidateRegistration = (@Nullable final Throwable throwable) -> {
-            if (throwable != null) {
-                LOG.warn("Unexpected error closing service instance {}", clusterSingletonGroupIdentifier, throwable);
-            } else {
+        final SettableFuture<Void> ret = SettableFuture.create();
+        Futures.addCallback(destroyFuture, new FutureCallback<List<Void>>() {
+            @Override
+            public void onSuccess(final List<Void> result) {
                 LOG.debug("Destroy service Instance {} is success", clusterSingletonGroupIdentifier);
+                closeAsyncCloseEntityCandidate(isInCloseProcess);
+                ret.set(null);
             }
-            if (asyncCloseEntityCandidateReg != null) {
-                asyncCloseEntityCandidateReg.close();
-                asyncCloseEntityCandidateReg = null;
-            }
-            if (isInCloseProcess) {
-                allServiceGroups.remove(clusterSingletonGroupIdentifier, this);
-            }
-            if (semaphore != null) {
-                semaphore.release();
+
+            @Override
+            public void onFailure(final Throwable throwable) {
+                LOG.warn("Unexpected error closing service instance {}", clusterSingletonGroupIdentifier, throwable);
+                closeAsyncCloseEntityCandidate(isInCloseProcess);
+                ret.set(null);
             }
-        };
+        });
+        return ret;
+    }
+
+    private void closeAsyncCloseEntityCandidate(final boolean isInCloseProcess) {
+        if (asyncCloseEntityCandidateReg != null) {
+            asyncCloseEntityCandidateReg.close();
+            asyncCloseEntityCandidateReg = null;
+        }
+        if (isInCloseProcess) {
+            allServiceGroups.remove(clusterSingletonGroupIdentifier, this);
+        }
+    }
 
-        return new FutureCallback<List<Void>>() {
+    private void enqueueEvent(final GroupEvent event) {
+        pendingEvents.add(event);
+        scheduleEvents();
+    }
 
-            @Override
-            public void onSuccess(final List<Void> result) {
-                closeEntityCandidateRegistration.accept(null);
+    private void scheduleEvents() {
+        if (processingEvents.compareAndSet(false, true)) {
+            executor.execute(this::processEvents);
+        }
+    }
+
+    @SuppressWarnings("checkstyle:IllegalCatch")
+    private void processEvents() {
+        GroupEvent event;
+        while ((event = pendingEvents.poll()) != null) {
+            final ListenableFuture<?> future;
+            try {
+                future = event.process();
+            } catch (final RuntimeException e) {
+                LOG.error("Unexpected exception for service Provider {}, resuming with next event..",
+                        clusterSingletonGroupIdentifier, e);
+                continue;
             }
 
-            @Override
-            public void onFailure(final Throwable throwable) {
-                closeEntityCandidateRegistration.accept(throwable);
+            if (future != null && !future.isDone()) {
+                // Suspend processing until the event completes, the listener will resume it
+                LOG.debug("Service Provider {} suspends event processing", clusterSingletonGroupIdentifier);
+                future.addListener(this::processEvents, executor);
+                return;
             }
-        };
+        }
+
+        finishEvents();
     }
 
+    private void finishEvents() {
+        processingEvents.set(false);
+        // Re-check the queue, as an event may have been enqueued after we have drained it
+        if (!pendingEvents.isEmpty()) {
+            scheduleEvents();
+        }
+    }
 }
@@ -8,6 +8,7 @@
 
 package org.opendaylight.mdsal.singleton.dom.impl;
 
+import java.util.concurrent.Executor;
 import org.opendaylight.mdsal.eos.common.api.GenericEntityOwnershipService;
 import org.opendaylight.mdsal.eos.dom.api.DOMEntity;
 import org.opendaylight.mdsal.eos.dom.api.DOMEntityOwnershipChange;
@@ -37,6 +38,17 @@ public final class DOMClusterSingletonServiceProviderImpl extends
         super(entityOwnershipService);
     }
 
+    /**
+     * Initialization all needed class internal property for {@link DOMClusterSingletonServiceProviderImpl}.
+     *
+     * @param entityOwnershipService - we need only {@link GenericEntityOwnershipService}
+     * @param executor - executor on which service groups process ownership changes
+     */
+    public DOMClusterSingletonServiceProviderImpl(final DOMEntityOwnershipService entityOwnershipService,
+            final Executor executor) {
+        super(entityOwnershipService, executor);
+    }
+
     @Override
     protected DOMEntity createEntity(final String type, final String ident) {
         return new DOMEntity(type, ident);
@@ -11,10 +11,14 @@ package org.opendaylight.mdsal.singleton.dom.impl;
 import static org.mockito.Mockito.atLeastOnce;
 import static org.mockito.Mockito.doNothing;
 import static org.mockito.Mockito.doReturn;
+import static org.mockito.Mockito.doThrow;
 import static org.mockito.Mockito.never;
+import static org.mockito.Mockito.times;
 import static org.mockito.Mockito.verify;
 
 import com.google.common.util.concurrent.Futures;
+import com.google.common.util.concurrent.ListenableFuture;
+import com.google.common.util.concurrent.SettableFuture;
 import java.util.concurrent.ConcurrentHashMap;
 import java.util.concurrent.ConcurrentMap;
 import org.junit.Assert;
@@ -559,6 +563,112 @@ public class ClusterSingletonServiceGroupImplTest {
         Assert.assertNotNull(serviceGroup);
     }
 
+    /**
+     * Test checks ownership changes received while services are being closed asynchronously are queued
+     *     without blocking the caller and are processed once the close completes.
+     *
+     * @throws Exception - unexpected exception
+     */
+    @Test
+    public void ownershipChangeDuringAsyncCloseTest() throws Exception {
+        final SettableFuture<Void> closeFuture = SettableFuture.create();
+        doReturn(closeFuture).when(mockClusterSingletonService).closeServiceInstance();
+        singletonServiceGroup.initializationClusterSingletonGroup();
+        map.putIfAbsent(SERVICE_IDENTIFIER, singletonServiceGroup);
+        final ClusterSingletonServiceRegistration reg = singletonServiceGroup
+                .registerService(mockClusterSingletonService);
+        Assert.assertNotNull(reg);
+        singletonServiceGroup.ownershipChanged(getEntityToMaster());
+        singletonServiceGroup.ownershipChanged(getDoubleEntityToMaster());
+        verify(mockClusterSingletonService).instantiateServiceInstance();
+        singletonServiceGroup.ownershipChanged(getEntityToSlave());
+        verify(mockClusterSingletonService).closeServiceInstance();
+
+        // Guard candidate is held until close completes, subsequent changes are queued
+        singletonServiceGroup.ownershipChanged(getEntityToMaster());
+        singletonServiceGroup.ownershipChanged(getDoubleEntityToMaster());
+        verify(mockCloseEntityCandReg, never()).close();
+        verify(mockEosService).registerCandidate(closeEntity);
+        verify(mockClusterSingletonService).instantiateServiceInstance();
+
+        closeFuture.set(null);
+        verify(mockCloseEntityCandReg).close();
+        verify(mockEosService, times(2)).registerCandidate(closeEntity);
+        verify(mockClusterSingletonService, times(2)).instantiateServiceInstance();
+    }
+
+    /**
+     * Test checks a failure to instantiate a service is reported to the registering caller and closes the group.
+     *
+     * @throws Exception - unexpected exception
+     */
+    @Test
+    public void serviceInstantiationFailureTest() throws Exception {
+        final IllegalStateException cause = new IllegalStateException("Test failure");
+        doThrow(cause).when(mockClusterSingletonServiceSecond).instantiateServiceInstance();
+        singletonServiceGroup.initializationClusterSingletonGroup();
+        map.putIfAbsent(SERVICE_IDENTIFIER, singletonServiceGroup);
+        final ClusterSingletonServiceRegistration reg = singletonServiceGroup
+                .registerService(mockClusterSingletonService);
+        Assert.assertNotNull(reg);
+        singletonServiceGroup.ownershipChanged(getEntityToMaster());
+        singletonServiceGroup.ownershipChanged(getDoubleEntityToMaster());
+        verify(mockClusterSingletonService).instantiateServiceInstance();
+
+        try {
+            singletonServiceGroup.registerService(mockClusterSingletonServiceSecond);
+            Assert.fail("Instantiation failure should have been reported");
+        } catch (final RuntimeException e) {
+            Assert.assertSame(cause, e.getCause());
+        }
+        verify(mockEntityCandReg).close();
+    }
+
+    /**
+     * Test checks no registration is handed out for a service registered with a closed group.
+     *
+     * @throws Exception - unexpected exception
+     */
+    @Test(expected = RuntimeException.class)
+    public void registerServiceToClosedGroupTest() throws Exception {
+        singletonServiceGroup.initializationClusterSingletonGroup();
+        map.putIfAbsent(SERVICE_IDENTIFIER, singletonServiceGroup);
+        singletonServiceGroup.closeClusterSingletonGroup().get();
+        singletonServiceGroup.registerService(mockClusterSingletonService);
+    }
+
+    /**
+     * Test checks the group is closed forcibly if it does not process the close in time, because it is waiting
+     *     for services to close asynchronously.
+     *
+     * @throws Exception - unexpected exception
+     */
+    @Test
+    public void closeDuringAsyncCloseTest() throws Exception {
+        final SettableFuture<Void> closeFuture = SettableFuture.create();
+        doReturn(closeFuture).when(mockClusterSingletonService).closeServiceInstance();
+        singletonServiceGroup.initializationClusterSingletonGroup();
+        map.putIfAbsent(SERVICE_IDENTIFIER, singletonServiceGroup);
+        final ClusterSingletonServiceRegistration reg = singletonServiceGroup
+                .registerService(mockClusterSingletonService);
+        Assert.assertNotNull(reg);
+        singletonServiceGroup.ownershipChanged(getEntityToMaster());
+        singletonServiceGroup.ownershipChanged(getDoubleEntityToMaster());
+        singletonServiceGroup.ownershipChanged(getEntityToSlave());
+        verify(mockClusterSingletonService).closeServiceInstance();
+
+        final ListenableFuture<?> groupCloseFuture = singletonServiceGroup.closeClusterSingletonGroup();
+        Assert.assertTrue(groupCloseFuture.isDone());
+        verify(mockEntityCandReg).close();
+        verify(mockCloseEntityCandReg).close();
+
+        // The queued close event must not close anything again
+        closeFuture.set(null);
+        verify(mockEntityCandReg).close();
+        verify(mockCloseEntityCandReg).close();
+        Assert.assertNull(map.get(SERVICE_IDENTIFIER));
+    }
+
     private GenericEntityOwnershipChange<TestInstanceIdentifier, TestEntity> getEntityToMaster() {
         return new GenericEntityOwnershipChange<>(mainEntity, EntityOwnershipChangeState.from(false, true, true));
     }
@@ -18,9 +18,11 @@ import static org.mockito.Mockito.never;
 import static org.mockito.Mockito.verify;
 
 import com.google.common.util.concurrent.ListenableFuture;
+import com.google.common.util.concurrent.MoreExecutors;
 import com.google.common.util.concurrent.SettableFuture;
 import java.util.Timer;
 import java.util.TimerTask;
+import java.util.concurrent.TimeUnit;
 import org.junit.AfterClass;
 import org.junit.Assert;
 import org.junit.Before;
@@ -281,6 +283,11 @@ public final class DOMClusterSingletonServiceProviderAsyncImplTest {
         Assert.assertEquals(TestClusterSingletonServiceState.DESTROYED, clusterSingletonService.getServiceState());
         clusterSingletonServiceProvider.ownershipChanged(getInitDoubleEntityToSlave());
         clusterSingletonServiceProvider.ownershipChanged(getDoubleEntityToMaster());
+        // Ownership changes are queued until the asynchronous close completes. Listeners run in registration order,
+        // hence once ours has run the group has processed them.
+        final SettableFuture<Void> processed = SettableFuture.create();
+        clusterSingletonService.future.addListener(() -> processed.set(null), MoreExecutors.directExecutor());
+        processed.get(ASYNC_TIME_DELAY_SEC * 10, TimeUnit.MILLISECONDS);
         Assert.assertEquals(TestClusterSingletonServiceState.STARTED, clusterSingletonService.getServiceState());
         verify(mockEosDoubleEntityListReg, never()).close();
         verify(mockEosEntityListReg, never()).close();
@@ -19,6 +19,10 @@ import static org.mockito.Mockito.verify;
 
 import com.google.common.util.concurrent.Futures;
 import com.google.common.util.concurrent.ListenableFuture;
+import java.util.concurrent.CountDownLatch;
+import java.util.concurrent.ExecutorService;
+import java.util.concurrent.Executors;
+import java.util.concurrent.TimeUnit;
 import org.junit.Assert;
 import org.junit.Before;
 import org.junit.Test;
@@ -712,6 +716,48 @@ public class DOMClusterSingletonServiceProviderImplTest {
         Assert.assertEquals(TestClusterSingletonServiceState.STARTED, clusterSingletonService2.getServiceState());
     }
 
+    /**
+     * Test checks that groups sharing an executor do not wait for each other, i.e. a service which takes long to
+     * instantiate does not hold up instantiation of a service in another group.
+     *
+     * @throws Exception if the condition does not meet
+     */
+    @Test
+    public void sharedExecutorSlowInstantiationTest() throws Exception {
+        final ExecutorService executor = Executors.newFixedThreadPool(2);
+        try {
+            doReturn(mockEntityCandReg).when(mockEos).registerCandidate(any(DOMEntity.class));
+            final DOMClusterSingletonServiceProviderImpl provider =
+                    new DOMClusterSingletonServiceProviderImpl(mockEos, executor);
+            provider.initializeProvider();
+
+            final CountDownLatch slowStarted = new CountDownLatch(1);
+            final CountDownLatch slowRelease = new CountDownLatch(1);
+            final CountDownLatch fastStarted = new CountDownLatch(1);
+            provider.registerClusterSingletonService(new LatchedClusterSingletonService("slow", slowStarted,
+                slowRelease));
+            provider.registerClusterSingletonService(new LatchedClusterSingletonService("fast", fastStarted,
+                new CountDownLatch(0)));
+
+            takeLeadership(provider, "slow");
+            Assert.assertTrue(slowStarted.await(5, TimeUnit.SECONDS));
+
+            takeLeadership(provider, "fast");
+            Assert.assertTrue(fastStarted.await(5, TimeUnit.SECONDS));
+            Assert.assertEquals(1, slowRelease.getCount());
+            slowRelease.countDown();
+        } finally {
+            executor.shutdownNow();
+        }
+    }
+
+    private static void takeLeadership(final DOMClusterSingletonServiceProviderImpl provider, final String name) {
+        provider.ownershipChanged(new DOMEntityOwnershipChange(new DOMEntity(SERVICE_ENTITY_TYPE, name),
+            EntityOwnershipChangeState.from(false, true, true)));
+        provider.ownershipChanged(new DOMEntityOwnershipChange(new DOMEntity(CLOSE_SERVICE_ENTITY_TYPE, name),
+            EntityOwnershipChangeState.from(false, true, true)));
+    }
+
     private DOMEntityOwnershipChange getEntityToMaster() {
         return new DOMEntityOwnershipChange(entity, EntityOwnershipChangeState.from(false, true, true));
     }
@@ -797,4 +843,41 @@ public class DOMClusterSingletonServiceProviderImplTest {
             return serviceIndent;
         }
     }
+
+    /**
+     * Test implementation of {@link ClusterSingletonService}, which signals it has been instantiated and then waits
+     * to be released.
+     */
+    private static final class LatchedClusterSingletonService implements ClusterSingletonService {
+        private final ServiceGroupIdentifier identifier;
+        private final CountDownLatch started;
+        private final CountDownLatch release;
+
+        LatchedClusterSingletonService(final String name, final CountDownLatch started,
+                final CountDownLatch release) {
+            this.identifier = ServiceGroupIdentifier.create(name);
+            this.started = started;
+            this.release = release;
+        }
+
+        @Override
+        public void instantiateServiceInstance() {
+            started.countDown();
+            try {
+                release.await();
+            } catch (InterruptedException e) {
+                Thread.currentThread().interrupt();
+            }
+        }
+
+        @Override
+        public ListenableFuture<Void> closeServiceInstance() {
+            return Futures.immediateFuture(null);
+        }
+
+        @Override
+        public ServiceGroupIdentifier getIdentifier() {
+            return identifier;
+        }
+    }
 }